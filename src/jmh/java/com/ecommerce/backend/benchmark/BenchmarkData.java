@@ -0,0 +1,78 @@
+package com.ecommerce.backend.benchmark;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import com.ecommerce.backend.model.Order;
+import com.ecommerce.backend.model.OrderItem;
+import com.ecommerce.backend.model.Product;
+import com.ecommerce.backend.model.User;
+import com.ecommerce.backend.model.enums.OrderStatus;
+import com.ecommerce.backend.model.enums.UserRole;
+
+/**
+ * Fixtures shaped like production rows: catalog-length names and descriptions,
+ * two-decimal prices and a second page out of a few thousand products.
+ */
+final class BenchmarkData {
+
+    private static final long CATALOG_SIZE = 5_000;
+    private static final String DESCRIPTION = "Solid oak frame with a water-resistant finish, "
+            + "assembled in under ten minutes. Ships flat-packed with all fittings included.";
+
+    private BenchmarkData() {
+    }
+
+    static Page<Product> productPage(int size) {
+        List<Product> products = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            products.add(product(size + i));
+        }
+        return new PageImpl<>(products, PageRequest.of(1, size), CATALOG_SIZE);
+    }
+
+    static Order order(int items) {
+        Order order = Order.builder()
+                .status(OrderStatus.PAID)
+                .user(User.builder()
+                        .email("customer.name@example.com")
+                        .password("secret")
+                        .role(UserRole.CUSTOMER)
+                        .build())
+                .orderItems(new ArrayList<>(items))
+                .build();
+        order.setId(48_213L);
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < items; i++) {
+            Product product = product(i);
+            OrderItem item = OrderItem.builder()
+                    .id(90_000L + i)
+                    .productId(product.getId())
+                    .productName(product.getName())
+                    .unitPrice(product.getPrice())
+                    .quantity(1 + i % 4)
+                    .order(order)
+                    .build();
+            order.getOrderItems().add(item);
+            total = total.add(item.getUnitPrice().multiply(BigDecimal.valueOf(item.getQuantity())));
+        }
+        order.setTotalAmount(total);
+        return order;
+    }
+
+    private static Product product(int i) {
+        Product product = Product.builder()
+                .name("Oak Side Table Model " + (1_000 + i))
+                .description(DESCRIPTION)
+                .price(BigDecimal.valueOf(1_999 + i * 37L, 2))
+                .stockQuantity(i % 50)
+                .build();
+        product.setId(1_000L + i);
+        return product;
+    }
+}
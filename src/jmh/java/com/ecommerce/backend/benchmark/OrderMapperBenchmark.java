@@ -0,0 +1,47 @@
+package com.ecommerce.backend.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ecommerce.backend.dto.ResponseDto.OrderResponseDto;
+import com.ecommerce.backend.mapper.OrderMapper;
+import com.ecommerce.backend.model.Order;
+
+/**
+ * Mapping a single order with its items, for a typical basket and a large one.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderMapperBenchmark {
+
+    @Param({ "3", "25" })
+    private int items;
+
+    private final OrderMapper orderMapper = new OrderMapper();
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        order = BenchmarkData.order(items);
+    }
+
+    @Benchmark
+    public OrderResponseDto toResponseDto() {
+        return orderMapper.toResponseDto(order);
+    }
+}
@@ -0,0 +1,49 @@
+package com.ecommerce.backend.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+
+import com.ecommerce.backend.dto.ResponseDto.ProductResponseListDto;
+import com.ecommerce.backend.mapper.ProductMapper;
+import com.ecommerce.backend.model.Product;
+
+/**
+ * Mapping one catalog page to its response DTO, at the default page size
+ * and at a large export-style page.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductMapperBenchmark {
+
+    @Param({ "20", "100" })
+    private int pageSize;
+
+    private final ProductMapper productMapper = new ProductMapper();
+    private Page<Product> page;
+
+    @Setup
+    public void setUp() {
+        page = BenchmarkData.productPage(pageSize);
+    }
+
+    @Benchmark
+    public ProductResponseListDto toResponseListDto() {
+        return productMapper.toResponseListDto(page);
+    }
+}
@@ -0,0 +1,65 @@
+package com.ecommerce.backend.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import com.ecommerce.backend.service.search.ProductSearchIndex;
+import com.ecommerce.backend.shared.metrics.ServiceMetricsAspect;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+
+/**
+ * Per-call cost of the service timing aspect: a trivial service method called directly and
+ * through the proxy, recording into a Prometheus registry with histograms on, as in production.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ServiceMetricsAspectBenchmark {
+
+    private ProductSearchIndex direct;
+    private ProductSearchIndex instrumented;
+
+    @Setup
+    public void setUp() {
+        PrometheusMeterRegistry meterRegistry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        meterRegistry.config().meterFilter(new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                return DistributionStatisticConfig.builder().percentilesHistogram(true).build().merge(config);
+            }
+        });
+        direct = new ProductSearchIndex();
+        AspectJProxyFactory factory = new AspectJProxyFactory(direct);
+        factory.addAspect(new ServiceMetricsAspect(meterRegistry));
+        instrumented = factory.getProxy();
+    }
+
+    @Benchmark
+    public boolean direct() {
+        return direct.isReady();
+    }
+
+    @Benchmark
+    public boolean instrumented() {
+        return instrumented.isReady();
+    }
+}
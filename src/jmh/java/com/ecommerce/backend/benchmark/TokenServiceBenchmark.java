@@ -0,0 +1,81 @@
+package com.ecommerce.backend.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.ecommerce.backend.model.User;
+import com.ecommerce.backend.model.enums.UserRole;
+import com.ecommerce.backend.security.TokenService;
+
+/**
+ * Cost of validating the same JWT per request:
+ * legacy (Algorithm + verifier built on every call), prebuilt verifier only,
+ * and TokenService as shipped (prebuilt verifier + verified-token cache),
+ * plus the cost of issuing a token at login.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenServiceBenchmark {
+
+    private static final String SECRET = "benchmark-secret";
+    private static final String ISSUER = "ecomerce-api";
+
+    private TokenService tokenService;
+    private JWTVerifier prebuiltVerifier;
+    private String token;
+    private User user;
+
+    @Setup
+    public void setUp() {
+        tokenService = new TokenService(SECRET, 10_000);
+        prebuiltVerifier = JWT.require(Algorithm.HMAC256(SECRET)).withIssuer(ISSUER).build();
+        user = User.builder()
+                .email("bench@example.com")
+                .password("secret")
+                .role(UserRole.CUSTOMER)
+                .build();
+        token = tokenService.generateToken(user);
+    }
+
+    @Benchmark
+    public String legacyPerCallVerifier() {
+        Algorithm algorithm = Algorithm.HMAC256(SECRET);
+        return JWT.require(algorithm)
+                .withIssuer(ISSUER)
+                .build()
+                .verify(token)
+                .getSubject();
+    }
+
+    @Benchmark
+    public String prebuiltVerifier() {
+        return prebuiltVerifier.verify(token).getSubject();
+    }
+
+    @Benchmark
+    public String cachedValidateToken() {
+        return tokenService.validateToken(token);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokenService.generateToken(user);
+    }
+}
@@ -17,6 +17,7 @@ import com.ecommerce.backend.dto.ResponseDto.CartItemResponseDto;
 import com.ecommerce.backend.dto.requestDto.CartItemRequestDto;
 import com.ecommerce.backend.service.CartItemService;
 import com.ecommerce.backend.shared.apiResponse.ApiResponse;
+import com.ecommerce.backend.shared.metrics.StatementBudget;
 
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
@@ -29,6 +30,7 @@ public class CartItemController {
     private CartItemService service;
 
     @PreAuthorize("hasRole('ROLE_ADMIN') or hasRole('ROLE_USER') or hasRole('ROLE_CUSTOMER' )")
+    @StatementBudget(8)
     @PostMapping()
     public ResponseEntity<ApiResponse<CartItemResponseDto>> addItemtoCart(
             @RequestBody @Valid CartItemRequestDto request) {
@@ -39,6 +41,7 @@ public class CartItemController {
     }
 
     @PreAuthorize("hasRole('ROLE_ADMIN') or hasRole('ROLE_USER') or hasRole('ROLE_CUSTOMER' )")
+    @StatementBudget(2)
     @GetMapping()
     public ResponseEntity<ApiResponse<List<CartItemResponseDto>>> getAuthCartItems() {
         List<CartItemResponseDto> data = service.getAuthCartItems();
@@ -48,6 +51,7 @@ public class CartItemController {
     }
 
     @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @StatementBudget(3)
     @GetMapping("/getUserCart/{userId}")
     public ResponseEntity<ApiResponse<List<CartItemResponseDto>>> getUserCartItems(
             @PathVariable(name = "userId") Long userId) {
@@ -78,6 +82,7 @@ public class CartItemController {
     }
 
     @PreAuthorize("hasRole('ROLE_ADMIN') or hasRole('ROLE_USER') or hasRole('ROLE_CUSTOMER' )")
+    @StatementBudget(2)
     @DeleteMapping
     public ResponseEntity<ApiResponse<CartItemResponseDto>> cleanCartItem() {
         service.cleanAuthUserCartItems();
@@ -18,6 +18,7 @@ import com.ecommerce.backend.dto.ResponseDto.CategoryResponseDto;
 import com.ecommerce.backend.dto.requestDto.CategoryRequestDto;
 import com.ecommerce.backend.service.CategoryService;
 import com.ecommerce.backend.shared.apiResponse.ApiResponse;
+import com.ecommerce.backend.shared.metrics.StatementBudget;
 
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
@@ -29,6 +30,7 @@ public class CategoryController {
 
     private final CategoryService categoryService;
 
+    @StatementBudget(2)
     @GetMapping()
     public ResponseEntity<ApiResponse<List<CategoryResponseDto>>> index() {
         List<CategoryResponseDto> data = categoryService.getAllCategories();
@@ -45,6 +47,7 @@ public class CategoryController {
                 ApiResponse.success("Category created", categoryService.createCategory(request), HttpStatus.CREATED));
     }
 
+    @StatementBudget(2)
     @GetMapping("{categoryId}")
     public ResponseEntity<ApiResponse<CategoryResponseDto>> getById(@PathVariable(name = "categoryId") Long id) {
         return ResponseEntity.status(HttpStatus.OK).body(
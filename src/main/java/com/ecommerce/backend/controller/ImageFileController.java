@@ -1,19 +1,27 @@
 package com.ecommerce.backend.controller;
 
-import java.io.IOException;
-import java.nio.file.Files;
+import java.io.UncheckedIOException;
 import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.time.Duration;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.ecommerce.backend.model.enums.ImageVariant;
+import com.ecommerce.backend.service.image.CachedImage;
+import com.ecommerce.backend.service.image.ContentAddressedImageStore;
+import com.ecommerce.backend.service.image.HotImageCache;
+import com.ecommerce.backend.shared.exception.BusinessException;
+
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -21,43 +29,75 @@ import lombok.extern.slf4j.Slf4j;
 @RequestMapping("/images")
 public class ImageFileController {
 
-    @Value("${file.upload-dir:uploads/images}")
-    private String uploadDir;
+    private final ContentAddressedImageStore imageStore;
+    private final HotImageCache hotImageCache;
+
+    // Os nomes são o hash do conteúdo (ou levam um UUID, nos uploads antigos) e o arquivo nunca é
+    // reescrito, então o cliente pode guardar por muito tempo
+    @Value("${file.images.cache-max-age:365d}")
+    private Duration cacheMaxAge;
+
+    public ImageFileController(ContentAddressedImageStore imageStore, HotImageCache hotImageCache) {
+        this.imageStore = imageStore;
+        this.hotImageCache = hotImageCache;
+    }
 
     /**
      * GET /images/{filename}
-     * Retorna a imagem armazenada no disco
+     * Retorna a imagem armazenada no disco.
+     *
+     * O corpo é um Resource: o Spring copia o arquivo para a resposta em blocos, sem
+     * carregar a imagem inteira na heap, e atende cabeçalhos Range com 206 (ResourceRegion).
+     * ETag e Last-Modified vêm dos atributos do arquivo; If-None-Match / If-Modified-Since
+     * que batem devolvem 304 sem corpo.
+     *
+     * Cabeçalhos e bytes das imagens mais pedidas ficam em memória no HotImageCache,
+     * então um acerto não toca no disco.
+     *
+     * GET /images/{filename}?size=thumbnail|card|full devolve a variante gerada depois do
+     * upload; enquanto ela não existe, devolve o original sem cache de longa duração.
      */
     @GetMapping("/{filename}")
-    public ResponseEntity<byte[]> getImage(@PathVariable String filename) {
-        try {
-            // Validar que o arquivo está dentro do diretório permitido (prevenir path traversal)
-            String safePath = filename.replaceAll("\\.\\.[\\\\/]", "");
-            Path imagePath = Paths.get(uploadDir, safePath);
-            
-            // Verificar se o arquivo existe
-            if (!Files.exists(imagePath)) {
-                log.warn("Imagem not found: {}", filename);
-                return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
-            }
-
-            // Ler o arquivo
-            byte[] imageData = Files.readAllBytes(imagePath);
+    public ResponseEntity<Resource> getImage(@PathVariable String filename,
+            @RequestParam(name = "size", required = false) String size) {
+        // Validar que o arquivo está dentro do diretório permitido (prevenir path traversal)
+        // Nomes com hash de conteúdo ficam num subdiretório do hash; os antigos, na raiz
+        Path root = imageStore.getRoot().toAbsolutePath().normalize();
+        Path imagePath = imageStore.locate(filename).toAbsolutePath().normalize();
+        if (!imagePath.startsWith(root) || imagePath.equals(root)) {
+            log.warn("Imagem not found: {}", filename);
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
 
-            // Determinar tipo de conteúdo
-            String contentType = Files.probeContentType(imagePath);
-            if (contentType == null) {
-                contentType = "application/octet-stream";
+        CacheControl cacheControl = CacheControl.maxAge(cacheMaxAge).cachePublic().immutable();
+        CachedImage image;
+        try {
+            if (size != null) {
+                ImageVariant variant = ImageVariant.fromName(size).orElseThrow(
+                        () -> new BusinessException("Unknown image size " + size, HttpStatus.BAD_REQUEST));
+                image = hotImageCache.get(imagePath.resolveSibling(variant.fileName(imagePath.getFileName().toString())));
+                if (image == null) {
+                    cacheControl = CacheControl.noCache();
+                    image = hotImageCache.get(imagePath);
+                }
+            } else {
+                image = hotImageCache.get(imagePath);
             }
-
-            return ResponseEntity.ok()
-                    .header(HttpHeaders.CONTENT_TYPE, contentType)
-                    .header(HttpHeaders.CONTENT_LENGTH, String.valueOf(imageData.length))
-                    .body(imageData);
-
-        } catch (IOException e) {
+        } catch (UncheckedIOException e) {
             log.error("Erro ao ler imagem: {}", filename, e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
+        if (image == null) {
+            log.warn("Imagem not found: {}", filename);
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+
+        return ResponseEntity.ok()
+                .contentType(image.contentType())
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .eTag(image.eTag())
+                .lastModified(image.lastModified())
+                .cacheControl(cacheControl)
+                .body(image.body());
     }
 }
@@ -1,7 +1,11 @@
 package com.ecommerce.backend.controller;
 
-import java.util.List;
+import java.time.LocalDateTime;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -10,12 +14,17 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.ecommerce.backend.dto.ResponseDto.OrderResponseDto;
+import com.ecommerce.backend.dto.ResponseDto.OrderResponseListDto;
 import com.ecommerce.backend.dto.requestDto.OrderStatusRequestDto;
 import com.ecommerce.backend.service.OrderService;
+import com.ecommerce.backend.service.export.ExportService;
 import com.ecommerce.backend.shared.apiResponse.ApiResponse;
+import com.ecommerce.backend.shared.metrics.StatementBudget;
 
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
@@ -26,19 +35,31 @@ import lombok.AllArgsConstructor;
 public class OrderController {
 
     private OrderService orderService;
+    private ExportService exportService;
 
+    @StatementBudget(4)
     @GetMapping()
-    public ResponseEntity<ApiResponse<List<OrderResponseDto>>> UserOrderList() {
+    public ResponseEntity<ApiResponse<OrderResponseListDto>> UserOrderList(
+            @PageableDefault(sort = "id", direction = Sort.Direction.DESC, size = 10) Pageable pageable) {
         return ResponseEntity.status(HttpStatus.OK)
-                .body(ApiResponse.success("Orders Fetched!", orderService.getAuthUserOrders(), HttpStatus.OK));
+                .body(ApiResponse.success("Orders Fetched!", orderService.getAuthUserOrders(pageable), HttpStatus.OK));
     }
 
+    @StatementBudget(7)
     @PostMapping()
     public ResponseEntity<ApiResponse<OrderResponseDto>> create() {
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ApiResponse.success("Order Created", orderService.createOrderFromCart(), HttpStatus.CREATED));
     }
 
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedSince) {
+        return exportService.exportOrders(format, updatedSince);
+    }
+
     @PreAuthorize("hasRole('ROLE_ADMIN')")
     @PatchMapping("/toogleStatus")
     public ResponseEntity<ApiResponse<OrderResponseDto>> toogleStatus(
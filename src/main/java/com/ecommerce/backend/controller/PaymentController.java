@@ -1,7 +1,13 @@
 package com.ecommerce.backend.controller;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -12,13 +18,21 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.ecommerce.backend.dto.ResponseDto.PaymentResponseDto;
+import com.ecommerce.backend.dto.ResponseDto.PaymentResponseListDto;
+import com.ecommerce.backend.dto.ResponseDto.PaymentSummaryResponseDto;
 import com.ecommerce.backend.dto.requestDto.PaymentRequestDto;
 import com.ecommerce.backend.dto.requestDto.PaymentStatusUpdateRequest;
+import com.ecommerce.backend.model.enums.PaymentMethod;
+import com.ecommerce.backend.model.enums.PaymentStatus;
 import com.ecommerce.backend.service.PaymentService;
+import com.ecommerce.backend.service.export.ExportService;
 import com.ecommerce.backend.shared.apiResponse.ApiResponse;
+import com.ecommerce.backend.shared.metrics.StatementBudget;
 
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
@@ -29,22 +43,49 @@ import lombok.AllArgsConstructor;
 public class PaymentController {
 
     private PaymentService paymentService;
+    private ExportService exportService;
 
     @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @StatementBudget(3)
     @GetMapping
-    public ResponseEntity<ApiResponse<List<PaymentResponseDto>>> index() {
-        List<PaymentResponseDto> data = paymentService.findAllPayments();
-        String message = data.isEmpty() ? "No payments found" : "All payments fetched";
+    public ResponseEntity<ApiResponse<PaymentResponseListDto>> index(
+            @RequestParam(required = false) PaymentStatus status,
+            @RequestParam(required = false) PaymentMethod method,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate paidFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate paidTo,
+            @PageableDefault(sort = { "paidAt", "id" }, direction = Sort.Direction.DESC, size = 20) Pageable pageable) {
+        PaymentResponseListDto data = paymentService.findPayments(status, method, paidFrom, paidTo, pageable);
+        String message = data.payments().isEmpty() ? "No payments found" : "Payments fetched";
         return ResponseEntity.status(HttpStatus.OK).body(
                 ApiResponse.success(message, data, HttpStatus.OK));
     }
 
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @GetMapping("/summary")
+    public ResponseEntity<ApiResponse<List<PaymentSummaryResponseDto>>> summary(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate paidFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate paidTo) {
+        return ResponseEntity.status(HttpStatus.OK).body(
+                ApiResponse.success("Payment summary", paymentService.summarizePayments(paidFrom, paidTo),
+                        HttpStatus.OK));
+    }
+
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedSince) {
+        return exportService.exportPayments(format, updatedSince);
+    }
+
+    @StatementBudget(5)
     @PostMapping
     public ResponseEntity<ApiResponse<PaymentResponseDto>> create(@RequestBody @Valid PaymentRequestDto requestDto) {
         return ResponseEntity.status(HttpStatus.CREATED).body(
                 ApiResponse.success("Payment Created", paymentService.createPayment(requestDto), HttpStatus.CREATED));
     }
 
+    @StatementBudget(2)
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<PaymentResponseDto>> findByid(@PathVariable(name = "id") Long id) {
         return ResponseEntity.status(HttpStatus.OK).body(
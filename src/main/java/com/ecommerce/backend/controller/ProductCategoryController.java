@@ -2,6 +2,8 @@ package com.ecommerce.backend.controller;
 
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -15,9 +17,11 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.ecommerce.backend.dto.ResponseDto.ProductCategoryResponseDto;
+import com.ecommerce.backend.dto.ResponseDto.ProductResponseListDto;
 import com.ecommerce.backend.dto.requestDto.ProductCategoryRequestDto;
 import com.ecommerce.backend.service.ProductCategoryService;
 import com.ecommerce.backend.shared.apiResponse.ApiResponse;
+import com.ecommerce.backend.shared.metrics.StatementBudget;
 
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
@@ -28,6 +32,7 @@ import lombok.AllArgsConstructor;
 public class ProductCategoryController {
     private final ProductCategoryService productCategoryService;
 
+    @StatementBudget(2)
     @GetMapping()
     public ResponseEntity<ApiResponse<List<ProductCategoryResponseDto>>> index() {
         List<ProductCategoryResponseDto> data = productCategoryService.getAll();
@@ -36,6 +41,7 @@ public class ProductCategoryController {
         return ResponseEntity.status(HttpStatus.OK).body(ApiResponse.success(message, data, HttpStatus.OK));
     }
 
+    @StatementBudget(2)
     @GetMapping("/findAllByCategoryId/{categoryId}")
     public ResponseEntity<ApiResponse<List<ProductCategoryResponseDto>>> findAllProductsByCategoryId(
             @PathVariable(name = "categoryId") Long categoryId) {
@@ -45,6 +51,17 @@ public class ProductCategoryController {
         return ResponseEntity.status(HttpStatus.OK).body(ApiResponse.success(message, data, HttpStatus.OK));
     }
 
+    @StatementBudget(3)
+    @GetMapping("/findAllByCategoryTree/{categoryId}")
+    public ResponseEntity<ApiResponse<ProductResponseListDto>> findAllProductsInCategoryTree(
+            @PathVariable(name = "categoryId") Long categoryId,
+            @PageableDefault(sort = "id", size = 10) Pageable pageable) {
+        ProductResponseListDto data = productCategoryService.findAllProductsInCategoryTree(categoryId, pageable);
+        String message = data.productResponseDto().isEmpty() ? "No products founded" : "All products fetched";
+
+        return ResponseEntity.status(HttpStatus.OK).body(ApiResponse.success(message, data, HttpStatus.OK));
+    }
+
     @PreAuthorize("hasRole('ROLE_ADMIN')")
     @PostMapping()
     public ResponseEntity<ApiResponse<ProductCategoryResponseDto>> create(
@@ -62,6 +79,7 @@ public class ProductCategoryController {
                 productCategoryService.update(id, requestDto), HttpStatus.OK));
     }
 
+    @StatementBudget(2)
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<ProductCategoryResponseDto>> getById(@PathVariable(name = "id") Long id) {
         return ResponseEntity.status(HttpStatus.OK).body(
@@ -1,9 +1,15 @@
 package com.ecommerce.backend.controller;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
+
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -12,18 +18,27 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.ecommerce.backend.dto.ResponseDto.ProductImportJobResponseDto;
 import com.ecommerce.backend.dto.ResponseDto.ProductResponseDto;
 import com.ecommerce.backend.dto.ResponseDto.ProductResponseListDto;
 import com.ecommerce.backend.dto.requestDto.ProductRequestDto;
+import com.ecommerce.backend.model.enums.DataFormat;
 import com.ecommerce.backend.service.ProductService;
+import com.ecommerce.backend.service.bulk.ProductImportService;
+import com.ecommerce.backend.service.export.ExportService;
 import com.ecommerce.backend.shared.apiResponse.ApiResponse;
+import com.ecommerce.backend.shared.exception.BusinessException;
+import com.ecommerce.backend.shared.metrics.StatementBudget;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
 
@@ -33,16 +48,22 @@ import lombok.AllArgsConstructor;
 @Tag(name = "Product Controller", description = "Endpoints for managing products in the e-commerce application")
 public class ProductController {
         private final ProductService productService;
+        private final ProductImportService productImportService;
+        private final ExportService exportService;
 
-        @Operation(description = "Get a paginated list of products", summary = "Get all products with pagination and sorting", responses = {
+        @Operation(description = "Get a paginated list of products. Pass cursor (empty for the first page) to page by keyset using the returned nextCursor; totals are then omitted", summary = "Get all products with pagination and sorting", responses = {
                         @io.swagger.v3.oas.annotations.responses.ApiResponse(description = "success", responseCode = "200"),
                         @io.swagger.v3.oas.annotations.responses.ApiResponse(description = "Unauthorized", responseCode = "401")
         })
 
+        @StatementBudget(3)
         @GetMapping()
         public ResponseEntity<ApiResponse<ProductResponseListDto>> index(
-                        @PageableDefault(sort = "name", direction = Sort.Direction.ASC, size = 10) Pageable pageable) {
-                var data = productService.getAllProducts(pageable);
+                        @PageableDefault(sort = "name", direction = Sort.Direction.ASC, size = 10) Pageable pageable,
+                        @RequestParam(required = false) String cursor) {
+                var data = (cursor != null)
+                                ? productService.getProductsAfter(null, null, pageable, cursor)
+                                : productService.getAllProducts(pageable);
                 return ResponseEntity.status(
                                 HttpStatus.OK).body(
                                                 ApiResponse.success("All products fetched successfuly",
@@ -63,7 +84,55 @@ public class ProductController {
 
         }
 
+        @Operation(description = "Import products from a CSV (header name,description,price,stockQuantity) or NDJSON body. The body is streamed to disk and imported in the background; poll the returned job for progress and row errors", summary = "Bulk import products", responses = {
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(description = "accepted", responseCode = "202"),
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(description = "Unsupported format", responseCode = "415")
+        })
+        @PreAuthorize("hasRole('ROLE_ADMIN')")
+        @PostMapping(value = "/bulk", consumes = { "text/csv", MediaType.APPLICATION_NDJSON_VALUE })
+        public ResponseEntity<ApiResponse<ProductImportJobResponseDto>> bulkImport(
+                        @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                        HttpServletRequest request) throws IOException {
+                DataFormat format = DataFormat.fromContentType(contentType).orElseThrow(
+                                () -> new BusinessException("Unsupported import format " + contentType,
+                                                HttpStatus.UNSUPPORTED_MEDIA_TYPE));
+                return ResponseEntity.status(
+                                HttpStatus.ACCEPTED).body(
+                                                ApiResponse.success("Product import started",
+                                                                productImportService.startImport(format,
+                                                                                request.getInputStream()),
+                                                                HttpStatus.ACCEPTED));
+        }
+
+        @PreAuthorize("hasRole('ROLE_ADMIN')")
+        @GetMapping("/bulk/{jobId}")
+        public ResponseEntity<ApiResponse<ProductImportJobResponseDto>> bulkImportStatus(
+                        @PathVariable(name = "jobId") long jobId) {
+                return ResponseEntity.status(HttpStatus.OK).body(
+                                ApiResponse.success("Product import found", productImportService.getJob(jobId),
+                                                HttpStatus.OK));
+        }
+
+        @PreAuthorize("hasRole('ROLE_ADMIN')")
+        @PostMapping("/bulk/{jobId}/resume")
+        public ResponseEntity<ApiResponse<ProductImportJobResponseDto>> resumeBulkImport(
+                        @PathVariable(name = "jobId") long jobId) {
+                return ResponseEntity.status(HttpStatus.ACCEPTED).body(
+                                ApiResponse.success("Product import resumed", productImportService.resumeImport(jobId),
+                                                HttpStatus.ACCEPTED));
+        }
+
+        @Operation(description = "Stream every product (or those updated at or after updatedSince) as NDJSON or CSV", summary = "Export products")
+        @PreAuthorize("hasRole('ROLE_ADMIN')")
+        @GetMapping("/export")
+        public ResponseEntity<StreamingResponseBody> export(
+                        @RequestParam(defaultValue = "ndjson") String format,
+                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedSince) {
+                return exportService.exportProducts(format, updatedSince);
+        }
+
         @PreAuthorize("hasRole('ROLE_ADMIN') or hasRole('ROLE_USER') or hasRole('ROLE_CUSTOMER' )")
+        @StatementBudget(2)
         @GetMapping("/{id}")
         public ResponseEntity<ApiResponse<ProductResponseDto>> findProductById(@PathVariable(name = "id") long id) {
                 return ResponseEntity.status(HttpStatus.OK).body(
@@ -72,12 +141,16 @@ public class ProductController {
         }
 
         @PreAuthorize("hasRole('ROLE_ADMIN') or hasRole('ROLE_USER') or hasRole('ROLE_CUSTOMER' )")
+        @StatementBudget(3)
         @GetMapping("/search")
         public ResponseEntity<ApiResponse<ProductResponseListDto>> search(
                         @RequestParam(required = false) String name,
                         @RequestParam(required = false) Double maxPrice,
-                        @PageableDefault(sort = "name") Pageable pageable) {
-                var result = productService.searchProducts(name, maxPrice, pageable);
+                        @PageableDefault Pageable pageable,
+                        @RequestParam(required = false) String cursor) {
+                var result = (cursor != null)
+                                ? productService.getProductsAfter(name, maxPrice, pageable, cursor)
+                                : productService.searchProducts(name, maxPrice, pageable);
                 return ResponseEntity.status(HttpStatus.OK).body(
                                 ApiResponse.success("Search completed",
                                                 result,
@@ -0,0 +1,12 @@
+package com.ecommerce.backend.dto.ResponseDto;
+
+import java.util.List;
+
+public record OrderResponseListDto(
+        List<OrderResponseDto> orders,
+        int totalItemsPerPage,
+        Long totalItems,
+        Integer totalPages,
+        Integer currentPage) {
+
+}
@@ -0,0 +1,12 @@
+package com.ecommerce.backend.dto.ResponseDto;
+
+import java.util.List;
+
+public record PaymentResponseListDto(
+        List<PaymentResponseDto> payments,
+        int totalItemsPerPage,
+        Long totalItems,
+        Integer totalPages,
+        Integer currentPage) {
+
+}
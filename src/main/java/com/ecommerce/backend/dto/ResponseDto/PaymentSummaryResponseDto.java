@@ -0,0 +1,14 @@
+package com.ecommerce.backend.dto.ResponseDto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import com.ecommerce.backend.model.enums.PaymentStatus;
+
+public record PaymentSummaryResponseDto(
+        LocalDate day,
+        PaymentStatus status,
+        Long payments,
+        BigDecimal totalAmount) {
+
+}
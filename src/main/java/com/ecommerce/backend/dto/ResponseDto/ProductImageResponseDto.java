@@ -5,6 +5,9 @@ public record ProductImageResponseDto(
         String imageName,
         String imgType,
         String url,
-        Long productId) {
+        Long productId,
+        String thumbnailUrl,
+        String cardUrl,
+        String fullUrl) {
 
 }
@@ -0,0 +1,7 @@
+package com.ecommerce.backend.dto.ResponseDto;
+
+public record ProductImportErrorResponseDto(
+        long rowNumber,
+        String message) {
+
+}
@@ -0,0 +1,22 @@
+package com.ecommerce.backend.dto.ResponseDto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.ecommerce.backend.model.enums.DataFormat;
+import com.ecommerce.backend.model.enums.ImportJobStatus;
+
+public record ProductImportJobResponseDto(
+        Long id,
+        DataFormat format,
+        ImportJobStatus status,
+        long rowsRead,
+        long rowsImported,
+        long rowsRejected,
+        double rowsPerSecond,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        String failureMessage,
+        List<ProductImportErrorResponseDto> errors) {
+
+}
@@ -2,12 +2,15 @@ package com.ecommerce.backend.dto.ResponseDto;
 
 import java.util.List;
 
+// In cursor (keyset) mode totals and page number are not computed and stay null;
+// nextCursor is null when there is no further page.
 public record ProductResponseListDto(
         List<ProductResponseDto> productResponseDto,
         int totalItemsPerPage,
-        long totalItems,
-        int totalPages,
-        int currentPage
+        Long totalItems,
+        Integer totalPages,
+        Integer currentPage,
+        String nextCursor
        
 
 ) {
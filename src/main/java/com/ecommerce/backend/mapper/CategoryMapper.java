@@ -5,6 +5,7 @@ import org.springframework.stereotype.Component;
 import com.ecommerce.backend.dto.ResponseDto.CategoryResponseDto;
 import com.ecommerce.backend.dto.requestDto.CategoryRequestDto;
 import com.ecommerce.backend.model.Category;
+import com.ecommerce.backend.repository.CategoryNode;
 
 @Component
 public class CategoryMapper {
@@ -32,6 +33,10 @@ public class CategoryMapper {
 
     }
 
+    public CategoryResponseDto toResponseDto(CategoryNode node) {
+        return new CategoryResponseDto(node.id(), node.name(), node.description(), node.parentId());
+    }
+
     public Category updateEntity(Category existingCategory, CategoryRequestDto requestDto, Category parentCategory) {
         existingCategory.setName(requestDto.name());
         existingCategory.setDescription(requestDto.description());
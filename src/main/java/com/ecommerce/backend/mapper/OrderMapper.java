@@ -1,13 +1,19 @@
 package com.ecommerce.backend.mapper;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
+import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
 
 import com.ecommerce.backend.dto.ResponseDto.OrderItemResponseDto;
 import com.ecommerce.backend.dto.ResponseDto.OrderResponseDto;
+import com.ecommerce.backend.dto.ResponseDto.OrderResponseListDto;
 import com.ecommerce.backend.model.Order;
 import com.ecommerce.backend.model.OrderItem;
+import com.ecommerce.backend.repository.OrderHistoryRow;
+import com.ecommerce.backend.repository.OrderItemRow;
 
 import lombok.AllArgsConstructor;
 
@@ -16,7 +22,12 @@ import lombok.AllArgsConstructor;
 public class OrderMapper {
 
     public OrderResponseDto toResponseDto(Order order) {
-        List<OrderItemResponseDto> orderItemsResponseList = toOrderItemsResponseList(order.getOrderItems());
+        return toResponseDto(order, order.getOrderItems());
+    }
+
+    // For an order whose items were inserted apart from it, see OrderRepository.insertItems
+    public OrderResponseDto toResponseDto(Order order, List<OrderItem> items) {
+        List<OrderItemResponseDto> orderItemsResponseList = toOrderItemsResponseList(items);
         OrderResponseDto responseDto = new OrderResponseDto(
                 order.getId(),
                 order.getStatus(),
@@ -26,6 +37,24 @@ public class OrderMapper {
 
     }
 
+    public OrderResponseListDto toResponseListDto(Page<OrderHistoryRow> pagedOrders, List<OrderItemRow> items,
+            String userEmail) {
+        Map<Long, List<OrderItemResponseDto>> itemsByOrder = items.stream().collect(Collectors.groupingBy(
+                OrderItemRow::orderId,
+                Collectors.mapping(item -> new OrderItemResponseDto(item.id(), item.productId(),
+                        item.productName(), item.unitPrice(), item.quantity()), Collectors.toList())));
+        List<OrderResponseDto> orders = pagedOrders.getContent().stream()
+                .map(order -> new OrderResponseDto(order.id(), order.status(), userEmail,
+                        itemsByOrder.getOrDefault(order.id(), List.of())))
+                .toList();
+        return new OrderResponseListDto(
+                orders,
+                pagedOrders.getSize(),
+                pagedOrders.getTotalElements(),
+                pagedOrders.getTotalPages(),
+                pagedOrders.getNumber());
+    }
+
     private List<OrderItemResponseDto> toOrderItemsResponseList(List<OrderItem> list) {
         return list.stream().map(
                 orderItem -> toOrderItemResponseDto(orderItem)).toList();
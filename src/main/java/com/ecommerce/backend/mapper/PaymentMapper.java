@@ -1,10 +1,10 @@
 package com.ecommerce.backend.mapper;
 
-import java.util.List;
-
+import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
 
 import com.ecommerce.backend.dto.ResponseDto.PaymentResponseDto;
+import com.ecommerce.backend.dto.ResponseDto.PaymentResponseListDto;
 import com.ecommerce.backend.dto.requestDto.PaymentRequestDto;
 import com.ecommerce.backend.model.Order;
 import com.ecommerce.backend.model.Payment;
@@ -42,9 +42,13 @@ public class PaymentMapper {
 
     }
 
-    public List<PaymentResponseDto> toResponseList(List<Payment> paymentList) {
-        return paymentList.stream().map(
-                payment -> toResponseDto(payment)).toList();
+    public PaymentResponseListDto toResponseListDto(Page<PaymentResponseDto> pagedPayments) {
+        return new PaymentResponseListDto(
+                pagedPayments.getContent(),
+                pagedPayments.getSize(),
+                pagedPayments.getTotalElements(),
+                pagedPayments.getTotalPages(),
+                pagedPayments.getNumber());
     }
 
 }
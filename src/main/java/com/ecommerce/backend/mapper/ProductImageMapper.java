@@ -1,6 +1,5 @@
 package com.ecommerce.backend.mapper;
 
-import java.io.IOException;
 import java.util.List;
 
 import org.springframework.stereotype.Component;
@@ -9,15 +8,17 @@ import org.springframework.web.multipart.MultipartFile;
 import com.ecommerce.backend.dto.ResponseDto.ProductImageResponseDto;
 import com.ecommerce.backend.model.Product;
 import com.ecommerce.backend.model.ProductImage;
+import com.ecommerce.backend.service.image.StoredImage;
 
 @Component
 public class ProductImageMapper {
 
-    public ProductImage toEntity(MultipartFile file, Product product, String filePath) throws IOException {
+    public ProductImage toEntity(MultipartFile file, Product product, StoredImage storedImage) {
         ProductImage productImage = ProductImage.builder()
                 .imageName(file.getOriginalFilename())
-                .imgType(file.getContentType())
-                .url(filePath)
+                .imgType(storedImage.contentType())
+                .contentHash(storedImage.contentHash())
+                .url(storedImage.filePath())
                 .product(product)
                 .build();
         return productImage;
@@ -29,7 +30,10 @@ public class ProductImageMapper {
                 productImage.getImageName(),
                 productImage.getImgType(),
                 productImage.getUrl(),
-                productImage.getProduct().getId());
+                productImage.getProduct().getId(),
+                productImage.getThumbnailUrl(),
+                productImage.getCardUrl(),
+                productImage.getFullUrl());
         return responseDto;
     }
 
@@ -0,0 +1,42 @@
+package com.ecommerce.backend.mapper;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.ecommerce.backend.dto.ResponseDto.ProductImportErrorResponseDto;
+import com.ecommerce.backend.dto.ResponseDto.ProductImportJobResponseDto;
+import com.ecommerce.backend.model.ProductImportError;
+import com.ecommerce.backend.model.ProductImportJob;
+
+@Component
+public class ProductImportMapper {
+
+    public ProductImportJobResponseDto toResponseDto(ProductImportJob job, List<ProductImportError> errors) {
+        return new ProductImportJobResponseDto(
+                job.getId(),
+                job.getFormat(),
+                job.getStatus(),
+                job.getRowsRead(),
+                job.getRowsImported(),
+                job.getRowsRejected(),
+                rowsPerSecond(job),
+                job.getStartedAt(),
+                job.getFinishedAt(),
+                job.getFailureMessage(),
+                errors.stream()
+                        .map(error -> new ProductImportErrorResponseDto(error.getRowNumber(), error.getMessage()))
+                        .toList());
+    }
+
+    private static double rowsPerSecond(ProductImportJob job) {
+        if (job.getStartedAt() == null) {
+            return 0;
+        }
+        LocalDateTime end = job.getFinishedAt() != null ? job.getFinishedAt() : LocalDateTime.now();
+        long millis = Duration.between(job.getStartedAt(), end).toMillis();
+        return millis > 0 ? job.getRowsRead() * 1000.0 / millis : 0;
+    }
+}
@@ -62,7 +62,15 @@ public class ProductMapper {
                 pagedProduct.getSize(),
                 pagedProduct.getTotalElements(),
                 pagedProduct.getTotalPages(),
-                pagedProduct.getNumber());
+                pagedProduct.getNumber(),
+                null);
+    }
+
+    public ProductResponseListDto toCursorListDto(List<Product> products, int pageSize, String nextCursor) {
+        List<ProductResponseDto> dtos = products.stream()
+                .map(this::toResponseDto)
+                .toList();
+        return new ProductResponseListDto(dtos, pageSize, null, null, null, nextCursor);
     }
 
 }
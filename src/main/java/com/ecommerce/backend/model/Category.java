@@ -2,8 +2,13 @@ package com.ecommerce.backend.model;
 
 import java.util.List;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import com.ecommerce.backend.model.base.BaseEntity;
+import com.ecommerce.backend.model.base.SecondLevelCacheConfig;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
@@ -22,6 +27,8 @@ import lombok.Setter;
 @NoArgsConstructor
 @Builder
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.CATEGORY_REGION)
 @Table(name = "categories")
 public class Category extends BaseEntity {
 
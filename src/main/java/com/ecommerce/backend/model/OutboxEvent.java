@@ -0,0 +1,42 @@
+package com.ecommerce.backend.model;
+
+import java.time.LocalDateTime;
+
+import com.ecommerce.backend.model.base.BaseEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * An application event waiting for delivery. Written in the same transaction as the change
+ * it describes and deleted once its listeners have handled it; {@code availableAt} is
+ * pushed forward while a dispatcher holds it and after each failed attempt.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "outbox_events", indexes = @Index(name = "idx_outbox_events_available_at", columnList = "available_at, id"))
+public class OutboxEvent extends BaseEntity {
+
+    @NotNull
+    private String eventType;
+    @NotNull
+    @Column(length = 4000)
+    private String payload;
+    @NotNull
+    private LocalDateTime availableAt;
+    private int attempts;
+    @Column(length = 1000)
+    private String lastError;
+}
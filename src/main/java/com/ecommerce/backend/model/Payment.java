@@ -12,6 +12,7 @@ import jakarta.persistence.CascadeType;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
@@ -29,7 +30,13 @@ import lombok.Setter;
 @NoArgsConstructor
 @Builder
 @Entity
-@Table(name = "payments")
+@Table(name = "payments", indexes = {
+        // Admin listing filters on status or method plus a paidAt range, newest first
+        @Index(name = "idx_payments_status_paid_at", columnList = "status, paid_at, id"),
+        @Index(name = "idx_payments_method_paid_at", columnList = "method, paid_at, id"),
+        // Covers the daily summary: range on paid_at, grouped by status, summing amount
+        @Index(name = "idx_payments_paid_at_status", columnList = "paid_at, status, amount")
+})
 public class Payment extends BaseEntity {
     @NotNull
     private BigDecimal amount;
@@ -3,9 +3,15 @@ package com.ecommerce.backend.model;
 import java.math.BigDecimal;
 import java.util.List;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import com.ecommerce.backend.model.base.BaseEntity;
+import com.ecommerce.backend.model.base.SecondLevelCacheConfig;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotBlank;
@@ -22,8 +28,16 @@ import lombok.Setter;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+// Cached whole, stock included: stock checks read it with ProductRepository.findStockQuantityById
+// and the JDBC stock reservation evicts the rows it changes
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.PRODUCT_REGION)
 @Builder
-@Table(name = "products")
+@Table(name = "products", indexes = {
+        // Keyset pagination seeks on (sort column, id)
+        @Index(name = "idx_products_name_id", columnList = "name, id"),
+        @Index(name = "idx_products_price_id", columnList = "price, id")
+})
 public class Product extends BaseEntity{
 
     @NotBlank(message = "The name can not be null")
@@ -1,7 +1,12 @@
 package com.ecommerce.backend.model;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import com.ecommerce.backend.model.base.BaseEntity;
+import com.ecommerce.backend.model.base.SecondLevelCacheConfig;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -18,6 +23,8 @@ import lombok.Setter;
 @NoArgsConstructor
 @Builder
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.PRODUCT_CATEGORY_REGION)
 @Table(name = "productCategories")
 public class ProductCategory extends BaseEntity {
 
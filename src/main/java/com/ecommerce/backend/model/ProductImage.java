@@ -2,9 +2,11 @@ package com.ecommerce.backend.model;
 
 import com.ecommerce.backend.model.base.BaseEntity;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -18,12 +20,23 @@ import lombok.Setter;
 @NoArgsConstructor
 @Builder
 @Entity
-@Table(name = "productImages")
+@Table(name = "productImages", indexes = {
+        // Contagem de referências dos arquivos do ContentAddressedImageStore
+        @Index(name = "idx_product_images_content_hash", columnList = "contentHash")
+})
 public class ProductImage extends BaseEntity {
 
     private String url;
     private String imageName;
     private String imgType;
+    // SHA-256 do conteúdo, calculado durante o upload
+    @Column(length = 64)
+    private String contentHash;
+
+    // Variantes geradas depois do upload (ImageVariantProcessor); null enquanto não existem
+    private String thumbnailUrl;
+    private String cardUrl;
+    private String fullUrl;
 
     @ManyToOne
     @JoinColumn(name = "product_id")
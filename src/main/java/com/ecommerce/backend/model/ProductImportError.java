@@ -0,0 +1,28 @@
+package com.ecommerce.backend.model;
+
+import com.ecommerce.backend.model.base.BaseEntity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "product_import_errors", indexes = @Index(name = "idx_product_import_errors_job", columnList = "jobId, rowNumber"))
+public class ProductImportError extends BaseEntity {
+
+    @NotNull
+    private Long jobId;
+    private long rowNumber;
+    private String message;
+}
@@ -0,0 +1,50 @@
+package com.ecommerce.backend.model;
+
+import java.time.LocalDateTime;
+
+import com.ecommerce.backend.model.base.BaseEntity;
+import com.ecommerce.backend.model.enums.DataFormat;
+import com.ecommerce.backend.model.enums.ImportJobStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * A bulk product import. The uploaded body is spooled to {@code spoolFile} and processed
+ * in chunks; {@code rowsRead} only advances in the transaction that inserts a chunk, so
+ * an interrupted job resumes right after the last committed row.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "product_import_jobs")
+public class ProductImportJob extends BaseEntity {
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    private DataFormat format;
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    private ImportJobStatus status;
+    @NotNull
+    private String spoolFile;
+    private long rowsRead;
+    private long rowsImported;
+    private long rowsRejected;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    @Column(length = 1000)
+    private String failureMessage;
+}
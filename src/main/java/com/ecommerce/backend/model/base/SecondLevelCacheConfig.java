@@ -0,0 +1,86 @@
+package com.ecommerce.backend.model.base;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Hibernate second-level cache: one in-process Caffeine cache per region, each with its own
+ * size and time to live (api.jpa.cache.*). Hit, miss and put counts per region come from
+ * Hibernate's statistics and are published as hibernate.second.level.cache.* metrics.
+ *
+ * Writes made through JDBC bypass Hibernate and must evict what they change
+ * (see ProductRepositoryImpl#decrementStockIfAvailable).
+ */
+@Component
+public class SecondLevelCacheConfig implements HibernatePropertiesCustomizer {
+
+    public static final String CATEGORY_REGION = "category";
+    public static final String PRODUCT_CATEGORY_REGION = "product-category";
+    public static final String PRODUCT_REGION = "product";
+    public static final String PRODUCT_CATEGORY_QUERY_REGION = "product-category-query";
+
+    // Regions Hibernate creates for the query cache itself; the timestamps must outlive any cached query
+    private static final String DEFAULT_QUERY_REGION = "default-query-results-region";
+    private static final String TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    private final CacheManager cacheManager;
+
+    public SecondLevelCacheConfig(
+            @Value("${api.jpa.cache.category.maximum-size:1000}") long categorySize,
+            @Value("${api.jpa.cache.category.ttl:1h}") Duration categoryTtl,
+            @Value("${api.jpa.cache.product-category.maximum-size:10000}") long productCategorySize,
+            @Value("${api.jpa.cache.product-category.ttl:1h}") Duration productCategoryTtl,
+            @Value("${api.jpa.cache.product.maximum-size:10000}") long productSize,
+            @Value("${api.jpa.cache.product.ttl:10m}") Duration productTtl,
+            @Value("${api.jpa.cache.product-category-query.maximum-size:1000}") long querySize,
+            @Value("${api.jpa.cache.product-category-query.ttl:10m}") Duration queryTtl) {
+        // One manager per application context, so test contexts sharing the JVM do not share regions
+        this.cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("hibernate-l2-" + UUID.randomUUID()), getClass().getClassLoader());
+        createRegion(CATEGORY_REGION, categorySize, categoryTtl);
+        createRegion(PRODUCT_CATEGORY_REGION, productCategorySize, productCategoryTtl);
+        createRegion(PRODUCT_REGION, productSize, productTtl);
+        createRegion(PRODUCT_CATEGORY_QUERY_REGION, querySize, queryTtl);
+        createRegion(DEFAULT_QUERY_REGION, querySize, queryTtl);
+        createRegion(TIMESTAMPS_REGION, 10_000, null);
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+        hibernateProperties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+        // Every region is declared above; a cached entity without one is a mistake, not a new cache
+        hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+    }
+
+    @PreDestroy
+    public void close() {
+        cacheManager.close();
+    }
+
+    private void createRegion(String name, long maximumSize, Duration ttl) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        if (ttl != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        }
+        cacheManager.createCache(name, configuration);
+    }
+}
@@ -0,0 +1,38 @@
+package com.ecommerce.backend.model.enums;
+
+import java.util.Locale;
+import java.util.Optional;
+
+// Tamanhos gerados para cada imagem enviada; a largura é o limite, a proporção é mantida.
+public enum ImageVariant {
+
+    THUMBNAIL(160),
+    CARD(480),
+    FULL(1200);
+
+    private final int maxWidth;
+
+    ImageVariant(int maxWidth) {
+        this.maxWidth = maxWidth;
+    }
+
+    public int getMaxWidth() {
+        return maxWidth;
+    }
+
+    // "uuid_foto.png" -> "uuid_foto_card.jpg"
+    public String fileName(String originalFileName) {
+        int dot = originalFileName.lastIndexOf('.');
+        String base = dot > 0 ? originalFileName.substring(0, dot) : originalFileName;
+        return base + "_" + name().toLowerCase(Locale.ROOT) + ".jpg";
+    }
+
+    public static Optional<ImageVariant> fromName(String name) {
+        for (ImageVariant variant : values()) {
+            if (variant.name().equalsIgnoreCase(name)) {
+                return Optional.of(variant);
+            }
+        }
+        return Optional.empty();
+    }
+}
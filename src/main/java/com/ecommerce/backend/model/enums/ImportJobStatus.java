@@ -0,0 +1,10 @@
+package com.ecommerce.backend.model.enums;
+
+public enum ImportJobStatus {
+
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED,
+
+}
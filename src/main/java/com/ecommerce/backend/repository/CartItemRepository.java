@@ -4,8 +4,11 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import com.ecommerce.backend.dto.ResponseDto.CartItemResponseDto;
 import com.ecommerce.backend.model.Cart;
 import com.ecommerce.backend.model.CartItem;
 import com.ecommerce.backend.model.Product;
@@ -15,8 +18,19 @@ public interface CartItemRepository extends JpaRepository<CartItem, Long> {
 
     boolean existsByProductAndCart(Product product, Cart cart);
 
-    @Query("SELECT ci FROM CartItem ci WHERE ci.cart.user = :user")
+    // Products and cart are fetched in the same query: checkout reads every item's product.
+    @Query("SELECT ci FROM CartItem ci JOIN FETCH ci.product JOIN FETCH ci.cart c WHERE c.user = :user")
     List<CartItem> findByCartUser(User user);
 
+    // Read path for GET /cart: builds the response rows straight from one SELECT, no entities loaded.
+    @Query("SELECT new com.ecommerce.backend.dto.ResponseDto.CartItemResponseDto(ci.id, p.name, p.price, ci.quantity) "
+            + "FROM CartItem ci JOIN ci.product p WHERE ci.cart.id = :cartId ORDER BY ci.id")
+    List<CartItemResponseDto> findResponseDtosByCartId(@Param("cartId") Long cartId);
+
+    // Carts share their owner's id (@MapsId), so the cart id is the user id.
+    @Modifying
+    @Query("DELETE FROM CartItem ci WHERE ci.cart.id = :cartId")
+    int deleteAllByCartId(@Param("cartId") Long cartId);
+
     Optional<CartItem> findByProductAndCart(Product product, Cart cart);
 }
@@ -0,0 +1,8 @@
+package com.ecommerce.backend.repository;
+
+/**
+ * Flat row of the category table as loaded for the in-memory category tree: only the
+ * columns the tree needs, with the parent as a plain id instead of a lazy proxy.
+ */
+public record CategoryNode(Long id, String name, String description, Long parentId) {
+}
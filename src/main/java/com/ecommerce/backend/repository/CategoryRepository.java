@@ -1,6 +1,9 @@
 package com.ecommerce.backend.repository;
 
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import com.ecommerce.backend.model.Category;
 
@@ -8,4 +11,9 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
     boolean existsByNameAndIdNot(String name, Long Id);
     boolean existsByName(String name);
 
+    // Whole hierarchy in one SELECT, parent as a plain id, for the in-memory category tree.
+    @Query("SELECT new com.ecommerce.backend.repository.CategoryNode(c.id, c.name, c.description, p.id) "
+            + "FROM Category c LEFT JOIN c.parentCategory p ORDER BY c.id")
+    List<CategoryNode> findAllNodes();
+
 }
@@ -0,0 +1,13 @@
+package com.ecommerce.backend.repository;
+
+/**
+ * Shared settings of the forward-only export queries ({@code streamForExport}).
+ */
+public final class ExportQueries {
+
+    // Rows fetched per round trip; MySQL needs useCursorFetch=true on the URL to honour it
+    public static final String FETCH_SIZE = "1000";
+
+    private ExportQueries() {
+    }
+}
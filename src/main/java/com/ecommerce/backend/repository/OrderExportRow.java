@@ -0,0 +1,17 @@
+package com.ecommerce.backend.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import com.ecommerce.backend.model.enums.OrderStatus;
+
+public record OrderExportRow(
+        Long id,
+        String userEmail,
+        OrderStatus status,
+        BigDecimal totalAmount,
+        Long paymentId,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+
+}
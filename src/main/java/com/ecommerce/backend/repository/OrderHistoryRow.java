@@ -0,0 +1,10 @@
+package com.ecommerce.backend.repository;
+
+import com.ecommerce.backend.model.enums.OrderStatus;
+
+/**
+ * Order columns needed by the history page, read without loading the Order entity.
+ */
+public record OrderHistoryRow(Long id, OrderStatus status) {
+
+}
@@ -0,0 +1,11 @@
+package com.ecommerce.backend.repository;
+
+import java.math.BigDecimal;
+
+/**
+ * Order item columns plus the owning order id, so one query can fill the items of a whole page.
+ */
+public record OrderItemRow(Long orderId, Long id, Long productId, String productName, BigDecimal unitPrice,
+        int quantity) {
+
+}
@@ -1,13 +1,41 @@
 package com.ecommerce.backend.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import com.ecommerce.backend.model.Order;
-import com.ecommerce.backend.model.User;
 
-public interface OrderRepository extends JpaRepository<Order, Long>{
+import jakarta.persistence.QueryHint;
 
-   List<Order> findAllByUser(User user);
+public interface OrderRepository extends JpaRepository<Order, Long>, OrderRepositoryCustom {
+
+   // Order history is read in two queries whatever the page size: this page of orders,
+   // then the items of all of them through findItemsByOrderIds.
+   @Query(value = "SELECT new com.ecommerce.backend.repository.OrderHistoryRow(o.id, o.status) "
+           + "FROM Order o WHERE o.user.id = :userId",
+           countQuery = "SELECT COUNT(o) FROM Order o WHERE o.user.id = :userId")
+   Page<OrderHistoryRow> findHistoryByUserId(@Param("userId") Long userId, Pageable pageable);
+
+   @Query("SELECT new com.ecommerce.backend.repository.OrderItemRow("
+           + "i.order.id, i.id, i.productId, i.productName, i.unitPrice, i.quantity) "
+           + "FROM OrderItem i WHERE i.order.id IN :orderIds ORDER BY i.id")
+   List<OrderItemRow> findItemsByOrderIds(@Param("orderIds") Collection<Long> orderIds);
+
+   // Forward-only read for exports; see ProductRepository.streamForExport
+   @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ExportQueries.FETCH_SIZE))
+   @Query("SELECT new com.ecommerce.backend.repository.OrderExportRow("
+           + "o.id, u.email, o.status, o.totalAmount, p.id, o.createdAt, o.updatedAt) "
+           + "FROM Order o JOIN o.user u LEFT JOIN o.payment p "
+           + "WHERE (:since IS NULL OR o.updatedAt >= :since) ORDER BY o.id")
+   Stream<OrderExportRow> streamForExport(@Param("since") LocalDateTime since);
 }
@@ -0,0 +1,16 @@
+package com.ecommerce.backend.repository;
+
+import java.util.List;
+
+import com.ecommerce.backend.model.OrderItem;
+
+public interface OrderRepositoryCustom {
+
+    /**
+     * Inserts the items of an already persisted order with one JDBC batch, bypassing the
+     * persistence context (IDENTITY ids rule out Hibernate's insert batching). The generated
+     * ids are set on the items. Audit columns are written with the current time and
+     * {@code auditor}.
+     */
+    void insertItems(List<OrderItem> items, String auditor);
+}
@@ -0,0 +1,69 @@
+package com.ecommerce.backend.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+
+import com.ecommerce.backend.model.OrderItem;
+
+import lombok.AllArgsConstructor;
+
+@AllArgsConstructor
+public class OrderRepositoryImpl implements OrderRepositoryCustom {
+
+    private static final String INSERT_ITEM_SQL = "INSERT INTO order_items "
+            + "(order_id, product_id, product_name, unit_price, quantity, created_at, updated_at, created_by, "
+            + "updated_by) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertItems(List<OrderItem> items, String auditor) {
+        if (items.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp timestamp = Timestamp.valueOf(now);
+        GeneratedKeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_ITEM_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement statement, int i) throws SQLException {
+                        OrderItem item = items.get(i);
+                        statement.setLong(1, item.getOrder().getId());
+                        statement.setLong(2, item.getProductId());
+                        statement.setString(3, item.getProductName());
+                        statement.setBigDecimal(4, item.getUnitPrice());
+                        statement.setInt(5, item.getQuantity());
+                        statement.setTimestamp(6, timestamp);
+                        statement.setTimestamp(7, timestamp);
+                        statement.setString(8, auditor);
+                        statement.setString(9, auditor);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return items.size();
+                    }
+                }, keys);
+
+        List<Map<String, Object>> generated = keys.getKeyList();
+        for (int i = 0; i < items.size(); i++) {
+            OrderItem item = items.get(i);
+            item.setId(((Number) generated.get(i).values().iterator().next()).longValue());
+            item.setCreatedAt(now);
+            item.setUpdatedAt(now);
+            item.setCreatedBy(auditor);
+            item.setUpdatedBy(auditor);
+        }
+    }
+}
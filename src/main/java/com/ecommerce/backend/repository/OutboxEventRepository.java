@@ -0,0 +1,39 @@
+package com.ecommerce.backend.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ecommerce.backend.model.OutboxEvent;
+
+// The modifying queries run on the dispatcher threads, outside any request transaction.
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    List<OutboxEvent> findByAvailableAtLessThanEqualOrderById(LocalDateTime now, Pageable pageable);
+
+    /**
+     * Takes an event for delivery until {@code leaseUntil}. The attempts counter acts as a
+     * version: 0 means another dispatcher claimed the event since it was read.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.availableAt = :leaseUntil, e.attempts = e.attempts + 1 "
+            + "WHERE e.id = :id AND e.attempts = :attempts")
+    int claim(@Param("id") Long id, @Param("attempts") int attempts, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.availableAt = :retryAt, e.lastError = :error WHERE e.id = :id")
+    int reschedule(@Param("id") Long id, @Param("retryAt") LocalDateTime retryAt, @Param("error") String error);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.id = :id")
+    int deleteDelivered(@Param("id") Long id);
+}
@@ -0,0 +1,22 @@
+package com.ecommerce.backend.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.ecommerce.backend.model.enums.PaymentMethod;
+import com.ecommerce.backend.model.enums.PaymentStatus;
+
+public record PaymentExportRow(
+        Long id,
+        Long orderId,
+        String userEmail,
+        PaymentMethod method,
+        PaymentStatus status,
+        BigDecimal amount,
+        String transactionReference,
+        LocalDate paidAt,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+
+}
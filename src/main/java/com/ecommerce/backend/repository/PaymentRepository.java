@@ -1,11 +1,57 @@
 package com.ecommerce.backend.repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import com.ecommerce.backend.dto.ResponseDto.PaymentResponseDto;
+import com.ecommerce.backend.dto.ResponseDto.PaymentSummaryResponseDto;
 import com.ecommerce.backend.model.Payment;
+import com.ecommerce.backend.model.enums.PaymentMethod;
+import com.ecommerce.backend.model.enums.PaymentStatus;
+
+import jakarta.persistence.QueryHint;
 
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
 
     Boolean existsByOrderId(Long orderId);
 
+    // Projected straight into the DTO so a page never loads Payment, Order or User entities;
+    // the count runs on payments alone.
+    @Query(value = "SELECT new com.ecommerce.backend.dto.ResponseDto.PaymentResponseDto("
+            + "p.id, p.transactionReference, p.method, p.paidAt, p.amount, p.status, o.id, u.email) "
+            + "FROM Payment p LEFT JOIN p.order o LEFT JOIN o.user u "
+            + "WHERE (:status IS NULL OR p.status = :status) AND (:method IS NULL OR p.method = :method) "
+            + "AND (:paidFrom IS NULL OR p.paidAt >= :paidFrom) AND (:paidTo IS NULL OR p.paidAt <= :paidTo)",
+            countQuery = "SELECT COUNT(p) FROM Payment p "
+                    + "WHERE (:status IS NULL OR p.status = :status) AND (:method IS NULL OR p.method = :method) "
+                    + "AND (:paidFrom IS NULL OR p.paidAt >= :paidFrom) AND (:paidTo IS NULL OR p.paidAt <= :paidTo)")
+    Page<PaymentResponseDto> findPage(@Param("status") PaymentStatus status, @Param("method") PaymentMethod method,
+            @Param("paidFrom") LocalDate paidFrom, @Param("paidTo") LocalDate paidTo, Pageable pageable);
+
+    @Query("SELECT new com.ecommerce.backend.dto.ResponseDto.PaymentSummaryResponseDto("
+            + "p.paidAt, p.status, COUNT(p), SUM(p.amount)) "
+            + "FROM Payment p WHERE p.paidAt BETWEEN :paidFrom AND :paidTo "
+            + "GROUP BY p.paidAt, p.status ORDER BY p.paidAt, p.status")
+    List<PaymentSummaryResponseDto> summarizeByDayAndStatus(@Param("paidFrom") LocalDate paidFrom,
+            @Param("paidTo") LocalDate paidTo);
+
+    // Forward-only read for exports; see ProductRepository.streamForExport
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ExportQueries.FETCH_SIZE))
+    @Query("SELECT new com.ecommerce.backend.repository.PaymentExportRow("
+            + "p.id, o.id, u.email, p.method, p.status, p.amount, p.transactionReference, p.paidAt, "
+            + "p.createdAt, p.updatedAt) "
+            + "FROM Payment p LEFT JOIN p.order o LEFT JOIN o.user u "
+            + "WHERE (:since IS NULL OR p.updatedAt >= :since) ORDER BY p.id")
+    Stream<PaymentExportRow> streamForExport(@Param("since") LocalDateTime since);
+
 }
@@ -1,13 +1,44 @@
 package com.ecommerce.backend.repository;
 
+import java.util.Collection;
 import java.util.List;
 
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import com.ecommerce.backend.model.Product;
 import com.ecommerce.backend.model.ProductCategory;
+import com.ecommerce.backend.model.base.SecondLevelCacheConfig;
+
+import jakarta.persistence.QueryHint;
 
 public interface ProductCategoryRepository extends JpaRepository<ProductCategory, Long> {
 
     boolean existsByCategoryIdAndProductId(Long categoryId, Long productId);
-    List<ProductCategory>findAllProductsByCategoryId(Long categoryId);
+
+    // The mapper reads both sides of every link; fetch them in the same select instead of one per row
+    @Override
+    @EntityGraph(attributePaths = { "product", "category" })
+    List<ProductCategory> findAll();
+
+    // Cached until a product, category or link is written through Hibernate
+    @EntityGraph(attributePaths = { "product", "category" })
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION,
+                    value = SecondLevelCacheConfig.PRODUCT_CATEGORY_QUERY_REGION) })
+    List<ProductCategory> findAllProductsByCategoryId(Long categoryId);
+
+    // A product linked to several categories of the same subtree is returned and counted once.
+    @Query(value = "SELECT DISTINCT p FROM ProductCategory pc JOIN pc.product p WHERE pc.category.id IN :categoryIds",
+            countQuery = "SELECT COUNT(DISTINCT p) FROM ProductCategory pc JOIN pc.product p "
+                    + "WHERE pc.category.id IN :categoryIds")
+    Page<Product> findDistinctProductsByCategoryIdIn(@Param("categoryIds") Collection<Long> categoryIds,
+            Pageable pageable);
 }
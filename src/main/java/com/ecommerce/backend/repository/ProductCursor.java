@@ -0,0 +1,52 @@
+package com.ecommerce.backend.repository;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Set;
+
+import org.springframework.http.HttpStatus;
+
+import com.ecommerce.backend.model.Product;
+import com.ecommerce.backend.shared.exception.BusinessException;
+
+/**
+ * Position of the last product of a keyset page: the value of the sort column plus the id,
+ * which breaks ties. Clients get it as an opaque URL-safe token and send it back unchanged.
+ */
+public record ProductCursor(String sortProperty, String lastValue, long lastId) {
+
+    public static final Set<String> SORTABLE_PROPERTIES = Set.of("name", "price");
+
+    private static final String SEPARATOR = "\n";
+
+    public static ProductCursor after(Product product, String sortProperty) {
+        String value = "price".equals(sortProperty) ? product.getPrice().toPlainString() : product.getName();
+        return new ProductCursor(sortProperty, value, product.getId());
+    }
+
+    public static ProductCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            // The value goes last because product names may contain anything, separator included.
+            String[] parts = raw.split(SEPARATOR, 3);
+            if (parts.length != 3 || !SORTABLE_PROPERTIES.contains(parts[0])) {
+                throw new IllegalArgumentException(raw);
+            }
+            ProductCursor cursor = new ProductCursor(parts[0], parts[2], Long.parseLong(parts[1]));
+            cursor.typedValue();
+            return cursor;
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("Invalid cursor", HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    public String encode() {
+        String raw = sortProperty + SEPARATOR + lastId + SEPARATOR + lastValue;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    Comparable<?> typedValue() {
+        return "price".equals(sortProperty) ? new BigDecimal(lastValue) : lastValue;
+    }
+}
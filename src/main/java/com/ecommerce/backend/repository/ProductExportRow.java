@@ -0,0 +1,15 @@
+package com.ecommerce.backend.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record ProductExportRow(
+        Long id,
+        String name,
+        String description,
+        BigDecimal price,
+        int stockQuantity,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+
+}
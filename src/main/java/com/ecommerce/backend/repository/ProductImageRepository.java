@@ -1,11 +1,29 @@
 package com.ecommerce.backend.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.ecommerce.backend.model.ProductImage;
 
 public interface ProductImageRepository extends JpaRepository<ProductImage, Long> {
     List<ProductImage> findAllByProductId (Long productId);
+
+    // Which of these stored files are still referenced; the rest can be collected.
+    @Query("SELECT DISTINCT pi.contentHash FROM ProductImage pi WHERE pi.contentHash IN :hashes")
+    Set<String> findReferencedContentHashes(@Param("hashes") Collection<String> hashes);
+
+    // Called from the variant worker threads, outside any request transaction.
+    @Transactional
+    @Modifying
+    @Query("UPDATE ProductImage pi SET pi.thumbnailUrl = :thumbnailUrl, pi.cardUrl = :cardUrl, pi.fullUrl = :fullUrl "
+            + "WHERE pi.id = :id")
+    int updateVariants(@Param("id") Long id, @Param("thumbnailUrl") String thumbnailUrl,
+            @Param("cardUrl") String cardUrl, @Param("fullUrl") String fullUrl);
 }
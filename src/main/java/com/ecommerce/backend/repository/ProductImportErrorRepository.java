@@ -0,0 +1,13 @@
+package com.ecommerce.backend.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.ecommerce.backend.model.ProductImportError;
+
+public interface ProductImportErrorRepository extends JpaRepository<ProductImportError, Long> {
+
+    List<ProductImportError> findByJobIdOrderByRowNumber(Long jobId, Pageable pageable);
+}
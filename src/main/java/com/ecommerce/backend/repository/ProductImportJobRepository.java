@@ -0,0 +1,28 @@
+package com.ecommerce.backend.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.ecommerce.backend.model.ProductImportJob;
+import com.ecommerce.backend.model.enums.ImportJobStatus;
+
+public interface ProductImportJobRepository extends JpaRepository<ProductImportJob, Long> {
+
+    List<ProductImportJob> findByStatusInOrderById(Collection<ImportJobStatus> statuses);
+
+    /**
+     * Records a committed chunk. Runs in the chunk's transaction, so the counters and the
+     * inserted rows commit (or roll back) together.
+     */
+    @Modifying
+    @Query("UPDATE ProductImportJob j SET j.rowsRead = j.rowsRead + :read, "
+            + "j.rowsImported = j.rowsImported + :imported, j.rowsRejected = j.rowsRejected + :rejected "
+            + "WHERE j.id = :id")
+    int advance(@Param("id") Long id, @Param("read") long read, @Param("imported") long imported,
+            @Param("rejected") long rejected);
+}
@@ -1,17 +1,56 @@
 package com.ecommerce.backend.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import com.ecommerce.backend.model.Product;
-import java.util.Optional;
 
-public interface ProductRepository extends JpaRepository<Product, Long> {
+import jakarta.persistence.QueryHint;
+
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductRepositoryCustom {
 
     Page<Product> findByNameContainingIgnoreCaseAndPriceLessThanEqual(String name, Double price, Pageable pageable);
 
+    // Keyset page: the next products after the given id, ordered by the pageable's sort
+    List<Product> findByIdGreaterThan(Long id, Pageable pageable);
+
     boolean existsByName(String name);
 
     Optional<Product> findByName(String name);
+
+    List<Product> findByNameIn(Collection<String> names);
+
+    @Query("SELECT p.name FROM Product p")
+    List<String> findAllNames();
+
+    /**
+     * Forward-only read for exports, as flat rows that never enter the persistence
+     * context. Must be consumed inside a transaction and closed.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ExportQueries.FETCH_SIZE))
+    @Query("SELECT new com.ecommerce.backend.repository.ProductExportRow("
+            + "p.id, p.name, p.description, p.price, p.stockQuantity, p.createdAt, p.updatedAt) "
+            + "FROM Product p WHERE (:since IS NULL OR p.updatedAt >= :since) ORDER BY p.id")
+    Stream<ProductExportRow> streamForExport(@Param("since") LocalDateTime since);
+
+    // Read from the table: the cached Product may hold stock from before a reservation
+    @Query("SELECT p.stockQuantity FROM Product p WHERE p.id = :id")
+    Optional<Integer> findStockQuantityById(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE Product p SET p.stockQuantity = p.stockQuantity - :quantity, p.updatedAt = CURRENT_TIMESTAMP "
+            + "WHERE p.id = :id AND p.stockQuantity >= :quantity")
+    int decrementStockIfAvailable(@Param("id") Long id, @Param("quantity") int quantity);
 }
@@ -0,0 +1,35 @@
+package com.ecommerce.backend.repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.Sort;
+
+import com.ecommerce.backend.model.Product;
+
+public interface ProductRepositoryCustom {
+
+    /**
+     * Decrements the stock of every product in {@code quantities} (product id -> quantity)
+     * with one batched conditional UPDATE. A row is only changed when it still has enough
+     * stock, so concurrent reservations can never drive a product below zero.
+     *
+     * @return the ids of the products whose stock could not cover the requested quantity
+     */
+    List<Long> decrementStockIfAvailable(Map<Long, Integer> quantities);
+
+    /**
+     * Inserts new products with JDBC batches of {@code batchSize} rows, bypassing the
+     * persistence context (IDENTITY ids rule out Hibernate's insert batching). Audit
+     * columns are written with the current time and {@code auditor}.
+     */
+    void insertAll(List<Product> products, String auditor, int batchSize);
+
+    /**
+     * Keyset ("seek") page: up to {@code limit} products ordered by {@code order} and id,
+     * strictly after {@code after} (or from the start when null). No COUNT query is issued.
+     * {@code name} and {@code maxPrice} are optional filters.
+     */
+    List<Product> findPageAfter(String name, BigDecimal maxPrice, Sort.Order order, ProductCursor after, int limit);
+}
@@ -0,0 +1,149 @@
+package com.ecommerce.backend.repository;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.ecommerce.backend.model.Product;
+
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.AllArgsConstructor;
+
+@AllArgsConstructor
+public class ProductRepositoryImpl implements ProductRepositoryCustom {
+
+    // Bumps updated_at too, so incremental exports pick up stock changes
+    private static final String DECREMENT_STOCK_SQL = "UPDATE products SET stock_quantity = stock_quantity - ?, "
+            + "updated_at = CURRENT_TIMESTAMP WHERE id = ? AND stock_quantity >= ?";
+
+    private static final String INSERT_SQL = "INSERT INTO products "
+            + "(name, description, price, stock_quantity, created_at, updated_at, created_by, updated_by) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    @Override
+    public List<Long> decrementStockIfAvailable(Map<Long, Integer> quantities) {
+        if (quantities.isEmpty()) {
+            return List.of();
+        }
+        // Always touch rows in id order so two checkouts sharing products cannot deadlock.
+        List<Map.Entry<Long, Integer>> items = new ArrayList<>(new TreeMap<>(quantities).entrySet());
+        List<Object[]> args = items.stream()
+                .map(item -> new Object[] { item.getValue(), item.getKey(), item.getValue() })
+                .toList();
+
+        int[] updated = jdbcTemplate.batchUpdate(DECREMENT_STOCK_SQL, args);
+        evictFromSecondLevelCache(quantities.keySet());
+
+        List<Long> rejected = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                rejected.add(items.get(i).getKey());
+            }
+        }
+        return rejected;
+    }
+
+    /**
+     * The batch above bypasses Hibernate, so the cached rows are evicted here and again once the
+     * transaction completes, in case a concurrent read re-cached the stock being replaced.
+     */
+    private void evictFromSecondLevelCache(Collection<Long> ids) {
+        Cache cache = entityManager.getEntityManagerFactory().getCache();
+        ids.forEach(id -> cache.evict(Product.class, id));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            List<Long> snapshot = List.copyOf(ids);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    snapshot.forEach(id -> cache.evict(Product.class, id));
+                }
+            });
+        }
+    }
+
+    @Override
+    public void insertAll(List<Product> products, String auditor, int batchSize) {
+        if (products.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, products, batchSize, (statement, product) -> {
+            statement.setString(1, product.getName());
+            statement.setString(2, product.getDescription());
+            statement.setBigDecimal(3, product.getPrice());
+            statement.setInt(4, product.getStockQuantity());
+            statement.setTimestamp(5, now);
+            statement.setTimestamp(6, now);
+            statement.setString(7, auditor);
+            statement.setString(8, auditor);
+        });
+    }
+
+    @Override
+    public List<Product> findPageAfter(String name, BigDecimal maxPrice, Sort.Order order, ProductCursor after,
+            int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Product> query = cb.createQuery(Product.class);
+        Root<Product> product = query.from(Product.class);
+        Path<Long> id = product.get("id");
+        boolean descending = order.isDescending();
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (name != null && !name.isBlank()) {
+            predicates.add(cb.like(cb.lower(product.get("name")), "%" + escapeLike(name.toLowerCase()) + "%", '\\'));
+        }
+        if (maxPrice != null) {
+            predicates.add(cb.le(product.get("price"), maxPrice));
+        }
+        if (after != null) {
+            if ("price".equals(order.getProperty())) {
+                predicates.add(seek(cb, product.get("price"), (BigDecimal) after.typedValue(), id, after.lastId(),
+                        descending));
+            } else {
+                predicates.add(seek(cb, product.get("name"), (String) after.typedValue(), id, after.lastId(),
+                        descending));
+            }
+        }
+
+        Path<?> key = product.get(order.getProperty());
+        query.select(product)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(descending ? cb.desc(key) : cb.asc(key), descending ? cb.desc(id) : cb.asc(id));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    // (key, id) > (lastKey, lastId), written out so it can use the (key, id) index on every database.
+    private static <T extends Comparable<? super T>> Predicate seek(CriteriaBuilder cb, Path<T> key, T lastKey,
+            Path<Long> id, long lastId, boolean descending) {
+        if (descending) {
+            return cb.or(cb.lessThan(key, lastKey), cb.and(cb.equal(key, lastKey), cb.lessThan(id, lastId)));
+        }
+        return cb.or(cb.greaterThan(key, lastKey), cb.and(cb.equal(key, lastKey), cb.greaterThan(id, lastId)));
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
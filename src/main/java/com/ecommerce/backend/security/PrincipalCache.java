@@ -0,0 +1,58 @@
+package com.ecommerce.backend.security;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import com.ecommerce.backend.shared.cache.CacheLoads;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Bounded, TTL based cache of authenticated principals keyed by the JWT subject
+ * (the user e-mail). Avoids one SELECT on users per authenticated request.
+ * Entries must be evicted whenever the user is changed (see UserService).
+ * Hit/miss counters are published as the "principals" cache metrics.
+ */
+@Component
+public class PrincipalCache {
+
+    public static final String CACHE_NAME = "principals";
+
+    private final AsyncCache<String, UserDetails> cache;
+
+    public PrincipalCache(
+            @Value("${api.security.principal-cache.maximum-size:10000}") long maximumSize,
+            @Value("${api.security.principal-cache.ttl:5m}") Duration ttl,
+            MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    // Unknown subjects are not cached: the loader returning null leaves no entry.
+    // The loader runs on the calling thread, outside the cache's locks (see CacheLoads).
+    public UserDetails get(String email, Function<String, UserDetails> loader) {
+        return CacheLoads.getOrLoad(cache, email, loader);
+    }
+
+    public void evict(String email) {
+        if (email != null) {
+            cache.synchronous().invalidate(email);
+        }
+    }
+
+    public CacheStats stats() {
+        return cache.synchronous().stats();
+    }
+}
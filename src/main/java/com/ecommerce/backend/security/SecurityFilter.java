@@ -21,9 +21,12 @@ public class SecurityFilter extends OncePerRequestFilter {
 
     private final UserRepository userRepository;
 
-    public SecurityFilter(TokenService tokenService, UserRepository userRepository) {
+    private final PrincipalCache principalCache;
+
+    public SecurityFilter(TokenService tokenService, UserRepository userRepository, PrincipalCache principalCache) {
         this.tokenService = tokenService;
         this.userRepository = userRepository;
+        this.principalCache = principalCache;
     }
 
     @Override
@@ -31,7 +34,7 @@ public class SecurityFilter extends OncePerRequestFilter {
         var token = this.recoverToken(request);
         if (token != null) {
             var email = tokenService.validateToken(token);
-            UserDetails user = userRepository.findByEmail(email);
+            UserDetails user = email.isEmpty() ? null : principalCache.get(email, userRepository::findByEmail);
 
             if (user != null) {
                 var authentication = new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
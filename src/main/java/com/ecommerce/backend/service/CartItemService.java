@@ -44,7 +44,7 @@ public class CartItemService {
         int quantityInCart = existingItemOpt.map(CartItem::getQuantity).orElse(0);
         int newTotalQuantity = quantityInCart + requestDto.quantity();
 
-        if (product.getStockQuantity() < newTotalQuantity) {
+        if (productService.getStockQuantity(product.getId()) < newTotalQuantity) {
             throw new BusinessException("Requested quantity exceeds available stock", HttpStatus.CONFLICT);
         }
         CartItem cartItem;
@@ -63,19 +63,19 @@ public class CartItemService {
     }
 
     public List<CartItemResponseDto> getUserCartItems(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(
-                        () -> new BusinessException("No user found with the id:  " + userId, HttpStatus.NOT_FOUND));
-        List<CartItem> cartItems = repository.findByCartUser(user);
-        return cartItems.stream().map(
-                cartItem -> mapper.toResponseDto(cartItem, cartItem.getQuantity())).toList();
+        List<CartItemResponseDto> cartItems = repository.findResponseDtosByCartId(userId);
+        // Only an empty result needs the extra lookup to tell "empty cart" from "unknown user".
+        if (cartItems.isEmpty() && !userRepository.existsById(userId)) {
+            throw new BusinessException("No user found with the id:  " + userId, HttpStatus.NOT_FOUND);
+        }
+        return cartItems;
 
     }
 
     public List<CartItemResponseDto> getAuthCartItems() {
-        List<CartItem> cartItems = getCartItemsEntity();
-        return cartItems.stream().map(
-                cartItem -> mapper.toResponseDto(cartItem, cartItem.getQuantity())).toList();
+        User user = securityService.getAuthenticatedUser()
+                .orElseThrow(() -> new BusinessException("User not found ", HttpStatus.NOT_FOUND));
+        return repository.findResponseDtosByCartId(user.getId());
     }
 
     public  List<CartItem> getCartItemsEntity() {
@@ -98,15 +98,14 @@ public class CartItemService {
         User user = userRepository.findById(userId)
                 .orElseThrow(
                         () -> new BusinessException("No user found with the id:  " + userId, HttpStatus.NOT_FOUND));
-        List<CartItem> cartItems = repository.findByCartUser(user);
-        repository.deleteAll(cartItems);
+        repository.deleteAllByCartId(user.getId());
     }
 
+    @Transactional
     public void cleanAuthUserCartItems() {
         User user = securityService.getAuthenticatedUser()
                 .orElseThrow(() -> new BusinessException("User not found ", HttpStatus.NOT_FOUND));
-        List<CartItem> cartItems = repository.findByCartUser(user);
-        repository.deleteAll(cartItems);
+        repository.deleteAllByCartId(user.getId());
     }
 
 }
@@ -11,6 +11,8 @@ import com.ecommerce.backend.dto.requestDto.CategoryRequestDto;
 import com.ecommerce.backend.mapper.CategoryMapper;
 import com.ecommerce.backend.model.Category;
 import com.ecommerce.backend.repository.CategoryRepository;
+import com.ecommerce.backend.service.category.CategoryTree;
+import com.ecommerce.backend.service.category.CategoryTreeHolder;
 import com.ecommerce.backend.service.interfaces.ICategoryService;
 import com.ecommerce.backend.shared.exception.BusinessException;
 
@@ -23,6 +25,7 @@ public class CategoryService implements ICategoryService {
 
     private final CategoryRepository categoryRepository;
     private final CategoryMapper categoryMapper;
+    private final CategoryTreeHolder categoryTreeHolder;
 
     @Override
     public CategoryResponseDto createCategory(CategoryRequestDto requestDto) {
@@ -41,13 +44,13 @@ public class CategoryService implements ICategoryService {
         Category category = categoryMapper.toEntity(requestDto, parentCategory);
         validateParentCategory(category, parentCategory);
         categoryRepository.save(category);
+        categoryTreeHolder.invalidate();
         return categoryMapper.toResponseDto(category);
     }
 
     @Override
     public List<CategoryResponseDto> getAllCategories() {
-        List<Category> categories = categoryRepository.findAll();
-        return categories.stream().map(category -> categoryMapper.toResponseDto(category)).toList();
+        return categoryTreeHolder.current().all().stream().map(node -> categoryMapper.toResponseDto(node)).toList();
     }
 
     @Override
@@ -78,6 +81,7 @@ public class CategoryService implements ICategoryService {
 
         validateParentCategory(existingCategory, parentCategory);
         Category updatedCategory = categoryMapper.updateEntity(existingCategory, requestDto, parentCategory);
+        categoryTreeHolder.invalidate();
         return categoryMapper.toResponseDto(updatedCategory);
 
     }
@@ -89,6 +93,7 @@ public class CategoryService implements ICategoryService {
                     throw new BusinessException("No category found with the id " + id, HttpStatus.NOT_FOUND);
 
                 });
+        categoryTreeHolder.invalidate();
     }
 
     public Category getCategory(Long id) {
@@ -98,6 +103,17 @@ public class CategoryService implements ICategoryService {
         return category;
     }
 
+    /**
+     * Ids of the category and of every category below it, read from the in-memory tree.
+     */
+    public List<Long> getSubtreeIds(Long id) {
+        CategoryTree tree = categoryTreeHolder.current();
+        if (!tree.contains(id)) {
+            throw new BusinessException("No Category found with the id " + id, HttpStatus.NOT_FOUND);
+        }
+        return tree.subtree(id);
+    }
+
     private void validateParentCategory(Category category, Category parent) {
         if (parent == null)
             return;
@@ -108,14 +124,14 @@ public class CategoryService implements ICategoryService {
                     HttpStatus.BAD_REQUEST);
         }
 
-        // Verificar ciclo (A -> B -> C -> A)
-        Category current = parent;
-        while (current != null) {
-            if (current.getId().equals(category.getId())) {
-                throw new BusinessException("Circular reference detected",
-                        HttpStatus.BAD_REQUEST);
-            }
-            current = current.getParentCategory();
+        // Categoria nova ainda não tem descendentes
+        if (category.getId() == null)
+            return;
+
+        // Verificar ciclo (A -> B -> C -> A): o novo pai não pode estar na subárvore da categoria
+        if (categoryTreeHolder.current().wouldCreateCycle(category.getId(), parent.getId())) {
+            throw new BusinessException("Circular reference detected",
+                    HttpStatus.BAD_REQUEST);
         }
     }
 
@@ -2,13 +2,21 @@ package com.ecommerce.backend.service;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.ecommerce.backend.dto.ResponseDto.OrderResponseDto;
+import com.ecommerce.backend.dto.ResponseDto.OrderResponseListDto;
 import com.ecommerce.backend.dto.requestDto.OrderStatusRequestDto;
 import com.ecommerce.backend.mapper.OrderMapper;
 import com.ecommerce.backend.model.CartItem;
@@ -16,6 +24,8 @@ import com.ecommerce.backend.model.Order;
 import com.ecommerce.backend.model.OrderItem;
 import com.ecommerce.backend.model.User;
 import com.ecommerce.backend.model.enums.OrderStatus;
+import com.ecommerce.backend.repository.OrderHistoryRow;
+import com.ecommerce.backend.repository.OrderItemRow;
 import com.ecommerce.backend.repository.OrderRepository;
 import com.ecommerce.backend.security.SecurityService;
 import com.ecommerce.backend.shared.exception.BusinessException;
@@ -26,19 +36,33 @@ import lombok.AllArgsConstructor;
 @Service
 public class OrderService {
 
+    static final Set<String> SORTABLE_PROPERTIES = Set.of("id", "createdAt");
+
     private SecurityService securityService;
     private CartItemService cartItemService;
     private OrderRepository orderRepository;
     private ProductService productService;
     private OrderMapper orderMapper;
 
-    public List<OrderResponseDto> getAuthUserOrders() {
+    /**
+     * One page of the authenticated user's orders. Orders and their items are projected
+     * in two queries (plus the count), so the cost does not grow with the user's history.
+     */
+    public OrderResponseListDto getAuthUserOrders(Pageable pageable) {
         User user = securityService.getAuthenticatedUser()
                 .orElseThrow(() -> new BusinessException("user not found",
                         HttpStatus.NOT_FOUND));
-        List<Order> userOrderList = orderRepository.findAllByUser(user);
+        for (Sort.Order order : pageable.getSort()) {
+            if (!SORTABLE_PROPERTIES.contains(order.getProperty())) {
+                throw new BusinessException("Orders can not be sorted by " + order.getProperty(),
+                        HttpStatus.BAD_REQUEST);
+            }
+        }
+        Page<OrderHistoryRow> orders = orderRepository.findHistoryByUserId(user.getId(), pageable);
+        List<OrderItemRow> items = orders.isEmpty() ? List.of()
+                : orderRepository.findItemsByOrderIds(orders.map(OrderHistoryRow::id).getContent());
 
-        return userOrderList.stream().map(order -> orderMapper.toResponseDto(order)).toList();
+        return orderMapper.toResponseListDto(orders, items, user.getEmail());
     }
 
     public OrderResponseDto toogleOrderStatus(OrderStatusRequestDto statusRequestDto) {
@@ -74,12 +98,14 @@ public class OrderService {
                 .build();
 
         List<OrderItem> orderItems = createOrderList(cartItems, newOrder);
-        newOrder.setOrderItems(orderItems);
+        reserveStock(cartItems);
         newOrder.setTotalAmount(calculateTotalAmount(orderItems));
         orderRepository.save(newOrder);
+        // The order row now has its IDENTITY id; its items go in as one JDBC batch
+        orderRepository.insertItems(orderItems, user.getEmail());
         cartItemService.cleanAuthUserCartItems();
 
-        return orderMapper.toResponseDto(newOrder);
+        return orderMapper.toResponseDto(newOrder, orderItems);
     }
 
     private List<OrderItem> createOrderList(List<CartItem> cartItems, Order newOrder) {
@@ -90,21 +116,36 @@ public class OrderService {
                         "Requested quantity is not avalible anymore!" + "Product: " + item.getProduct().getName(),
                         HttpStatus.CONFLICT);
             }
-            OrderItem orderItem = new OrderItem(
-                    item.getQuantity(),
-                    item.getProduct().getPrice(),
-                    item.getProduct().getId(),
-                    item.getProduct().getName(),
-                    newOrder
-
-            );
-            productService.updateStockQuantity(item.getProduct().getId(), item.getQuantity());
+            OrderItem orderItem = OrderItem.builder()
+                    .quantity(item.getQuantity())
+                    .unitPrice(item.getProduct().getPrice())
+                    .productId(item.getProduct().getId())
+                    .productName(item.getProduct().getName())
+                    .order(newOrder)
+                    .build();
             orderItems.add(orderItem);
         }
         return orderItems;
 
     }
 
+    // One conditional UPDATE per product, sent as a single batch; any rejected item rolls the order back.
+    private void reserveStock(List<CartItem> cartItems) {
+        Map<Long, Integer> quantities = new HashMap<>();
+        Map<Long, String> names = new HashMap<>();
+        for (CartItem item : cartItems) {
+            quantities.merge(item.getProduct().getId(), item.getQuantity(), Integer::sum);
+            names.put(item.getProduct().getId(), item.getProduct().getName());
+        }
+
+        List<Long> rejected = productService.reserveStock(quantities);
+        if (!rejected.isEmpty()) {
+            String products = rejected.stream().map(names::get).collect(Collectors.joining(", "));
+            throw new BusinessException("Requested quantity is not avalible anymore!" + "Product: " + products,
+                    HttpStatus.CONFLICT);
+        }
+    }
+
     private BigDecimal calculateTotalAmount(List<OrderItem> orderItems) {
         BigDecimal total = BigDecimal.ZERO;
 
@@ -1,20 +1,30 @@
 package com.ecommerce.backend.service;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Set;
 
-import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.ecommerce.backend.dto.ResponseDto.PaymentResponseDto;
+import com.ecommerce.backend.dto.ResponseDto.PaymentResponseListDto;
+import com.ecommerce.backend.dto.ResponseDto.PaymentSummaryResponseDto;
 import com.ecommerce.backend.dto.requestDto.PaymentRequestDto;
 import com.ecommerce.backend.dto.requestDto.PaymentStatusUpdateRequest;
 import com.ecommerce.backend.mapper.PaymentMapper;
 import com.ecommerce.backend.model.Order;
 import com.ecommerce.backend.model.Payment;
+import com.ecommerce.backend.model.enums.PaymentMethod;
+import com.ecommerce.backend.model.enums.PaymentStatus;
 import com.ecommerce.backend.repository.PaymentRepository;
 import com.ecommerce.backend.service.events.PaymentCompletedEvent;
+import com.ecommerce.backend.service.outbox.OutboxService;
 import com.ecommerce.backend.shared.exception.BusinessException;
 
 import lombok.AllArgsConstructor;
@@ -23,11 +33,16 @@ import lombok.AllArgsConstructor;
 @AllArgsConstructor
 public class PaymentService {
 
+    static final Set<String> SORTABLE_PROPERTIES = Set.of("id", "paidAt", "amount", "createdAt");
+    static final long MAX_SUMMARY_DAYS = 366;
+
     private PaymentMapper mapper;
     private PaymentRepository repository;
     private OrderService orderService;
-    private ApplicationEventPublisher eventPublisher;
+    private OutboxService outboxService;
 
+    // The outbox row commits with the payment; order linking happens later, off this thread.
+    @Transactional
     public PaymentResponseDto createPayment(PaymentRequestDto requestDto) {
         Order order = orderService.findOrderByid(requestDto.orderId());
         if (repository.existsByOrderId(order.getId())) {
@@ -36,13 +51,35 @@ public class PaymentService {
         validatePaymentAmount(order, requestDto);
         Payment newPayment = mapper.toEntity(requestDto, order);
         Payment savedPayment = repository.save(newPayment);
-        eventPublisher.publishEvent(new PaymentCompletedEvent(order.getId(), newPayment.getId()));
+        outboxService.enqueue(new PaymentCompletedEvent(order.getId(), savedPayment.getId()));
         return mapper.toResponseDto(savedPayment);
     }
 
-    public List<PaymentResponseDto> findAllPayments() {
-        List<Payment> paymentList = repository.findAll();
-        return mapper.toResponseList(paymentList);
+    public PaymentResponseListDto findPayments(PaymentStatus status, PaymentMethod method, LocalDate paidFrom,
+            LocalDate paidTo, Pageable pageable) {
+        validateRange(paidFrom, paidTo);
+        for (Sort.Order order : pageable.getSort()) {
+            if (!SORTABLE_PROPERTIES.contains(order.getProperty())) {
+                throw new BusinessException("Payments can not be sorted by " + order.getProperty(),
+                        HttpStatus.BAD_REQUEST);
+            }
+        }
+        return mapper.toResponseListDto(repository.findPage(status, method, paidFrom, paidTo, pageable));
+    }
+
+    /**
+     * Payment count and amount per paidAt day and status, aggregated by the database.
+     * Defaults to the last 30 days; the range is capped so the result stays small.
+     */
+    public List<PaymentSummaryResponseDto> summarizePayments(LocalDate paidFrom, LocalDate paidTo) {
+        LocalDate to = (paidTo != null) ? paidTo : LocalDate.now();
+        LocalDate from = (paidFrom != null) ? paidFrom : to.minusDays(29);
+        validateRange(from, to);
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_SUMMARY_DAYS) {
+            throw new BusinessException("The summary range can not exceed " + MAX_SUMMARY_DAYS + " days",
+                    HttpStatus.BAD_REQUEST);
+        }
+        return repository.summarizeByDayAndStatus(from, to);
     }
 
     public PaymentResponseDto togglePaymentStatus(PaymentStatusUpdateRequest requestDto) {
@@ -68,6 +105,12 @@ public class PaymentService {
                 });
     }
 
+    private void validateRange(LocalDate paidFrom, LocalDate paidTo) {
+        if (paidFrom != null && paidTo != null && paidFrom.isAfter(paidTo)) {
+            throw new BusinessException("paidFrom must not be after paidTo", HttpStatus.BAD_REQUEST);
+        }
+    }
+
     private void validatePaymentAmount(Order order, PaymentRequestDto requestDto) {
         BigDecimal orderAmount = order.getTotalAmount();
         BigDecimal paymentAmount = requestDto.amount();
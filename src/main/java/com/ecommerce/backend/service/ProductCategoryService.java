@@ -2,12 +2,15 @@ package com.ecommerce.backend.service;
 
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
 import com.ecommerce.backend.dto.ResponseDto.ProductCategoryResponseDto;
+import com.ecommerce.backend.dto.ResponseDto.ProductResponseListDto;
 import com.ecommerce.backend.dto.requestDto.ProductCategoryRequestDto;
 import com.ecommerce.backend.mapper.ProductCategoryMapper;
+import com.ecommerce.backend.mapper.ProductMapper;
 import com.ecommerce.backend.model.Category;
 import com.ecommerce.backend.model.Product;
 import com.ecommerce.backend.model.ProductCategory;
@@ -25,6 +28,7 @@ public class ProductCategoryService implements IProductCategoryService {
     private final ProductCategoryMapper productCategoryMapper;
     private final ProductService productService;
     private final CategoryService categoryService;
+    private final ProductMapper productMapper;
 
     private void existingValidator(ProductCategoryRequestDto requestDto) {
         if (productCategoryRepository.existsByCategoryIdAndProductId(requestDto.categoryId(), requestDto.productId())) {
@@ -80,6 +84,14 @@ public class ProductCategoryService implements IProductCategoryService {
                 .map(productCategory -> productCategoryMapper.toResponseDto(productCategory)).toList();
     }
 
+    // The subtree comes from the in-memory category tree, so this is one product query plus its count.
+    @Override
+    public ProductResponseListDto findAllProductsInCategoryTree(Long categoryId, Pageable pageable) {
+        List<Long> categoryIds = categoryService.getSubtreeIds(categoryId);
+        return productMapper.toResponseListDto(
+                productCategoryRepository.findDistinctProductsByCategoryIdIn(categoryIds, pageable));
+    }
+
     @Override
     public void delete(Long id) {
         productCategoryRepository.findById(id).ifPresentOrElse(productCategoryRepository::delete,
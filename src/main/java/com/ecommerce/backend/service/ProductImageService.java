@@ -1,14 +1,22 @@
 package com.ecommerce.backend.service;
 
-import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
 import java.util.List;
-import java.util.UUID;
 
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -17,6 +25,9 @@ import com.ecommerce.backend.mapper.ProductImageMapper;
 import com.ecommerce.backend.model.Product;
 import com.ecommerce.backend.model.ProductImage;
 import com.ecommerce.backend.repository.ProductImageRepository;
+import com.ecommerce.backend.service.events.ProductImageUploadedEvent;
+import com.ecommerce.backend.service.image.ContentAddressedImageStore;
+import com.ecommerce.backend.service.image.StoredImage;
 
 import lombok.RequiredArgsConstructor;
 
@@ -26,43 +37,107 @@ public class ProductImageService {
     
     // Limite: 5MB (em bytes)
     private static final long MAX_FILE_SIZE = 5 * 1024 * 1024;
+    private static final long TRANSFER_CHUNK = 64 * 1024;
 
-    @Value("${file.upload-dir:uploads/images}")
-    private String uploadDir;
+    // Assinaturas ("magic numbers") aceitas
+    private static final byte[] JPEG_SIGNATURE = { (byte) 0xFF, (byte) 0xD8, (byte) 0xFF };
+    private static final byte[] PNG_SIGNATURE = { (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n' };
 
     private final ProductService productService;
     private final ProductImageRepository repository;
     private final ProductImageMapper mapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ContentAddressedImageStore imageStore;
 
     public ProductImageResponseDto saveImage(Long productid, MultipartFile file) throws IOException {
-        // Validar tipo
-        if (!file.getContentType().equals("image/jpeg") && !file.getContentType().equals("image/png")) {
-            throw new IllegalArgumentException("Only JPEG or PNG images are allowed");
-        }
-        
         // Validar tamanho
         if (file.getSize() > MAX_FILE_SIZE) {
             throw new IllegalArgumentException("File size exceeds maximum allowed size of 5MB. Current size: " + (file.getSize() / (1024 * 1024)) + "MB");
         }
-        
-        Product product = productService.getProduct(productid);
-
-        // Gerar nome único para o arquivo
-        String fileName = UUID.randomUUID().toString() + "_" + file.getOriginalFilename();
-        String filePath = uploadDir + File.separator + fileName;
 
         // Criar diretório se não existir
-        Files.createDirectories(Paths.get(uploadDir));
+        Path directory = imageStore.getRoot();
+        Files.createDirectories(directory);
+
+        // O arquivo temporário fica no mesmo volume, para o move final ser atômico
+        Path temp = Files.createTempFile(directory, "upload-", ".tmp");
+        try {
+            // Grava em disco em blocos, validando o tipo e calculando o hash no caminho
+            UploadedContent content = streamToFile(file, temp);
 
-        // Salvar arquivo no disco
-        Path path = Paths.get(filePath);
-        Files.write(path, file.getBytes());
+            Product product = productService.getProduct(productid);
 
-        // Salvar referência no banco de dados
-        ProductImage newProductImage = mapper.toEntity(file, product, filePath);
-        repository.save(newProductImage);
-        return mapper.toResponseDto(newProductImage);
+            // O nome do arquivo é o hash do conteúdo: a mesma imagem é guardada uma única vez
+            Path path = imageStore.store(temp, content.contentHash(), content.contentType());
+
+            // Salvar referência no banco de dados
+            ProductImage newProductImage = mapper.toEntity(file, product,
+                    new StoredImage(path.toString(), content.contentType(), content.contentHash()));
+            repository.save(newProductImage);
+
+            // Miniaturas e demais tamanhos são gerados em segundo plano
+            eventPublisher.publishEvent(new ProductImageUploadedEvent(newProductImage.getId(), path));
+            return mapper.toResponseDto(newProductImage);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+
+    }
+
+    /**
+     * Copia o upload para o arquivo temporário por um FileChannel, sem carregar o
+     * conteúdo inteiro na heap. O tipo vem dos primeiros bytes (assinatura JPEG/PNG),
+     * não do Content-Type enviado pelo cliente.
+     */
+    private UploadedContent streamToFile(MultipartFile file, Path target) throws IOException {
+        MessageDigest digest = sha256();
+        try (InputStream in = new DigestInputStream(file.getInputStream(), digest);
+                FileChannel out = FileChannel.open(target, StandardOpenOption.WRITE)) {
+            byte[] header = in.readNBytes(PNG_SIGNATURE.length);
+            String contentType = sniffContentType(header);
+            if (contentType == null) {
+                throw new IllegalArgumentException("Only JPEG or PNG images are allowed");
+            }
+            out.write(ByteBuffer.wrap(header));
+
+            ReadableByteChannel source = Channels.newChannel(in);
+            long position = header.length;
+            long copied;
+            while ((copied = out.transferFrom(source, position, TRANSFER_CHUNK)) > 0) {
+                position += copied;
+                // O tamanho declarado pode não bater com o corpo recebido
+                if (position > MAX_FILE_SIZE) {
+                    throw new IllegalArgumentException("File size exceeds maximum allowed size of 5MB");
+                }
+            }
+            return new UploadedContent(contentType, HexFormat.of().formatHex(digest.digest()));
+        }
+    }
+
+    private static String sniffContentType(byte[] header) {
+        if (startsWith(header, JPEG_SIGNATURE)) {
+            return "image/jpeg";
+        }
+        if (startsWith(header, PNG_SIGNATURE)) {
+            return "image/png";
+        }
+        return null;
+    }
+
+    private static boolean startsWith(byte[] header, byte[] signature) {
+        return header.length >= signature.length
+                && Arrays.equals(header, 0, signature.length, signature, 0, signature.length);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
 
+    private record UploadedContent(String contentType, String contentHash) {
     }
 
     public List<ProductImageResponseDto> getAllProductImages(Long productId) {
@@ -1,7 +1,17 @@
 package com.ecommerce.backend.service;
 
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -11,8 +21,12 @@ import com.ecommerce.backend.dto.ResponseDto.ProductResponseListDto;
 import com.ecommerce.backend.dto.requestDto.ProductRequestDto;
 import com.ecommerce.backend.mapper.ProductMapper;
 import com.ecommerce.backend.model.Product;
+import com.ecommerce.backend.repository.ProductCursor;
 import com.ecommerce.backend.repository.ProductRepository;
+import com.ecommerce.backend.service.cache.ProductCatalogCache;
+import com.ecommerce.backend.service.events.ProductChangedEvent;
 import com.ecommerce.backend.service.interfaces.IProductService;
+import com.ecommerce.backend.service.search.ProductSearchIndex;
 import com.ecommerce.backend.shared.exception.BusinessException;
 
 import lombok.AllArgsConstructor;
@@ -26,6 +40,12 @@ public class ProductService implements IProductService {
 
     private final ProductMapper productMapper;
 
+    private final ProductSearchIndex searchIndex;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final ProductCatalogCache catalogCache;
+
     @Override
     public ProductResponseListDto getAllProducts(Pageable pageable) {
         Page<Product> pagedProducts = productRepository.findAll(pageable);
@@ -39,60 +59,152 @@ public class ProductService implements IProductService {
         if (productRepository.existsByName(requestDto.name())) {
             throw new BusinessException("Product name already exists", HttpStatus.CONFLICT);
         }
-        Product product = productMapper.toEntity(requestDto);
-        return productMapper.toResponseDto(productRepository.save(product));
+        Product product = productRepository.save(productMapper.toEntity(requestDto));
+        eventPublisher.publishEvent(ProductChangedEvent.saved(product));
+        return productMapper.toResponseDto(product);
 
     }
 
     @Override
     public ProductResponseDto findProductById(Long id) {
-        Product product = productRepository.findById(id)
-                .orElseThrow(() -> new BusinessException("No product found with the id " + id, HttpStatus.NOT_FOUND));
-        return productMapper.toResponseDto(product);
+        ProductResponseDto product = catalogCache.get(id, this::loadSnapshot);
+        if (product == null) {
+            throw new BusinessException("No product found with the id " + id, HttpStatus.NOT_FOUND);
+        }
+        return product;
 
     }
 
+    /**
+     * Served from the in-memory search index (ranked by relevance when a name is given and
+     * no sort is requested); falls back to the database while the index is still being built
+     * or for a sort the index cannot apply. Unsorted results without a name are by name.
+     */
     @Override
     public ProductResponseListDto searchProducts(String name, Double maxPrice, Pageable pageable) {
+        if (searchIndex.canServe(pageable.getSort())) {
+            BigDecimal priceFilter = (maxPrice != null) ? BigDecimal.valueOf(maxPrice) : null;
+            ProductSearchIndex.Hits hits = searchIndex.search(name, priceFilter, pageable.getSort(),
+                    pageable.getOffset(), pageable.getPageSize());
+            return productMapper.toResponseListDto(loadPage(hits, pageable));
+        }
         Double priceFilter = (maxPrice != null) ? maxPrice : Double.MAX_VALUE;
         String nameFilter = (name != null) ? name : "";
+        Pageable byName = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+                pageable.getSortOr(Sort.by("name")));
         Page<Product> pagedProducts = productRepository
-                .findByNameContainingIgnoreCaseAndPriceLessThanEqual(nameFilter, priceFilter, pageable);
+                .findByNameContainingIgnoreCaseAndPriceLessThanEqual(nameFilter, priceFilter, byName);
         
         return productMapper.toResponseListDto(pagedProducts);
 
     }
 
+    private Page<Product> loadPage(ProductSearchIndex.Hits hits, Pageable pageable) {
+        Map<Long, Product> byId = new HashMap<>();
+        productRepository.findAllById(hits.ids()).forEach(product -> byId.put(product.getId(), product));
+        List<Product> content = hits.ids().stream().map(byId::get).filter(Objects::nonNull).toList();
+        return new PageImpl<>(content, pageable, hits.total());
+    }
+
+    /**
+     * Keyset variant of {@link #getAllProducts} / {@link #searchProducts}: pages by cursor
+     * instead of offset and never counts. A blank cursor starts from the first page.
+     */
+    @Override
+    public ProductResponseListDto getProductsAfter(String name, Double maxPrice, Pageable pageable, String cursor) {
+        Sort.Order order = pageable.getSort().stream().findFirst().orElse(Sort.Order.asc("name"));
+        if (!ProductCursor.SORTABLE_PROPERTIES.contains(order.getProperty())) {
+            throw new BusinessException("Cursor pagination only supports sorting by name or price",
+                    HttpStatus.BAD_REQUEST);
+        }
+        ProductCursor after = null;
+        if (cursor != null && !cursor.isBlank()) {
+            after = ProductCursor.decode(cursor);
+            if (!after.sortProperty().equals(order.getProperty())) {
+                throw new BusinessException("Cursor was issued for a different sort", HttpStatus.BAD_REQUEST);
+            }
+        }
+        BigDecimal priceFilter = (maxPrice != null) ? BigDecimal.valueOf(maxPrice) : null;
+        int pageSize = pageable.getPageSize();
+
+        // One extra row tells whether another page exists without a COUNT.
+        List<Product> products = productRepository.findPageAfter(name, priceFilter, order, after, pageSize + 1);
+        String nextCursor = null;
+        if (products.size() > pageSize) {
+            products = products.subList(0, pageSize);
+            nextCursor = ProductCursor.after(products.get(pageSize - 1), order.getProperty()).encode();
+        }
+        return productMapper.toCursorListDto(products, pageSize, nextCursor);
+    }
+
     @Override
     public ProductResponseDto updateProduct(ProductRequestDto requestDto, long id) {
         Product existingProduct = productRepository.findById(id)
                 .orElseThrow(() -> new BusinessException("No product found with the id " + id, HttpStatus.NOT_FOUND));
 
         productMapper.updateEntity(existingProduct, requestDto);
-        return productMapper.toResponseDto(productRepository.save(existingProduct));
+        Product saved = productRepository.save(existingProduct);
+        catalogCache.evict(id);
+        eventPublisher.publishEvent(ProductChangedEvent.saved(saved));
+        return productMapper.toResponseDto(saved);
 
     }
 
     @Override
     public void deleteProduct(long id) {
         productRepository.findById(id).ifPresentOrElse(
-                productRepository::delete,
+                product -> {
+                    productRepository.delete(product);
+                    catalogCache.evict(id);
+                    eventPublisher.publishEvent(ProductChangedEvent.deleted(id));
+                },
                 () -> {
                     throw new BusinessException("No product found with the id " + id, HttpStatus.NOT_FOUND);
                 });
     }
 
+    /**
+     * Product to link from carts, images and categories. Existence is checked through the
+     * catalog cache and a lazy reference is returned, so linking costs no SELECT on a hit.
+     * Do not read stock from it, since the reference may be served from the second-level
+     * cache. Use {@link #getStockQuantity} instead.
+     */
     public Product getProduct(Long id) {
-        Product product = productRepository.findById(id).orElseThrow(
-                () -> new BusinessException("No  product found with the id " + id,
-                        HttpStatus.NOT_FOUND));
-        return product;
+        if (catalogCache.get(id, this::loadSnapshot) == null) {
+            throw new BusinessException("No  product found with the id " + id,
+                    HttpStatus.NOT_FOUND);
+        }
+        return productRepository.getReferenceById(id);
+    }
+
+    // Current stock, read from the table and never from a cache
+    public int getStockQuantity(Long id) {
+        return productRepository.findStockQuantityById(id).orElseThrow(
+                () -> new BusinessException("No  product found with the id " + id, HttpStatus.NOT_FOUND));
+    }
+
+    private ProductResponseDto loadSnapshot(Long id) {
+        return productRepository.findById(id).map(productMapper::toResponseDto).orElse(null);
     }
 
 
     public void updateStockQuantity(Long productId, int takenQuantity){
-        Product product = getProduct(productId);
-        product.setStockQuantity(product.getStockQuantity()-takenQuantity);
-        productRepository.save(product);
+        catalogCache.evict(productId);
+        if (productRepository.decrementStockIfAvailable(productId, takenQuantity) == 0) {
+            if (!productRepository.existsById(productId)) {
+                throw new BusinessException("No  product found with the id " + productId, HttpStatus.NOT_FOUND);
+            }
+            throw new BusinessException("Requested quantity is not avalible anymore! Product id: " + productId,
+                    HttpStatus.CONFLICT);
+        }
+    }
+
+    /**
+     * Reserves stock for several products at once (product id -> quantity).
+     * Returns the ids that could not be reserved; the caller decides whether to roll back.
+     */
+    public List<Long> reserveStock(Map<Long, Integer> quantities) {
+        catalogCache.evict(quantities.keySet());
+        return productRepository.decrementStockIfAvailable(quantities);
     }
 }
@@ -13,6 +13,7 @@ import com.ecommerce.backend.mapper.UserMapper;
 import com.ecommerce.backend.model.User;
 import com.ecommerce.backend.model.enums.UserRole;
 import com.ecommerce.backend.repository.UserRepository;
+import com.ecommerce.backend.security.PrincipalCache;
 import com.ecommerce.backend.security.SecurityService;
 import com.ecommerce.backend.shared.exception.BusinessException;
 
@@ -26,6 +27,7 @@ public class UserService {
     private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
     private final SecurityService securityService;
+    private final PrincipalCache principalCache;
 
     public List<UserResponseDto> getAllUsers() {
         List<User> users = userRepository.findAll();
@@ -39,10 +41,13 @@ public class UserService {
         if (foundByEmail != null && foundByEmail.getId() != user.getId()) {
             throw new BusinessException("Email already in use", HttpStatus.CONFLICT);
         }
+        String previousEmail = user.getEmail();
         user.setEmail(authDto.email());
         user.setPassword(passwordEncoder.encode(authDto.password()));
         user.setRole(authDto.role());
         userRepository.save(user);
+        principalCache.evict(previousEmail);
+        principalCache.evict(user.getEmail());
         return new UserResponseDto(user.getEmail(), user.getRole());
 
     }
@@ -67,6 +72,7 @@ public class UserService {
 
         userToUpdate.setPassword(passwordEncoder.encode(dto.newPassword()));
         userRepository.save(userToUpdate);
+        principalCache.evict(userToUpdate.getEmail());
     }
 
     public UserResponseDto toggleUserLock(long userId) {
@@ -74,7 +80,9 @@ public class UserService {
                 .orElseThrow(() -> new BusinessException("No User Found with id " + userId, HttpStatus.NOT_FOUND));
 
         user.setLocked(!user.isLocked());
-        return userMapper.toResponseDto(userRepository.save(user));
+        User updatedUser = userRepository.save(user);
+        principalCache.evict(user.getEmail());
+        return userMapper.toResponseDto(updatedUser);
 
     }
 
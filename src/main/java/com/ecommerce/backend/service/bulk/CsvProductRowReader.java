@@ -0,0 +1,125 @@
+package com.ecommerce.backend.service.bulk;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import com.ecommerce.backend.dto.requestDto.ProductRequestDto;
+
+/**
+ * RFC 4180 CSV: comma separated, fields may be quoted, a doubled quote inside a quoted
+ * field is a literal quote and quoted fields may span lines. The first record is a
+ * header naming the columns name, description, price and stockQuantity, in any order.
+ */
+class CsvProductRowReader implements ProductRowReader {
+
+    private static final List<String> COLUMNS = List.of("name", "description", "price", "stockquantity");
+
+    private final BufferedReader in;
+    private final int[] columnIndex = new int[COLUMNS.size()];
+    private final int columnCount;
+    private long rowNumber;
+
+    CsvProductRowReader(Reader reader) throws IOException {
+        this.in = new BufferedReader(reader);
+        List<String> header = nextRecord();
+        if (header == null) {
+            this.columnCount = 0;
+            return;
+        }
+        List<String> names = header.stream().map(name -> name.trim().toLowerCase(Locale.ROOT)).toList();
+        for (int i = 0; i < COLUMNS.size(); i++) {
+            columnIndex[i] = names.indexOf(COLUMNS.get(i));
+            if (columnIndex[i] < 0) {
+                throw new IllegalArgumentException(
+                        "CSV header must contain the columns name, description, price and stockQuantity");
+            }
+        }
+        this.columnCount = header.size();
+    }
+
+    @Override
+    public ProductImportRow next() throws IOException {
+        if (columnCount == 0) {
+            return null;
+        }
+        List<String> fields;
+        do {
+            fields = nextRecord();
+            if (fields == null) {
+                return null;
+            }
+        } while (fields.size() == 1 && fields.get(0).isBlank());
+        rowNumber++;
+
+        if (fields.size() != columnCount) {
+            return ProductImportRow.invalid(rowNumber,
+                    "Expected " + columnCount + " columns but found " + fields.size());
+        }
+        String price = fields.get(columnIndex[2]).trim();
+        String stock = fields.get(columnIndex[3]).trim();
+        BigDecimal parsedPrice = null;
+        if (!price.isEmpty()) {
+            try {
+                parsedPrice = new BigDecimal(price);
+            } catch (NumberFormatException e) {
+                return ProductImportRow.invalid(rowNumber, "Invalid price '" + price + "'");
+            }
+        }
+        int parsedStock;
+        try {
+            parsedStock = Integer.parseInt(stock);
+        } catch (NumberFormatException e) {
+            return ProductImportRow.invalid(rowNumber, "Invalid stock quantity '" + stock + "'");
+        }
+        return ProductImportRow.parsed(rowNumber, new ProductRequestDto(
+                fields.get(columnIndex[0]), fields.get(columnIndex[1]), parsedPrice, parsedStock));
+    }
+
+    // One record, or null at the end of the input. An unterminated quote ends at EOF.
+    private List<String> nextRecord() throws IOException {
+        int c = in.read();
+        if (c == -1) {
+            return null;
+        }
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    quoted = false;
+                    continue;
+                }
+                if (c == '"') {
+                    c = in.read();
+                    if (c != '"') {
+                        quoted = false;
+                        continue;
+                    }
+                }
+                field.append((char) c);
+            } else if (c == -1 || c == '\n') {
+                fields.add(field.toString());
+                return fields;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = in.read();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
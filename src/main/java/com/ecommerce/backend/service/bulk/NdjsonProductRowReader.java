@@ -0,0 +1,77 @@
+package com.ecommerce.backend.service.bulk;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+
+import com.ecommerce.backend.dto.requestDto.ProductRequestDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.cfg.JsonNodeFeature;
+
+/**
+ * Newline-delimited JSON: one object per line with the fields of
+ * {@link ProductRequestDto}. Each line is parsed on its own, so a malformed line only
+ * rejects that row.
+ */
+class NdjsonProductRowReader implements ProductRowReader {
+
+    private final BufferedReader in;
+    private final ObjectReader jsonReader;
+    private long rowNumber;
+
+    NdjsonProductRowReader(Reader reader, ObjectMapper objectMapper) {
+        this.in = new BufferedReader(reader);
+        // Prices keep their exact decimal digits
+        this.jsonReader = objectMapper.reader()
+                .with(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+                .without(JsonNodeFeature.STRIP_TRAILING_BIGDECIMAL_ZEROES);
+    }
+
+    @Override
+    public ProductImportRow next() throws IOException {
+        String line;
+        do {
+            line = in.readLine();
+            if (line == null) {
+                return null;
+            }
+        } while (line.isBlank());
+        rowNumber++;
+
+        JsonNode node;
+        try {
+            node = jsonReader.readTree(line);
+        } catch (JsonProcessingException e) {
+            return ProductImportRow.invalid(rowNumber, "Malformed JSON: " + e.getOriginalMessage());
+        }
+        if (!node.isObject()) {
+            return ProductImportRow.invalid(rowNumber, "Expected a JSON object");
+        }
+        JsonNode price = node.path("price");
+        JsonNode stock = node.path("stockQuantity");
+        if (!price.isMissingNode() && !price.isNull() && !price.isNumber()) {
+            return ProductImportRow.invalid(rowNumber, "Invalid price '" + price.asText() + "'");
+        }
+        if (!stock.canConvertToInt() || !stock.isIntegralNumber()) {
+            return ProductImportRow.invalid(rowNumber, "Invalid stock quantity '" + stock.asText() + "'");
+        }
+        return ProductImportRow.parsed(rowNumber, new ProductRequestDto(
+                text(node.path("name")),
+                text(node.path("description")),
+                price.isNumber() ? price.decimalValue() : null,
+                stock.intValue()));
+    }
+
+    private static String text(JsonNode node) {
+        return node.isValueNode() && !node.isNull() ? node.asText() : null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
@@ -0,0 +1,18 @@
+package com.ecommerce.backend.service.bulk;
+
+import com.ecommerce.backend.dto.requestDto.ProductRequestDto;
+
+/**
+ * One logical row of an import file. {@code error} is set (and {@code product} null)
+ * when the row could not be parsed.
+ */
+public record ProductImportRow(long rowNumber, ProductRequestDto product, String error) {
+
+    static ProductImportRow parsed(long rowNumber, ProductRequestDto product) {
+        return new ProductImportRow(rowNumber, product, null);
+    }
+
+    static ProductImportRow invalid(long rowNumber, String error) {
+        return new ProductImportRow(rowNumber, null, error);
+    }
+}
@@ -0,0 +1,351 @@
+package com.ecommerce.backend.service.bulk;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ecommerce.backend.dto.ResponseDto.ProductImportJobResponseDto;
+import com.ecommerce.backend.dto.requestDto.ProductRequestDto;
+import com.ecommerce.backend.mapper.ProductImportMapper;
+import com.ecommerce.backend.mapper.ProductMapper;
+import com.ecommerce.backend.model.Product;
+import com.ecommerce.backend.model.ProductImportError;
+import com.ecommerce.backend.model.ProductImportJob;
+import com.ecommerce.backend.model.enums.DataFormat;
+import com.ecommerce.backend.model.enums.ImportJobStatus;
+import com.ecommerce.backend.repository.ProductImportErrorRepository;
+import com.ecommerce.backend.repository.ProductImportJobRepository;
+import com.ecommerce.backend.repository.ProductRepository;
+import com.ecommerce.backend.service.events.ProductChangedEvent;
+import com.ecommerce.backend.shared.exception.BusinessException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Bulk product import (POST /products/bulk).
+ *
+ * The request body is copied to a spool file as it arrives and the job is processed by
+ * a background thread that parses the file row by row, so neither the HTTP request nor
+ * the import ever holds the whole file in memory. Rows are validated and inserted in
+ * chunks of {@code chunk-size}, one transaction and one JDBC batch per chunk. Names are
+ * checked against a set preloaded once per run instead of one existsByName per row.
+ *
+ * The job row is advanced in the chunk's transaction, so after a crash or shutdown the
+ * job resumes after the last committed row: unfinished jobs restart when the application
+ * is ready, failed ones on request.
+ */
+@Service
+public class ProductImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductImportService.class);
+    private static final Set<ImportJobStatus> UNFINISHED = EnumSet.of(ImportJobStatus.QUEUED, ImportJobStatus.RUNNING);
+    private static final int ERRORS_IN_RESPONSE = 100;
+    private static final int MAX_TEXT_LENGTH = 255;
+
+    private final ProductImportJobRepository jobRepository;
+    private final ProductImportErrorRepository errorRepository;
+    private final ProductRepository productRepository;
+    private final ProductMapper productMapper;
+    private final ProductImportMapper importMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Path spoolDir;
+    private final int chunkSize;
+    private final int maxStoredErrors;
+    private final Set<Long> activeJobs = ConcurrentHashMap.newKeySet();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "product-import");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ProductImportService(ProductImportJobRepository jobRepository,
+            ProductImportErrorRepository errorRepository,
+            ProductRepository productRepository,
+            ProductMapper productMapper,
+            ProductImportMapper importMapper,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            @Value("${api.catalog.import.spool-dir:${java.io.tmpdir}/product-imports}") String spoolDir,
+            @Value("${api.catalog.import.chunk-size:1000}") int chunkSize,
+            @Value("${api.catalog.import.max-stored-errors:1000}") int maxStoredErrors) {
+        this.jobRepository = jobRepository;
+        this.errorRepository = errorRepository;
+        this.productRepository = productRepository;
+        this.productMapper = productMapper;
+        this.importMapper = importMapper;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.spoolDir = Paths.get(spoolDir);
+        this.chunkSize = chunkSize;
+        this.maxStoredErrors = maxStoredErrors;
+    }
+
+    /**
+     * Spools {@code body} to disk and queues the import.
+     */
+    public ProductImportJobResponseDto startImport(DataFormat format, InputStream body) throws IOException {
+        Files.createDirectories(spoolDir);
+        Path spoolFile = Files.createTempFile(spoolDir, "import-", "." + format.getFileExtension());
+        try {
+            Files.copy(body, spoolFile, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            Files.deleteIfExists(spoolFile);
+            throw e;
+        }
+        ProductImportJob job = jobRepository.save(ProductImportJob.builder()
+                .format(format)
+                .status(ImportJobStatus.QUEUED)
+                .spoolFile(spoolFile.toString())
+                .build());
+        submit(job.getId());
+        return importMapper.toResponseDto(job, List.of());
+    }
+
+    public ProductImportJobResponseDto getJob(Long id) {
+        ProductImportJob job = findJob(id);
+        return importMapper.toResponseDto(job,
+                errorRepository.findByJobIdOrderByRowNumber(id, PageRequest.of(0, ERRORS_IN_RESPONSE)));
+    }
+
+    /**
+     * Queues a failed job again; it continues after its last committed row.
+     */
+    public ProductImportJobResponseDto resumeImport(Long id) {
+        ProductImportJob job = findJob(id);
+        if (job.getStatus() == ImportJobStatus.COMPLETED) {
+            throw new BusinessException("Import job " + id + " is already completed", HttpStatus.CONFLICT);
+        }
+        if (activeJobs.contains(id)) {
+            throw new BusinessException("Import job " + id + " is already running", HttpStatus.CONFLICT);
+        }
+        job.setStatus(ImportJobStatus.QUEUED);
+        job.setFailureMessage(null);
+        job = jobRepository.save(job);
+        submit(id);
+        return importMapper.toResponseDto(job, List.of());
+    }
+
+    // Jobs left QUEUED or RUNNING by a previous shutdown pick up where they stopped.
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinishedImports() {
+        for (ProductImportJob job : jobRepository.findByStatusInOrderById(UNFINISHED)) {
+            log.info("Resuming product import {} after row {}", job.getId(), job.getRowsRead());
+            submit(job.getId());
+        }
+    }
+
+    /**
+     * Runs an import on the calling thread until the file ends, the job fails or the
+     * thread is interrupted (the job then stays RUNNING and is resumed on the next start).
+     */
+    public void process(Long jobId) {
+        if (!activeJobs.add(jobId)) {
+            return;
+        }
+        try {
+            ProductImportJob job = jobRepository.findById(jobId).orElse(null);
+            if (job == null || job.getStatus() == ImportJobStatus.COMPLETED) {
+                return;
+            }
+            job.setStatus(ImportJobStatus.RUNNING);
+            if (job.getStartedAt() == null) {
+                job.setStartedAt(LocalDateTime.now());
+            }
+            job = jobRepository.save(job);
+            try {
+                if (run(job)) {
+                    complete(job);
+                }
+            } catch (IOException | RuntimeException e) {
+                log.error("Product import {} failed", jobId, e);
+                fail(job, e);
+            }
+        } finally {
+            activeJobs.remove(jobId);
+        }
+    }
+
+    private boolean run(ProductImportJob job) throws IOException {
+        ImportRun run = new ImportRun(job);
+        long skip = job.getRowsRead();
+        Path spoolFile = Paths.get(job.getSpoolFile());
+        try (ProductRowReader reader = ProductRowReader.open(job.getFormat(),
+                Files.newBufferedReader(spoolFile, StandardCharsets.UTF_8), objectMapper)) {
+            List<ProductImportRow> chunk = new ArrayList<>(chunkSize);
+            ProductImportRow row;
+            while ((row = reader.next()) != null) {
+                if (row.rowNumber() <= skip) {
+                    continue;
+                }
+                chunk.add(row);
+                if (chunk.size() == chunkSize) {
+                    if (Thread.currentThread().isInterrupted()) {
+                        return false;
+                    }
+                    commitChunk(run, chunk);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                commitChunk(run, chunk);
+            }
+        }
+        return true;
+    }
+
+    private void commitChunk(ImportRun run, List<ProductImportRow> chunk) {
+        long startedAt = System.nanoTime();
+        Set<String> chunkNames = new HashSet<>();
+        List<Product> accepted = new ArrayList<>();
+        List<ProductImportError> errors = new ArrayList<>();
+        int rejected = 0;
+        for (ProductImportRow row : chunk) {
+            String error = row.error() != null ? row.error() : validate(row.product());
+            if (error == null) {
+                String key = nameKey(row.product().name());
+                if (run.names.contains(key) || !chunkNames.add(key)) {
+                    error = "Product name already exists";
+                }
+            }
+            if (error == null) {
+                accepted.add(productMapper.toEntity(trimmed(row.product())));
+                continue;
+            }
+            rejected++;
+            if (run.storedErrors + errors.size() < maxStoredErrors) {
+                errors.add(ProductImportError.builder()
+                        .jobId(run.job.getId())
+                        .rowNumber(row.rowNumber())
+                        .message(error)
+                        .build());
+            }
+        }
+
+        long rejectedRows = rejected;
+        transactionTemplate.executeWithoutResult(status -> {
+            productRepository.insertAll(accepted, run.job.getCreatedBy(), chunkSize);
+            errorRepository.saveAll(errors);
+            jobRepository.advance(run.job.getId(), chunk.size(), accepted.size(), rejectedRows);
+            if (!accepted.isEmpty()) {
+                // Delivered after commit, like single creates, so the search index sees the new rows
+                productRepository.findByNameIn(accepted.stream().map(Product::getName).toList())
+                        .forEach(product -> eventPublisher.publishEvent(ProductChangedEvent.saved(product)));
+            }
+        });
+        run.names.addAll(chunkNames);
+        run.storedErrors += errors.size();
+        log.debug("Product import {}: {} rows in {} ms", run.job.getId(), chunk.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    }
+
+    private static String validate(ProductRequestDto product) {
+        if (product.name() == null || product.name().isBlank()) {
+            return "The name can not be null";
+        }
+        if (product.description() == null || product.description().isBlank()) {
+            return "The Description can not be null";
+        }
+        if (product.name().trim().length() > MAX_TEXT_LENGTH || product.description().trim().length() > MAX_TEXT_LENGTH) {
+            return "The name and description can not be longer than " + MAX_TEXT_LENGTH + " characters";
+        }
+        if (product.price() == null) {
+            return "The price can not be null";
+        }
+        if (product.price().signum() < 0) {
+            return "The price can not be negative";
+        }
+        if (product.stockQuantity() < 0) {
+            return "The stock Quantity can not be negative";
+        }
+        return null;
+    }
+
+    private static ProductRequestDto trimmed(ProductRequestDto product) {
+        return new ProductRequestDto(product.name().trim(), product.description().trim(), product.price(),
+                product.stockQuantity());
+    }
+
+    // Product names are unique ignoring case, as under the MySQL collation
+    private static String nameKey(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private void complete(ProductImportJob job) throws IOException {
+        ProductImportJob finished = findJob(job.getId());
+        finished.setStatus(ImportJobStatus.COMPLETED);
+        finished.setFinishedAt(LocalDateTime.now());
+        jobRepository.save(finished);
+        Files.deleteIfExists(Paths.get(finished.getSpoolFile()));
+        log.info("Product import {} completed: {} imported, {} rejected", finished.getId(),
+                finished.getRowsImported(), finished.getRowsRejected());
+    }
+
+    private void fail(ProductImportJob job, Exception cause) {
+        ProductImportJob failed = findJob(job.getId());
+        failed.setStatus(ImportJobStatus.FAILED);
+        String message = cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+        failed.setFailureMessage(message.length() > 1000 ? message.substring(0, 1000) : message);
+        jobRepository.save(failed);
+    }
+
+    private ProductImportJob findJob(Long id) {
+        return jobRepository.findById(id).orElseThrow(
+                () -> new BusinessException("No import job found with the id " + id, HttpStatus.NOT_FOUND));
+    }
+
+    private void submit(Long jobId) {
+        executor.execute(() -> process(jobId));
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    // State of one pass over a job's file
+    private final class ImportRun {
+
+        private final ProductImportJob job;
+        private final Set<String> names = new HashSet<>();
+        private long storedErrors;
+
+        private ImportRun(ProductImportJob job) {
+            this.job = job;
+            productRepository.findAllNames().forEach(name -> names.add(nameKey(name)));
+            this.storedErrors = Math.min(job.getRowsRejected(), maxStoredErrors);
+        }
+    }
+}
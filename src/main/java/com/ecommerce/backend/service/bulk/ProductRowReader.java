@@ -0,0 +1,28 @@
+package com.ecommerce.backend.service.bulk;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+import com.ecommerce.backend.model.enums.DataFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Forward-only parser over an import file: rows are produced one at a time, so memory
+ * use does not depend on the size of the file. Row numbers start at 1 and do not count
+ * the CSV header or blank lines.
+ */
+public interface ProductRowReader extends Closeable {
+
+    /**
+     * @return the next row, or null at the end of the input
+     */
+    ProductImportRow next() throws IOException;
+
+    static ProductRowReader open(DataFormat format, Reader reader, ObjectMapper objectMapper) throws IOException {
+        return switch (format) {
+            case CSV -> new CsvProductRowReader(reader);
+            case NDJSON -> new NdjsonProductRowReader(reader, objectMapper);
+        };
+    }
+}
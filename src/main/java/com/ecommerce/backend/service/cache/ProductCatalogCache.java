@@ -0,0 +1,77 @@
+package com.ecommerce.backend.service.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.ecommerce.backend.dto.ResponseDto.ProductResponseDto;
+import com.ecommerce.backend.shared.cache.CacheLoads;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Bounded cache of product snapshots (the immutable response DTO) keyed by id.
+ * Caffeine evicts by size with W-TinyLFU; hit/miss, eviction and load-time
+ * statistics are published as the "products" cache metrics.
+ * Every product or stock write must call {@link #evict}.
+ */
+@Component
+public class ProductCatalogCache {
+
+    public static final String CACHE_NAME = "products";
+
+    private final AsyncCache<Long, ProductResponseDto> cache;
+
+    public ProductCatalogCache(
+            @Value("${api.catalog.product-cache.maximum-size:10000}") long maximumSize,
+            @Value("${api.catalog.product-cache.ttl:10m}") Duration ttl,
+            MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    // Unknown ids are not cached: the loader returning null leaves no entry.
+    // The loader runs on the calling thread, outside the cache's locks (see CacheLoads).
+    public ProductResponseDto get(Long id, Function<Long, ProductResponseDto> loader) {
+        return CacheLoads.getOrLoad(cache, id, loader);
+    }
+
+    public void evict(Long id) {
+        evict(List.of(id));
+    }
+
+    /**
+     * Evicts now and again once the surrounding transaction completes, so a read that
+     * races the write cannot re-cache the value the transaction is replacing.
+     */
+    public void evict(Collection<Long> ids) {
+        cache.synchronous().invalidateAll(ids);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            List<Long> snapshot = List.copyOf(ids);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.synchronous().invalidateAll(snapshot);
+                }
+            });
+        }
+    }
+
+    public CacheStats stats() {
+        return cache.synchronous().stats();
+    }
+}
@@ -0,0 +1,179 @@
+package com.ecommerce.backend.service.category;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import com.ecommerce.backend.repository.CategoryNode;
+
+/**
+ * Immutable snapshot of the category hierarchy.
+ *
+ * Every node gets an Euler-tour interval [entry, exit) from a preorder walk, so a
+ * subtree is a contiguous slice of the preorder array and "is X under Y" is two
+ * integer comparisons. Nothing here touches the database; a new snapshot is built
+ * after every category write (see {@link CategoryTreeHolder}).
+ */
+public final class CategoryTree {
+
+    private static final CategoryTree EMPTY = of(List.of());
+
+    private final Map<Long, CategoryNode> nodes;
+    private final Map<Long, Integer> entry;
+    private final Map<Long, Integer> exit;
+    private final Long[] preorder;
+
+    private CategoryTree(Map<Long, CategoryNode> nodes, Map<Long, Integer> entry, Map<Long, Integer> exit,
+            Long[] preorder) {
+        this.nodes = nodes;
+        this.entry = entry;
+        this.exit = exit;
+        this.preorder = preorder;
+    }
+
+    public static CategoryTree empty() {
+        return EMPTY;
+    }
+
+    public static CategoryTree of(Collection<CategoryNode> categories) {
+        Map<Long, CategoryNode> nodes = new LinkedHashMap<>();
+        categories.stream()
+                .sorted(Comparator.comparing(CategoryNode::id))
+                .forEach(node -> nodes.put(node.id(), node));
+
+        Map<Long, List<Long>> children = new HashMap<>();
+        List<Long> roots = new ArrayList<>();
+        for (CategoryNode node : nodes.values()) {
+            if (node.parentId() == null || !nodes.containsKey(node.parentId())) {
+                roots.add(node.id());
+            } else {
+                children.computeIfAbsent(node.parentId(), k -> new ArrayList<>()).add(node.id());
+            }
+        }
+
+        Map<Long, Integer> entry = new HashMap<>();
+        Map<Long, Integer> exit = new HashMap<>();
+        Long[] preorder = new Long[nodes.size()];
+        int[] clock = { 0 };
+        for (Long root : roots) {
+            walk(root, children, entry, exit, preorder, clock);
+        }
+        // Rows left over can only sit on a parent cycle stored before validation existed;
+        // give each cycle a root so every id still has an interval.
+        for (Long id : nodes.keySet()) {
+            if (!entry.containsKey(id)) {
+                walk(id, children, entry, exit, preorder, clock);
+            }
+        }
+        return new CategoryTree(Collections.unmodifiableMap(nodes), entry, exit, preorder);
+    }
+
+    // Iterative preorder walk, so a deep hierarchy cannot overflow the stack.
+    private static void walk(Long root, Map<Long, List<Long>> children, Map<Long, Integer> entry,
+            Map<Long, Integer> exit, Long[] preorder, int[] clock) {
+        Deque<Long> path = new ArrayDeque<>();
+        Deque<Iterator<Long>> pending = new ArrayDeque<>();
+        entry.put(root, clock[0]);
+        preorder[clock[0]++] = root;
+        path.push(root);
+        pending.push(children.getOrDefault(root, List.of()).iterator());
+        while (!pending.isEmpty()) {
+            Iterator<Long> next = pending.peek();
+            if (next.hasNext()) {
+                Long child = next.next();
+                if (entry.containsKey(child)) {
+                    continue;
+                }
+                entry.put(child, clock[0]);
+                preorder[clock[0]++] = child;
+                path.push(child);
+                pending.push(children.getOrDefault(child, List.of()).iterator());
+            } else {
+                pending.pop();
+                exit.put(path.pop(), clock[0]);
+            }
+        }
+    }
+
+    public boolean contains(Long id) {
+        return id != null && nodes.containsKey(id);
+    }
+
+    public Optional<CategoryNode> find(Long id) {
+        return Optional.ofNullable(id == null ? null : nodes.get(id));
+    }
+
+    // Ordered by id, the same order findAll() returned.
+    public List<CategoryNode> all() {
+        return List.copyOf(nodes.values());
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    /**
+     * Ids from the root down to the direct parent of the category; empty for a root
+     * or an unknown id.
+     */
+    public List<Long> ancestors(Long id) {
+        List<Long> path = new ArrayList<>();
+        CategoryNode node = id == null ? null : nodes.get(id);
+        if (node == null) {
+            return path;
+        }
+        Set<Long> seen = new HashSet<>(Set.of(id));
+        while (node.parentId() != null) {
+            CategoryNode parent = nodes.get(node.parentId());
+            if (parent == null || !seen.add(parent.id())) {
+                break;
+            }
+            path.add(parent.id());
+            node = parent;
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    /**
+     * The category itself followed by all of its descendants, in preorder; empty for
+     * an unknown id.
+     */
+    public List<Long> subtree(Long id) {
+        Integer from = id == null ? null : entry.get(id);
+        if (from == null) {
+            return List.of();
+        }
+        return Collections.unmodifiableList(Arrays.asList(preorder).subList(from, exit.get(id)));
+    }
+
+    // True when candidate is ancestor itself or lies anywhere below it.
+    public boolean isInSubtree(Long ancestor, Long candidate) {
+        Integer ancestorEntry = ancestor == null ? null : entry.get(ancestor);
+        Integer candidateEntry = candidate == null ? null : entry.get(candidate);
+        if (ancestorEntry == null || candidateEntry == null) {
+            return false;
+        }
+        return ancestorEntry <= candidateEntry && candidateEntry < exit.get(ancestor);
+    }
+
+    /**
+     * Whether making newParentId the parent of categoryId would close a loop, i.e. the
+     * new parent is the category itself or one of its descendants.
+     */
+    public boolean wouldCreateCycle(Long categoryId, Long newParentId) {
+        return isInSubtree(categoryId, newParentId);
+    }
+}
@@ -0,0 +1,72 @@
+package com.ecommerce.backend.service.category;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.ecommerce.backend.repository.CategoryRepository;
+
+/**
+ * Holds the current {@link CategoryTree}. The snapshot is built lazily with a single
+ * query and dropped by {@link #invalidate()} on every category write; readers never
+ * block each other once a snapshot exists.
+ */
+@Component
+public class CategoryTreeHolder {
+
+    private final CategoryRepository categoryRepository;
+    private final ReentrantLock buildLock = new ReentrantLock();
+    // Bumped by every invalidation, so a build that overlapped a write is not published.
+    private final AtomicLong generation = new AtomicLong();
+    private volatile CategoryTree tree;
+
+    public CategoryTreeHolder(CategoryRepository categoryRepository) {
+        this.categoryRepository = categoryRepository;
+    }
+
+    public CategoryTree current() {
+        CategoryTree snapshot = tree;
+        if (snapshot != null) {
+            return snapshot;
+        }
+        buildLock.lock();
+        try {
+            snapshot = tree;
+            if (snapshot != null) {
+                return snapshot;
+            }
+            long startedAt = generation.get();
+            CategoryTree built = CategoryTree.of(categoryRepository.findAllNodes());
+            if (generation.get() == startedAt) {
+                tree = built;
+            }
+            return built;
+        } finally {
+            buildLock.unlock();
+        }
+    }
+
+    /**
+     * Drops the snapshot now and again once the surrounding transaction completes,
+     * so a tree built from uncommitted or rolled back rows is never kept.
+     */
+    public void invalidate() {
+        drop();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    drop();
+                }
+            });
+        }
+    }
+
+    private void drop() {
+        generation.incrementAndGet();
+        tree = null;
+    }
+}
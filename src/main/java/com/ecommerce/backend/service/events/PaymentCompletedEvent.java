@@ -1,14 +1,6 @@
 package com.ecommerce.backend.service.events;
 
-import lombok.AllArgsConstructor;
-import lombok.Getter;
+// Delivered through the outbox, so it is stored as JSON and must stay (de)serializable.
+public record PaymentCompletedEvent(Long orderId, Long paymentId) {
 
-@AllArgsConstructor
-@Getter
-public class PaymentCompletedEvent {
-
-    private final Long orderId;
-    private final Long paymentId;
-
-   
 }
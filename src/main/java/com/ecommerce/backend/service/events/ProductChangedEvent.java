@@ -0,0 +1,27 @@
+package com.ecommerce.backend.service.events;
+
+import com.ecommerce.backend.model.Product;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public class ProductChangedEvent {
+
+    private final Long productId;
+    // null when the product was deleted
+    private final Product product;
+
+    public static ProductChangedEvent saved(Product product) {
+        return new ProductChangedEvent(product.getId(), product);
+    }
+
+    public static ProductChangedEvent deleted(Long productId) {
+        return new ProductChangedEvent(productId, null);
+    }
+
+    public boolean isDeleted() {
+        return product == null;
+    }
+}
@@ -0,0 +1,15 @@
+package com.ecommerce.backend.service.events;
+
+import java.nio.file.Path;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public class ProductImageUploadedEvent {
+
+    private final Long imageId;
+    // original file on the upload volume
+    private final Path path;
+}
@@ -0,0 +1,108 @@
+package com.ecommerce.backend.service.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.ecommerce.backend.model.enums.DataFormat;
+import com.ecommerce.backend.shared.exception.BusinessException;
+import com.ecommerce.backend.repository.ExportQueries;
+import com.ecommerce.backend.repository.OrderExportRow;
+import com.ecommerce.backend.repository.OrderRepository;
+import com.ecommerce.backend.repository.PaymentExportRow;
+import com.ecommerce.backend.repository.PaymentRepository;
+import com.ecommerce.backend.repository.ProductExportRow;
+import com.ecommerce.backend.repository.ProductRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Full or incremental exports of products, orders and payments.
+ *
+ * Each export is one read-only transaction around a forward-only query: rows are
+ * fetched {@link ExportQueries#FETCH_SIZE} at a time, mapped to flat records without
+ * entering the persistence context and written straight to the response. Memory use
+ * does not depend on the number of rows. {@code updatedSince} restricts the export to
+ * rows changed at or after that instant. Each export is returned as a ready response: the
+ * format is negotiated from its name and the body is sent as an attachment named after
+ * the exported table.
+ */
+@Service
+public class ExportService {
+
+    private final ProductRepository productRepository;
+    private final OrderRepository orderRepository;
+    private final PaymentRepository paymentRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public ExportService(ProductRepository productRepository, OrderRepository orderRepository,
+            PaymentRepository paymentRepository, ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager) {
+        this.productRepository = productRepository;
+        this.orderRepository = orderRepository;
+        this.paymentRepository = paymentRepository;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public ResponseEntity<StreamingResponseBody> exportProducts(String format, LocalDateTime updatedSince) {
+        return download(format, "products", dataFormat -> out -> export(dataFormat, ProductExportRow.class,
+                () -> productRepository.streamForExport(updatedSince), out));
+    }
+
+    public ResponseEntity<StreamingResponseBody> exportOrders(String format, LocalDateTime updatedSince) {
+        return download(format, "orders", dataFormat -> out -> export(dataFormat, OrderExportRow.class,
+                () -> orderRepository.streamForExport(updatedSince), out));
+    }
+
+    public ResponseEntity<StreamingResponseBody> exportPayments(String format, LocalDateTime updatedSince) {
+        return download(format, "payments", dataFormat -> out -> export(dataFormat, PaymentExportRow.class,
+                () -> paymentRepository.streamForExport(updatedSince), out));
+    }
+
+    private static ResponseEntity<StreamingResponseBody> download(String format, String fileName,
+            Function<DataFormat, StreamingResponseBody> body) {
+        DataFormat dataFormat = DataFormat.fromName(format).orElseThrow(
+                () -> new BusinessException("Unknown export format " + format, HttpStatus.BAD_REQUEST));
+        return ResponseEntity.ok()
+                .contentType(dataFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(fileName + "." + dataFormat.getFileExtension()).build().toString())
+                .body(body.apply(dataFormat));
+    }
+
+    // Runs on the thread writing the response, after the controller method has returned.
+    private <T extends Record> void export(DataFormat format, Class<T> type, Supplier<Stream<T>> query,
+            OutputStream out) throws IOException {
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<T> rows = query.get();
+                        ExportWriter<T> writer = ExportWriter.open(format, type, out, objectMapper)) {
+                    Iterator<T> iterator = rows.iterator();
+                    while (iterator.hasNext()) {
+                        writer.write(iterator.next());
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+}
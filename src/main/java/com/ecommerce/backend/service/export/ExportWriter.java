@@ -0,0 +1,118 @@
+package com.ecommerce.backend.service.export;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import com.ecommerce.backend.model.enums.DataFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Writes export rows (records) to a response stream one at a time, as NDJSON (one JSON
+ * object per line) or CSV (a header with the record component names, then RFC 4180
+ * rows). Output is buffered and only flushed on {@link #close}; the underlying stream
+ * is left open.
+ */
+abstract class ExportWriter<T extends Record> implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    abstract void write(T row) throws IOException;
+
+    static <T extends Record> ExportWriter<T> open(DataFormat format, Class<T> type, OutputStream out,
+            ObjectMapper objectMapper) throws IOException {
+        return switch (format) {
+            case NDJSON -> new Ndjson<>(out, objectMapper);
+            case CSV -> new Csv<>(type, out);
+        };
+    }
+
+    private static final class Ndjson<T extends Record> extends ExportWriter<T> {
+
+        private final JsonGenerator generator;
+        private final ObjectWriter writer;
+
+        private Ndjson(OutputStream out, ObjectMapper objectMapper) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(out)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // Flushing after every row would send one tiny chunk per row
+            this.writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        }
+
+        @Override
+        void write(T row) throws IOException {
+            writer.writeValue(generator, row);
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+    }
+
+    private static final class Csv<T extends Record> extends ExportWriter<T> {
+
+        private final RecordComponent[] components;
+        private final BufferedWriter out;
+
+        private Csv(Class<T> type, OutputStream out) throws IOException {
+            this.components = type.getRecordComponents();
+            this.out = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+            for (int i = 0; i < components.length; i++) {
+                field(i, components[i].getName());
+            }
+            this.out.write("\r\n");
+        }
+
+        @Override
+        void write(T row) throws IOException {
+            for (int i = 0; i < components.length; i++) {
+                field(i, value(row, components[i]));
+            }
+            out.write("\r\n");
+        }
+
+        private void field(int index, String value) throws IOException {
+            if (index > 0) {
+                out.write(',');
+            }
+            if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0
+                    || value.indexOf('\r') >= 0) {
+                out.write('"');
+                out.write(value.replace("\"", "\"\""));
+                out.write('"');
+            } else {
+                out.write(value);
+            }
+        }
+
+        private static String value(Record row, RecordComponent component) {
+            Object value;
+            try {
+                value = component.getAccessor().invoke(row);
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new UncheckedIOException(new IOException("Cannot read " + component.getName(), e));
+            }
+            if (value == null) {
+                return "";
+            }
+            return value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString();
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.flush();
+        }
+    }
+}
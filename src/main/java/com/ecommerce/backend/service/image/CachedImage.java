@@ -0,0 +1,25 @@
+package com.ecommerce.backend.service.image;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
+
+/**
+ * What /images needs to answer for one file, computed once when the file is first
+ * served: its headers, and the bytes themselves when the file is small enough to keep
+ * in memory ({@code content} is null otherwise and the body is streamed from disk).
+ */
+public record CachedImage(Path path, MediaType contentType, String eTag, long lastModified, long size,
+        ByteBuffer content) {
+
+    public boolean isResident() {
+        return content != null;
+    }
+
+    public Resource body() {
+        return isResident() ? new ByteBufferResource(content, path, lastModified) : new FileSystemResource(path);
+    }
+}
@@ -0,0 +1,102 @@
+package com.ecommerce.backend.service.image;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Image files named by the SHA-256 of their bytes: the same picture uploaded for
+ * 200 products is stored once. Files live under two levels of shard directories
+ * taken from the hash ({@code ab/cd/abcd....jpg}), so no directory grows past a few
+ * thousand entries. Variants share the hash ({@code abcd..._card.jpg}) and sit next
+ * to their original.
+ *
+ * A file's references are the ProductImage rows carrying its hash; files without any
+ * are removed by {@link ImageStoreGarbageCollector}.
+ */
+@Component
+public class ContentAddressedImageStore {
+
+    // "<64 hex>.ext" ou "<64 hex>_variant.ext"
+    private static final Pattern STORED_NAME = Pattern.compile("^([0-9a-f]{64})(_[a-z]+)?\\.[a-z]+$");
+    private static final int LOCK_STRIPES = 64;
+
+    private final Path root;
+    // Striped by hash: a dedup hit in store() and the collector's delete never overlap
+    private final Lock[] hashLocks = new Lock[LOCK_STRIPES];
+
+    public ContentAddressedImageStore(@Value("${file.upload-dir:uploads/images}") String uploadDir) {
+        this.root = Paths.get(uploadDir);
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            hashLocks[i] = new ReentrantLock();
+        }
+    }
+
+    public Path getRoot() {
+        return root;
+    }
+
+    /**
+     * Moves a finished upload to its content address. When the same content is already
+     * stored the upload is discarded and the existing file is reused.
+     */
+    public Path store(Path upload, String contentHash, String contentType) throws IOException {
+        Path target = locate(contentHash + extension(contentType));
+        Files.createDirectories(target.getParent());
+        Lock lock = lockFor(contentHash);
+        lock.lock();
+        try {
+            if (Files.exists(target)) {
+                Files.delete(upload);
+                // A reused file may be an orphan waiting for the collector; a fresh mtime puts
+                // it back inside the grace period until the new row commits.
+                Files.setLastModifiedTime(target, FileTime.fromMillis(System.currentTimeMillis()));
+            } else {
+                // Two concurrent uploads of the same bytes may both get here; the second
+                // rename replaces an identical file.
+                Files.move(upload, target, StandardCopyOption.ATOMIC_MOVE);
+            }
+        } finally {
+            lock.unlock();
+        }
+        return target;
+    }
+
+    /**
+     * Lock guarding the files of one content hash. The collector holds it while it re-checks
+     * and deletes them, so a concurrent upload either refreshes the file first or stores a new one.
+     */
+    public Lock lockFor(String contentHash) {
+        return hashLocks[Math.floorMod(contentHash.hashCode(), LOCK_STRIPES)];
+    }
+
+    /**
+     * Path of a stored name: content-addressed names go to their shard, anything else
+     * (uploads made before the store existed) is looked up in the root directory.
+     */
+    public Path locate(String fileName) {
+        return contentHashOf(fileName)
+                .map(hash -> root.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(fileName))
+                .orElseGet(() -> root.resolve(fileName));
+    }
+
+    public static Optional<String> contentHashOf(String fileName) {
+        Matcher matcher = STORED_NAME.matcher(fileName);
+        return matcher.matches() ? Optional.of(matcher.group(1)) : Optional.empty();
+    }
+
+    private static String extension(String contentType) {
+        return "image/png".equals(contentType) ? ".png" : ".jpg";
+    }
+}
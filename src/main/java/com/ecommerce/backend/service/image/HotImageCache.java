@@ -0,0 +1,134 @@
+package com.ecommerce.backend.service.image;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Images served by /images, keyed by path. Every entry carries the precomputed
+ * headers (content type, ETag, Last-Modified, length), so a hit needs no file-system
+ * call; files up to {@code max-entry-size} also keep their bytes in a heap
+ * ByteBuffer. Caffeine bounds the total by bytes and evicts with W-TinyLFU, which
+ * keeps the few popular thumbnails resident.
+ *
+ * Heap rather than direct buffers: a direct buffer's native memory is only released
+ * when the GC collects its owner, so evicted entries would hold memory the weight
+ * budget no longer counts, outside -Xmx.
+ *
+ * Stored files are never rewritten, so entries only go stale when a file is deleted;
+ * whoever deletes one must call {@link #evict}. Missing files are not cached.
+ *
+ * Metrics: the "images" cache metrics, plus images.cache.hit.ratio and
+ * images.cache.resident.bytes.
+ */
+@Component
+public class HotImageCache {
+
+    public static final String CACHE_NAME = "images";
+
+    // Weight of a headers-only entry (large images, streamed from disk)
+    private static final int METADATA_WEIGHT = 256;
+
+    private final Cache<Path, CachedImage> cache;
+    private final long maxEntryBytes;
+
+    public HotImageCache(
+            @Value("${file.images.hot-cache.max-size:64MB}") DataSize maxSize,
+            @Value("${file.images.hot-cache.max-entry-size:1MB}") DataSize maxEntrySize,
+            MeterRegistry meterRegistry) {
+        this.maxEntryBytes = maxEntrySize.toBytes();
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((Path path, CachedImage image) -> image.isResident()
+                        ? METADATA_WEIGHT + image.content().capacity()
+                        : METADATA_WEIGHT)
+                // Evicts on the calling thread, so the budget already holds when get() returns
+                .executor(Runnable::run)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        Gauge.builder("images.cache.hit.ratio", this, c -> c.stats().hitRate())
+                .description("Fraction of /images lookups answered from memory")
+                .register(meterRegistry);
+        Gauge.builder("images.cache.resident.bytes", this, HotImageCache::residentBytes)
+                .description("Weighted size of the image cache, in bytes")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return the cached image, or null when there is no regular file at {@code path}
+     * @throws UncheckedIOException when the file exists but cannot be read
+     */
+    public CachedImage get(Path path) {
+        return cache.get(path, this::load);
+    }
+
+    public void evict(Path path) {
+        cache.invalidate(path);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long residentBytes() {
+        return cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L);
+    }
+
+    private CachedImage load(Path path) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            if (!attributes.isRegularFile()) {
+                return null;
+            }
+            String name = path.getFileName().toString();
+            MediaType contentType = MediaTypeFactory.getMediaType(name).orElse(MediaType.APPLICATION_OCTET_STREAM);
+            long lastModified = attributes.lastModifiedTime().toMillis();
+            ByteBuffer content = attributes.size() <= maxEntryBytes ? read(path, attributes.size()) : null;
+            return new CachedImage(path, contentType, eTag(name, attributes), lastModified, attributes.size(), content);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static ByteBuffer read(Path path, long size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate((int) size);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // until the buffer is full or the file ends
+            }
+        }
+        return buffer.flip().asReadOnlyBuffer();
+    }
+
+    // A hash name already identifies the content; other names use mtime and size
+    private static String eTag(String name, BasicFileAttributes attributes) {
+        if (ContentAddressedImageStore.contentHashOf(name).isPresent()) {
+            return name.substring(0, name.lastIndexOf('.'));
+        }
+        return Long.toHexString(attributes.lastModifiedTime().toMillis()) + "-" + Long.toHexString(attributes.size());
+    }
+}
@@ -0,0 +1,160 @@
+package com.ecommerce.backend.service.image;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.ecommerce.backend.repository.ProductImageRepository;
+
+/**
+ * Deletes stored images no ProductImage row refers to any more, together with their
+ * variants, plus temporary files left behind by interrupted uploads.
+ *
+ * Works one shard directory at a time with one query per batch of hashes. Only files
+ * older than the grace period are touched, so an upload whose row has not committed
+ * yet is never collected. Ages are checked again under the hash's store lock right before
+ * deleting, since a duplicate upload may have reused the file after the shard was listed.
+ * Deleted files are also dropped from {@link HotImageCache}.
+ */
+@Component
+public class ImageStoreGarbageCollector {
+
+    private static final Logger log = LoggerFactory.getLogger(ImageStoreGarbageCollector.class);
+    private static final int QUERY_BATCH_SIZE = 500;
+
+    private final ContentAddressedImageStore imageStore;
+    private final ProductImageRepository productImageRepository;
+    private final HotImageCache hotImageCache;
+    private final Duration gracePeriod;
+
+    public ImageStoreGarbageCollector(ContentAddressedImageStore imageStore,
+            ProductImageRepository productImageRepository,
+            HotImageCache hotImageCache,
+            @Value("${file.images.gc.grace-period:1h}") Duration gracePeriod) {
+        this.imageStore = imageStore;
+        this.productImageRepository = productImageRepository;
+        this.hotImageCache = hotImageCache;
+        this.gracePeriod = gracePeriod;
+    }
+
+    @Scheduled(initialDelayString = "${file.images.gc.interval:PT1H}", fixedDelayString = "${file.images.gc.interval:PT1H}")
+    public void scheduledCollect() {
+        try {
+            int removed = collect();
+            if (removed > 0) {
+                log.info("Image store garbage collection removed {} files", removed);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.error("Image store garbage collection failed", e);
+        }
+    }
+
+    /**
+     * @return number of files deleted
+     */
+    public int collect() throws IOException {
+        Path root = imageStore.getRoot();
+        if (!Files.isDirectory(root)) {
+            return 0;
+        }
+        Instant cutoff = Instant.now().minus(gracePeriod);
+        int removed = removeStaleTempFiles(root, cutoff);
+        try (DirectoryStream<Path> firstLevel = Files.newDirectoryStream(root, Files::isDirectory)) {
+            for (Path first : firstLevel) {
+                try (DirectoryStream<Path> shards = Files.newDirectoryStream(first, Files::isDirectory)) {
+                    for (Path shard : shards) {
+                        removed += removeStaleTempFiles(shard, cutoff);
+                        removed += collectShard(shard, cutoff);
+                    }
+                }
+            }
+        }
+        return removed;
+    }
+
+    private int collectShard(Path shard, Instant cutoff) throws IOException {
+        // An original and its variants are only removed together, once all are old enough
+        Map<String, List<Path>> filesByHash = new HashMap<>();
+        Set<String> recent = new HashSet<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(shard, Files::isRegularFile)) {
+            for (Path file : files) {
+                ContentAddressedImageStore.contentHashOf(file.getFileName().toString()).ifPresent(hash -> {
+                    filesByHash.computeIfAbsent(hash, key -> new ArrayList<>()).add(file);
+                    if (!isOlderThan(file, cutoff)) {
+                        recent.add(hash);
+                    }
+                });
+            }
+        }
+        filesByHash.keySet().removeAll(recent);
+
+        int removed = 0;
+        List<String> hashes = new ArrayList<>(filesByHash.keySet());
+        for (int from = 0; from < hashes.size(); from += QUERY_BATCH_SIZE) {
+            List<String> batch = hashes.subList(from, Math.min(from + QUERY_BATCH_SIZE, hashes.size()));
+            Set<String> referenced = productImageRepository.findReferencedContentHashes(batch);
+            for (String hash : batch) {
+                if (!referenced.contains(hash)) {
+                    removed += deleteIfStillStale(hash, filesByHash.get(hash), cutoff);
+                }
+            }
+        }
+        return removed;
+    }
+
+    private int deleteIfStillStale(String hash, List<Path> files, Instant cutoff) throws IOException {
+        Lock lock = imageStore.lockFor(hash);
+        lock.lock();
+        try {
+            if (!files.stream().allMatch(file -> isOlderThan(file, cutoff) || !Files.exists(file))) {
+                return 0;
+            }
+            int removed = 0;
+            for (Path file : files) {
+                hotImageCache.evict(file.toAbsolutePath().normalize());
+                if (Files.deleteIfExists(file)) {
+                    removed++;
+                }
+            }
+            return removed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int removeStaleTempFiles(Path directory, Instant cutoff) throws IOException {
+        int removed = 0;
+        try (DirectoryStream<Path> temps = Files.newDirectoryStream(directory, "*.tmp")) {
+            for (Path temp : temps) {
+                if (isOlderThan(temp, cutoff) && Files.deleteIfExists(temp)) {
+                    removed++;
+                }
+            }
+        }
+        return removed;
+    }
+
+    private static boolean isOlderThan(Path file, Instant cutoff) {
+        try {
+            return Files.getLastModifiedTime(file).toInstant().isBefore(cutoff);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
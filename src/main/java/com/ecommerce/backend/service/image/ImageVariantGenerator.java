@@ -0,0 +1,158 @@
+package com.ecommerce.backend.service.image;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.ecommerce.backend.model.enums.ImageVariant;
+
+/**
+ * Decodes an uploaded image once and writes every {@link ImageVariant} next to it
+ * as a JPEG. Variants are produced from the largest to the smallest, each one scaled
+ * from the previous, so the full-resolution raster is only resampled once. Stored
+ * content is deduplicated, so an original whose variants already exist is skipped.
+ *
+ * Width and height are read from the header before decoding, and images with more
+ * pixels than the configured limit are not decoded: a small, highly compressed file
+ * can otherwise expand to a raster that fills the heap.
+ */
+@Component
+public class ImageVariantGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(ImageVariantGenerator.class);
+
+    private final float jpegQuality;
+    private final long maxPixels;
+
+    public ImageVariantGenerator(@Value("${file.images.variants.jpeg-quality:0.8}") float jpegQuality,
+            @Value("${file.images.variants.max-pixels:40000000}") long maxPixels) {
+        this.jpegQuality = jpegQuality;
+        this.maxPixels = maxPixels;
+    }
+
+    /**
+     * @return the written file of each variant, or an empty map when the file is not
+     *         an image ImageIO can decode or is larger than the pixel limit
+     */
+    public Map<ImageVariant, Path> generate(Path original) throws IOException {
+        Map<ImageVariant, Path> written = new EnumMap<>(ImageVariant.class);
+        // Repeated content (same hash) already has its variants: skip the decode
+        for (ImageVariant variant : ImageVariant.values()) {
+            written.put(variant, variantPath(original, variant));
+        }
+        if (written.values().stream().allMatch(Files::isRegularFile)) {
+            return written;
+        }
+        written.clear();
+
+        BufferedImage source = decode(original);
+        if (source == null) {
+            return written;
+        }
+
+        BufferedImage current = source;
+        Iterable<ImageVariant> largestFirst = Stream.of(ImageVariant.values())
+                .sorted(Comparator.comparingInt(ImageVariant::getMaxWidth).reversed())::iterator;
+        for (ImageVariant variant : largestFirst) {
+            current = scaleToWidth(current, Math.min(variant.getMaxWidth(), current.getWidth()));
+            Path target = variantPath(original, variant);
+            writeJpeg(current, target);
+            written.put(variant, target);
+        }
+        return written;
+    }
+
+    // Null when no reader understands the file or the header declares too many pixels
+    private BufferedImage decode(Path original) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(original.toFile())) {
+            Iterator<ImageReader> readers = in == null ? null : ImageIO.getImageReaders(in);
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxPixels) {
+                    log.warn("Image {} has {} pixels, over the limit of {}: not decoded", original, pixels,
+                            maxPixels);
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static Path variantPath(Path original, ImageVariant variant) {
+        return original.resolveSibling(variant.fileName(original.getFileName().toString()));
+    }
+
+    // Also flattens transparency onto white: JPEG has no alpha channel.
+    private static BufferedImage scaleToWidth(BufferedImage image, int width) {
+        int height = Math.max(1, (int) Math.round((double) image.getHeight() * width / image.getWidth()));
+        // Halving first keeps bilinear sampling from skipping pixels on large reductions
+        while (image.getWidth() / 2 >= width) {
+            image = draw(image, image.getWidth() / 2, Math.max(1, image.getHeight() / 2));
+        }
+        if (image.getWidth() == width && image.getType() == BufferedImage.TYPE_INT_RGB) {
+            return image;
+        }
+        return draw(image, width, height);
+    }
+
+    private static BufferedImage draw(BufferedImage image, int width, int height) {
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(image, 0, 0, width, height, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+
+    // Written under a temporary name and moved, so /images never serves a half-written variant.
+    private void writeJpeg(BufferedImage image, Path target) throws IOException {
+        Path temp = Files.createTempFile(target.getParent(), target.getFileName() + ".", ".tmp");
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(temp.toFile())) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+            writer.setOutput(out);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
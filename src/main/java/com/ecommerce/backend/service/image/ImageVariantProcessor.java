@@ -0,0 +1,96 @@
+package com.ecommerce.backend.service.image;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.ecommerce.backend.model.enums.ImageVariant;
+import com.ecommerce.backend.repository.ProductImageRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Background stage that turns an uploaded original into its sized variants and
+ * records them on the ProductImage row.
+ *
+ * The work queue is bounded: when it is full the job is dropped and the image stays
+ * without variants, rather than decoding on the uploading thread or queueing without
+ * limit. Until the variants exist /images serves the original.
+ */
+@Component
+public class ImageVariantProcessor {
+
+    private static final Logger log = LoggerFactory.getLogger(ImageVariantProcessor.class);
+
+    private final ImageVariantGenerator generator;
+    private final ProductImageRepository productImageRepository;
+    private final ThreadPoolExecutor executor;
+
+    public ImageVariantProcessor(ImageVariantGenerator generator, ProductImageRepository productImageRepository,
+            @Value("${file.images.variants.threads:2}") int threads,
+            @Value("${file.images.variants.queue-capacity:100}") int queueCapacity) {
+        this.generator = generator;
+        this.productImageRepository = productImageRepository;
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-variants-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Queues the variants of one image. When the queue is full the image is left
+     * without variants and keeps being served from its original.
+     */
+    public void submit(Long imageId, Path original) {
+        try {
+            executor.execute(() -> process(imageId, original));
+        } catch (RejectedExecutionException e) {
+            log.warn("Variant queue is full, image {} keeps its original only", original);
+        }
+    }
+
+    /**
+     * Generates the variants of one image and stores their paths. Failures are logged
+     * and leave the image without variants; the original keeps being served.
+     */
+    public void process(Long imageId, Path original) {
+        try {
+            Map<ImageVariant, Path> variants = generator.generate(original);
+            if (variants.isEmpty()) {
+                log.warn("Image {} was not decoded, no variants generated", original);
+                return;
+            }
+            productImageRepository.updateVariants(imageId,
+                    variants.get(ImageVariant.THUMBNAIL).toString(),
+                    variants.get(ImageVariant.CARD).toString(),
+                    variants.get(ImageVariant.FULL).toString());
+        } catch (IOException | RuntimeException e) {
+            log.error("Error generating variants for image {}", original, e);
+        }
+    }
+
+    public int queuedJobs() {
+        return executor.getQueue().size();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+}
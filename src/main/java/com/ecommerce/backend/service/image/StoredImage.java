@@ -0,0 +1,8 @@
+package com.ecommerce.backend.service.image;
+
+/**
+ * An upload already written to the upload volume: where it is, the type read from
+ * its first bytes and the SHA-256 of its content (lower-case hex).
+ */
+public record StoredImage(String filePath, String contentType, String contentHash) {
+}
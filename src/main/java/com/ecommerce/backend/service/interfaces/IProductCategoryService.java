@@ -2,7 +2,10 @@ package com.ecommerce.backend.service.interfaces;
 
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
+
 import com.ecommerce.backend.dto.ResponseDto.ProductCategoryResponseDto;
+import com.ecommerce.backend.dto.ResponseDto.ProductResponseListDto;
 import com.ecommerce.backend.dto.requestDto.ProductCategoryRequestDto;
 
 public interface IProductCategoryService {
@@ -17,6 +20,8 @@ public interface IProductCategoryService {
 
     public List<ProductCategoryResponseDto> findAllProductsByCategoryId(Long categoryId);
 
+    public ProductResponseListDto findAllProductsInCategoryTree(Long categoryId, Pageable pageable);
+
     public void delete(Long id);
 
 }
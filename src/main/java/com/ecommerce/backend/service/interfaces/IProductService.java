@@ -17,6 +17,8 @@ public interface IProductService {
 
     public ProductResponseListDto searchProducts(String name, Double maxPrice, Pageable pageable);
 
+    public ProductResponseListDto getProductsAfter(String name, Double maxPrice, Pageable pageable, String cursor);
+
     public ProductResponseDto updateProduct(ProductRequestDto requestDto, long id);
 
     public void deleteProduct(long id);
@@ -1,7 +1,8 @@
 package com.ecommerce.backend.service.listeners;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.context.event.EventListener;
-import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 
 import com.ecommerce.backend.model.Order;
@@ -9,7 +10,6 @@ import com.ecommerce.backend.model.Payment;
 import com.ecommerce.backend.repository.OrderRepository;
 import com.ecommerce.backend.repository.PaymentRepository;
 import com.ecommerce.backend.service.events.PaymentCompletedEvent;
-import com.ecommerce.backend.shared.exception.BusinessException;
 
 import jakarta.transaction.Transactional;
 import lombok.AllArgsConstructor;
@@ -18,18 +18,26 @@ import lombok.AllArgsConstructor;
 @AllArgsConstructor
 public class OrderEventListener {
 
+    private static final Logger log = LoggerFactory.getLogger(OrderEventListener.class);
+
     private OrderRepository orderRepository;
     private PaymentRepository paymentRepository;
 
+    // Delivered at least once by the outbox dispatcher: a repeated event must be a no-op,
+    // and rows deleted since the payment committed are skipped rather than retried forever.
     @EventListener
     @Transactional
     public void handlePaymentCompleted(PaymentCompletedEvent event) {
-        Order order = orderRepository.findById(event.getOrderId())
-                .orElseThrow(() -> new BusinessException("No order found whith the id: " + event.getOrderId(),
-                        HttpStatus.NOT_FOUND));
-        Payment payment = paymentRepository.findById(event.getPaymentId())
-                .orElseThrow(() -> new BusinessException("No payment found whith the id: " + event.getPaymentId(),
-                        HttpStatus.NOT_FOUND));
+        Order order = orderRepository.findById(event.orderId()).orElse(null);
+        Payment payment = paymentRepository.findById(event.paymentId()).orElse(null);
+        if (order == null || payment == null) {
+            log.warn("Skipping payment completed event for order {} and payment {}: no longer exists",
+                    event.orderId(), event.paymentId());
+            return;
+        }
+        if (order.getPayment() != null && payment.getId().equals(order.getPayment().getId())) {
+            return;
+        }
         order.setPayment(payment);
         orderRepository.save(order);
     }
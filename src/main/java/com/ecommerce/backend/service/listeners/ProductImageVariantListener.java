@@ -0,0 +1,22 @@
+package com.ecommerce.backend.service.listeners;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.ecommerce.backend.service.events.ProductImageUploadedEvent;
+import com.ecommerce.backend.service.image.ImageVariantProcessor;
+
+import lombok.AllArgsConstructor;
+
+@Component
+@AllArgsConstructor
+public class ProductImageVariantListener {
+
+    private final ImageVariantProcessor variantProcessor;
+
+    // After commit, so the worker never updates a row that was rolled back.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onImageUploaded(ProductImageUploadedEvent event) {
+        variantProcessor.submit(event.getImageId(), event.getPath());
+    }
+}
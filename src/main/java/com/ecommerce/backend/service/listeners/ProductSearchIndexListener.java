@@ -0,0 +1,59 @@
+package com.ecommerce.backend.service.listeners;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.ecommerce.backend.model.Product;
+import com.ecommerce.backend.repository.ProductRepository;
+import com.ecommerce.backend.service.events.ProductChangedEvent;
+import com.ecommerce.backend.service.search.ProductSearchIndex;
+
+import lombok.AllArgsConstructor;
+
+@Component
+@AllArgsConstructor
+public class ProductSearchIndexListener {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductSearchIndexListener.class);
+    private static final int BUILD_PAGE_SIZE = 1000;
+
+    private final ProductRepository productRepository;
+    private final ProductSearchIndex searchIndex;
+
+    /**
+     * Indexes one page at a time, keyset by id so products added or deleted meanwhile cannot
+     * shift the pages. Changes committed during the build are applied by
+     * {@link #onProductChanged} and are not overwritten by the pages read before them.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        PageRequest firstPage = PageRequest.of(0, BUILD_PAGE_SIZE, Sort.by("id"));
+        searchIndex.beginRebuild();
+        List<Product> page = productRepository.findByIdGreaterThan(0L, firstPage);
+        while (!page.isEmpty()) {
+            searchIndex.addAll(page);
+            page = (page.size() < BUILD_PAGE_SIZE) ? List.of()
+                    : productRepository.findByIdGreaterThan(page.get(page.size() - 1).getId(), firstPage);
+        }
+        searchIndex.finishRebuild();
+        log.info("Product search index built with {} products", searchIndex.size());
+    }
+
+    // After commit, so a rolled back change never reaches the index.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.isDeleted()) {
+            searchIndex.remove(event.getProductId());
+        } else {
+            searchIndex.index(event.getProduct());
+        }
+    }
+}
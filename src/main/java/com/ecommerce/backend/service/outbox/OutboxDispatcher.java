@@ -0,0 +1,157 @@
+package com.ecommerce.backend.service.outbox;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.ecommerce.backend.model.OutboxEvent;
+import com.ecommerce.backend.repository.OutboxEventRepository;
+import com.ecommerce.backend.service.events.PaymentCompletedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Delivers outbox events to the application listeners, off the request threads.
+ *
+ * Each poll reads a batch of due events, claims them one by one and hands them to a
+ * dedicated executor, which publishes the event and deletes the row. A failed delivery is
+ * retried with exponential backoff; an event whose dispatcher died is picked up again
+ * once its lease expires. Delivery is therefore at least once and listeners must be
+ * idempotent. Polling can be switched off with api.outbox.enabled; {@link #dispatch} still
+ * delivers when called directly.
+ */
+@Component
+public class OutboxDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxDispatcher.class);
+    private static final String EVENTS_PACKAGE = PaymentCompletedEvent.class.getPackageName() + ".";
+    private static final Duration FIRST_RETRY = Duration.ofSeconds(1);
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration lease;
+    private final Duration maxBackoff;
+    private final ThreadPoolExecutor executor;
+
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository,
+            ApplicationEventPublisher eventPublisher,
+            ObjectMapper objectMapper,
+            @Value("${api.outbox.enabled:true}") boolean enabled,
+            @Value("${api.outbox.threads:2}") int threads,
+            @Value("${api.outbox.batch-size:100}") int batchSize,
+            @Value("${api.outbox.lease:PT5M}") Duration lease,
+            @Value("${api.outbox.max-backoff:PT1H}") Duration maxBackoff,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.lease = lease;
+        this.maxBackoff = maxBackoff;
+        // Delivery is mostly waiting on the database, so it follows the request threads onto
+        // virtual threads; the pool size still caps how many deliveries run at once.
+        ThreadFactory threadFactory;
+        if (virtualThreads) {
+            threadFactory = Thread.ofVirtual().name("outbox-", 1).factory();
+        } else {
+            AtomicInteger counter = new AtomicInteger();
+            threadFactory = runnable -> {
+                Thread thread = new Thread(runnable, "outbox-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            };
+        }
+        // Room for one batch; beyond that the polling thread delivers, which slows polling down.
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(batchSize), threadFactory, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    static boolean isDeliverable(String eventType) {
+        return eventType.startsWith(EVENTS_PACKAGE);
+    }
+
+    @Scheduled(initialDelayString = "${api.outbox.poll-interval:PT0.5S}", fixedDelayString = "${api.outbox.poll-interval:PT0.5S}")
+    public void scheduledDispatch() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            dispatch();
+        } catch (RuntimeException e) {
+            log.error("Outbox polling failed", e);
+        }
+    }
+
+    /**
+     * @return number of events claimed and handed to the executor
+     */
+    public int dispatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> due = outboxEventRepository.findByAvailableAtLessThanEqualOrderById(now,
+                PageRequest.of(0, batchSize));
+        int claimed = 0;
+        for (OutboxEvent event : due) {
+            if (outboxEventRepository.claim(event.getId(), event.getAttempts(), now.plus(lease)) == 1) {
+                event.setAttempts(event.getAttempts() + 1);
+                executor.execute(() -> deliver(event));
+                claimed++;
+            }
+        }
+        return claimed;
+    }
+
+    /**
+     * Publishes one claimed event. The row is only deleted after every listener returned,
+     * so a crash in between leads to a redelivery, never to a lost event.
+     */
+    void deliver(OutboxEvent event) {
+        try {
+            eventPublisher.publishEvent(decode(event));
+            outboxEventRepository.deleteDelivered(event.getId());
+        } catch (Exception e) {
+            Duration backoff = backoff(event.getAttempts());
+            log.warn("Delivery of outbox event {} ({}) failed on attempt {}, retrying in {}", event.getId(),
+                    event.getEventType(), event.getAttempts(), backoff, e);
+            String message = String.valueOf(e.getMessage());
+            outboxEventRepository.reschedule(event.getId(), LocalDateTime.now().plus(backoff),
+                    message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message);
+        }
+    }
+
+    private Object decode(OutboxEvent event) throws Exception {
+        if (!isDeliverable(event.getEventType())) {
+            throw new IllegalStateException("Unknown outbox event type " + event.getEventType());
+        }
+        return objectMapper.readValue(event.getPayload(), Class.forName(event.getEventType()));
+    }
+
+    Duration backoff(int attempts) {
+        Duration backoff = FIRST_RETRY.multipliedBy(1L << Math.min(Math.max(attempts - 1, 0), 20));
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,45 @@
+package com.ecommerce.backend.service.outbox;
+
+import java.time.LocalDateTime;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ecommerce.backend.model.OutboxEvent;
+import com.ecommerce.backend.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * Transactional outbox. Events are stored as JSON rows in the caller's transaction, so
+ * they exist exactly when the change they describe committed, and are delivered to the
+ * application listeners later by {@link OutboxDispatcher}.
+ */
+@Service
+@AllArgsConstructor
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(Object event) {
+        if (!OutboxDispatcher.isDeliverable(event.getClass().getName())) {
+            throw new IllegalArgumentException("Not an outbox event: " + event.getClass().getName());
+        }
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Event can not be serialized: " + event.getClass().getName(), e);
+        }
+        outboxEventRepository.save(OutboxEvent.builder()
+                .eventType(event.getClass().getName())
+                .payload(payload)
+                .availableAt(LocalDateTime.now())
+                .build());
+    }
+}
@@ -0,0 +1,336 @@
+package com.ecommerce.backend.service.search;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import com.ecommerce.backend.model.Product;
+
+/**
+ * In-process inverted index over product name and description, used by /products/search
+ * instead of a LIKE '%name%' table scan.
+ * <ul>
+ * <li>terms live in a sorted map, so every query term also matches as a prefix ("phon" -> phone, phones);</li>
+ * <li>matches are ranked with BM25, name terms counting {@value #NAME_BOOST}x description terms;</li>
+ * <li>the price ceiling and price ordering are answered from a price-sorted map;</li>
+ * <li>only the requested page is ordered: the first offset + size results are kept in a bounded heap.</li>
+ * </ul>
+ * Built at startup and kept current by {@code ProductSearchIndexListener}; until the first
+ * build finishes {@link #canServe} is false and callers fall back to the database. Changes
+ * indexed while a build is loading pages win over the older rows of the build.
+ */
+@Component
+public class ProductSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int NAME_BOOST = 2;
+    // A term reached only through prefix expansion ranks slightly below an exact term.
+    private static final double PREFIX_WEIGHT = 0.8;
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of("name", "price", "id");
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final NavigableMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+    private final NavigableMap<BigDecimal, Set<Long>> prices = new TreeMap<>();
+    private long totalLength;
+    // Ids indexed or removed since the running build started; null when no build is running
+    private Set<Long> changedDuringBuild;
+    private volatile boolean ready;
+
+    // sortName is accent and case insensitive, like the default MySQL collation
+    private record Document(Long id, String sortName, BigDecimal price, Map<String, Integer> termFrequencies,
+            int length) {
+    }
+
+    private record Match(Document document, double score) {
+    }
+
+    /** One page of matching product ids in result order, and how many products matched in all. */
+    public record Hits(List<Long> ids, int total) {
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * The index can only order by name, price or id. Unsorted free-text queries are ranked by
+     * relevance; unsorted browsing is by name.
+     */
+    public boolean canServe(Sort sort) {
+        return ready && sort.stream().allMatch(order -> SORTABLE_PROPERTIES.contains(order.getProperty()));
+    }
+
+    public void rebuild(Collection<Product> products) {
+        beginRebuild();
+        addAll(products);
+        finishRebuild();
+    }
+
+    /**
+     * Empties the index and stops serving until {@link #finishRebuild}. Pages are then loaded
+     * with {@link #addAll} while {@link #index} and {@link #remove} keep applying live changes.
+     */
+    public void beginRebuild() {
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            documents.clear();
+            postings.clear();
+            prices.clear();
+            totalLength = 0;
+            changedDuringBuild = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // A product changed since the build started is already indexed in its newer state.
+    public void addAll(Collection<Product> products) {
+        lock.writeLock().lock();
+        try {
+            for (Product product : products) {
+                if (changedDuringBuild == null || !changedDuringBuild.contains(product.getId())) {
+                    unindex(product.getId());
+                    add(product);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void finishRebuild() {
+        lock.writeLock().lock();
+        try {
+            changedDuringBuild = null;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void index(Product product) {
+        lock.writeLock().lock();
+        try {
+            recordChange(product.getId());
+            unindex(product.getId());
+            add(product);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long productId) {
+        lock.writeLock().lock();
+        try {
+            recordChange(productId);
+            unindex(productId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * The {@code limit} matching product ids starting at {@code offset}, in result order. Every
+     * query term must match (as a whole term or a prefix); an empty query matches everything
+     * under the price ceiling. Matches are ranked by relevance unless a sort is given.
+     */
+    public Hits search(String text, BigDecimal maxPrice, Sort sort, long offset, int limit) {
+        List<String> terms = ProductTokenizer.tokenize(text);
+        lock.readLock().lock();
+        try {
+            if (terms.isEmpty()) {
+                return browse(maxPrice, sort.isSorted() ? sort : Sort.by("name"), offset, limit);
+            }
+            Map<Long, Double> scores = null;
+            for (String term : terms) {
+                Map<Long, Double> termScores = score(term);
+                if (scores == null) {
+                    scores = termScores;
+                } else {
+                    scores.keySet().retainAll(termScores.keySet());
+                    scores.replaceAll((id, score) -> score + termScores.get(id));
+                }
+                if (scores.isEmpty()) {
+                    return new Hits(List.of(), 0);
+                }
+            }
+            List<Match> matches = new ArrayList<>(scores.size());
+            scores.forEach((id, score) -> {
+                Document document = documents.get(id);
+                if (maxPrice == null || document.price().compareTo(maxPrice) <= 0) {
+                    matches.add(new Match(document, score));
+                }
+            });
+            Comparator<Match> order = sort.isSorted()
+                    ? Comparator.comparing(Match::document, comparator(sort))
+                    : Comparator.comparingDouble(Match::score).reversed()
+                            .thenComparing(match -> match.document().sortName())
+                            .thenComparing(match -> match.document().id());
+            List<Long> ids = top(matches, order, offset, limit).stream().map(match -> match.document().id()).toList();
+            return new Hits(ids, matches.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Hits browse(BigDecimal maxPrice, Sort sort, long offset, int limit) {
+        NavigableMap<BigDecimal, Set<Long>> eligible = (maxPrice == null) ? prices : prices.headMap(maxPrice, true);
+        int total = (maxPrice == null) ? documents.size()
+                : eligible.values().stream().mapToInt(Set::size).sum();
+        Sort.Order first = sort.iterator().next();
+        if ("price".equals(first.getProperty())) {
+            return new Hits(walkByPrice(first.isDescending() ? eligible.descendingMap() : eligible, sort, offset,
+                    limit), total);
+        }
+        Collection<Document> candidates = (maxPrice == null) ? documents.values()
+                : eligible.values().stream().flatMap(Set::stream).map(documents::get).toList();
+        return new Hits(top(candidates, comparator(sort), offset, limit).stream().map(Document::id).toList(),
+                total);
+    }
+
+    // The price map is already in order: skip whole price levels up to the offset, order only ties.
+    private List<Long> walkByPrice(NavigableMap<BigDecimal, Set<Long>> byPrice, Sort sort, long offset, int limit) {
+        List<Long> page = new ArrayList<>(Math.min(limit, 64));
+        long skip = offset;
+        for (Set<Long> samePrice : byPrice.values()) {
+            if (skip >= samePrice.size()) {
+                skip -= samePrice.size();
+                continue;
+            }
+            List<Document> ties = samePrice.stream().map(documents::get).sorted(comparator(sort)).toList();
+            for (Document document : ties.subList((int) skip, ties.size())) {
+                if (page.size() == limit) {
+                    return page;
+                }
+                page.add(document.id());
+            }
+            skip = 0;
+        }
+        return page;
+    }
+
+    /**
+     * Positions [offset, offset + limit) of {@code candidates} in {@code order}, keeping only the
+     * first offset + limit in a bounded heap instead of sorting everything.
+     */
+    private static <T> List<T> top(Collection<T> candidates, Comparator<T> order, long offset, int limit) {
+        long wanted = Math.min(offset + limit, candidates.size());
+        if (offset >= wanted) {
+            return List.of();
+        }
+        // Largest of the kept candidates on top, so it is the one replaced by a better candidate
+        PriorityQueue<T> kept = new PriorityQueue<>(order.reversed());
+        for (T candidate : candidates) {
+            if (kept.size() < wanted) {
+                kept.add(candidate);
+            } else if (order.compare(candidate, kept.peek()) < 0) {
+                kept.poll();
+                kept.add(candidate);
+            }
+        }
+        List<T> sorted = new ArrayList<>(kept);
+        sorted.sort(order);
+        return sorted.subList((int) offset, sorted.size());
+    }
+
+    // BM25 contribution of one query term, taking the best expansion of the term per document.
+    private Map<Long, Double> score(String term) {
+        Map<Long, Double> scores = new HashMap<>();
+        double averageLength = documents.isEmpty() ? 1 : (double) totalLength / documents.size();
+        for (Map.Entry<String, Map<Long, Integer>> posting : postings
+                .subMap(term, true, term + Character.MAX_VALUE, false).entrySet()) {
+            Map<Long, Integer> docs = posting.getValue();
+            double idf = Math.log(1 + (documents.size() - docs.size() + 0.5) / (docs.size() + 0.5));
+            double weight = posting.getKey().equals(term) ? 1.0 : PREFIX_WEIGHT;
+            docs.forEach((id, frequency) -> {
+                int length = documents.get(id).length();
+                double tf = frequency * (K1 + 1) / (frequency + K1 * (1 - B + B * length / averageLength));
+                scores.merge(id, weight * idf * tf, Math::max);
+            });
+        }
+        return scores;
+    }
+
+    private static Comparator<Document> comparator(Sort sort) {
+        Comparator<Document> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<Document> next = switch (order.getProperty()) {
+                case "price" -> Comparator.comparing(Document::price);
+                case "id" -> Comparator.comparing(Document::id);
+                default -> Comparator.comparing(Document::sortName);
+            };
+            next = order.isDescending() ? next.reversed() : next;
+            comparator = (comparator == null) ? next : comparator.thenComparing(next);
+        }
+        Comparator<Document> byId = Comparator.comparing(Document::id);
+        return (comparator == null) ? byId : comparator.thenComparing(byId);
+    }
+
+    private void recordChange(Long productId) {
+        if (changedDuringBuild != null) {
+            changedDuringBuild.add(productId);
+        }
+    }
+
+    private void add(Product product) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        List<String> nameTerms = ProductTokenizer.tokenize(product.getName());
+        List<String> descriptionTerms = ProductTokenizer.tokenize(product.getDescription());
+        nameTerms.forEach(term -> frequencies.merge(term, NAME_BOOST, Integer::sum));
+        descriptionTerms.forEach(term -> frequencies.merge(term, 1, Integer::sum));
+        int length = NAME_BOOST * nameTerms.size() + descriptionTerms.size();
+
+        Document document = new Document(product.getId(), ProductTokenizer.normalize(product.getName()),
+                product.getPrice(), frequencies, length);
+        documents.put(document.id(), document);
+        frequencies.forEach((term, frequency) -> postings.computeIfAbsent(term, t -> new HashMap<>())
+                .put(document.id(), frequency));
+        prices.computeIfAbsent(document.price(), p -> new HashSet<>()).add(document.id());
+        totalLength += length;
+    }
+
+    private void unindex(Long productId) {
+        Document document = documents.remove(productId);
+        if (document == null) {
+            return;
+        }
+        for (String term : document.termFrequencies().keySet()) {
+            Map<Long, Integer> docs = postings.get(term);
+            docs.remove(productId);
+            if (docs.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+        Set<Long> samePrice = prices.get(document.price());
+        samePrice.remove(productId);
+        if (samePrice.isEmpty()) {
+            prices.remove(document.price());
+        }
+        totalLength -= document.length();
+    }
+}
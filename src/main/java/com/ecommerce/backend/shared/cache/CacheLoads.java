@@ -0,0 +1,43 @@
+package com.ecommerce.backend.shared.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+
+/**
+ * Loads missing cache entries outside Caffeine's map locks.
+ *
+ * {@code Cache.get(key, loader)} runs the loader inside {@code ConcurrentHashMap.compute},
+ * which holds a monitor for the whole database round trip and pins a virtual thread to its
+ * carrier. Here compute only installs an empty future; the caller that installed it runs
+ * the loader on its own thread, and concurrent callers for the same key wait on the future,
+ * which unmounts a virtual thread. A load that returns null or fails leaves no entry, and an
+ * invalidation that races a load discards its result.
+ */
+public final class CacheLoads {
+
+    private CacheLoads() {
+    }
+
+    public static <K, V> V getOrLoad(AsyncCache<K, V> cache, K key, Function<? super K, ? extends V> loader) {
+        CompletableFuture<V> promise = new CompletableFuture<>();
+        CompletableFuture<V> future = cache.get(key, (k, executor) -> promise);
+        if (future != promise) {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                throw (e.getCause() instanceof RuntimeException cause) ? cause : e;
+            }
+        }
+        try {
+            V value = loader.apply(key);
+            promise.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            promise.completeExceptionally(e);
+            throw e;
+        }
+    }
+}
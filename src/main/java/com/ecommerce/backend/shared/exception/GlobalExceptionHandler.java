@@ -19,6 +19,9 @@ import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExcep
 
 import com.ecommerce.backend.shared.apiResponse.ApiResponse;
 
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
 @ControllerAdvice
 public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
 
@@ -84,7 +87,7 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
 
         @ExceptionHandler(Exception.class)
         public ResponseEntity<Object> handleAllUncaughtException(Exception ex) {
-                ex.printStackTrace();
+                log.error("Unhandled exception", ex);
                 return ResponseEntity.status(
                                 HttpStatus.INTERNAL_SERVER_ERROR).body(
                                                 ApiResponse.error("Sorry, something went wrong with our servers.",
@@ -0,0 +1,85 @@
+package com.ecommerce.backend.shared.metrics;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Times every public method of the beans in {@code com.ecommerce.backend.service} and counts
+ * the calls that throw.
+ *
+ * {@code service.method} is a timer tagged with class, method, outcome (SUCCESS or ERROR) and
+ * exception; {@code service.method.errors} counts failures with the same class, method and
+ * exception tags. Success timers are resolved once per bean class and method, so the hot path
+ * is two clock reads and two map lookups. Calls a bean makes to itself are not proxied and not timed.
+ */
+@Aspect
+@Component
+public class ServiceMetricsAspect {
+
+    public static final String TIMER = "service.method";
+    public static final String ERRORS = "service.method.errors";
+
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final ConcurrentMap<Class<?>, ConcurrentMap<Method, Timer>> successTimers = new ConcurrentHashMap<>();
+
+    public ServiceMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.clock = meterRegistry.config().clock();
+    }
+
+    @Around("execution(public * com.ecommerce.backend.service..*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = clock.monotonicTime();
+        try {
+            Object result = joinPoint.proceed();
+            successTimer(joinPoint).record(clock.monotonicTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable e) {
+            recordError(joinPoint, e, clock.monotonicTime() - start);
+            throw e;
+        }
+    }
+
+    private Timer successTimer(ProceedingJoinPoint joinPoint) {
+        Class<?> type = joinPoint.getTarget().getClass();
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        return successTimers.computeIfAbsent(type, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(method, key -> timer(type, method, "SUCCESS", "none"));
+    }
+
+    private void recordError(ProceedingJoinPoint joinPoint, Throwable error, long elapsedNanos) {
+        Class<?> type = joinPoint.getTarget().getClass();
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        String exception = error.getClass().getSimpleName();
+        timer(type, method, "ERROR", exception).record(elapsedNanos, TimeUnit.NANOSECONDS);
+        Counter.builder(ERRORS)
+                .tag("class", type.getSimpleName())
+                .tag("method", method.getName())
+                .tag("exception", exception)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private Timer timer(Class<?> type, Method method, String outcome, String exception) {
+        return Timer.builder(TIMER)
+                .tag("class", type.getSimpleName())
+                .tag("method", method.getName())
+                .tag("outcome", outcome)
+                .tag("exception", exception)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,21 @@
+package com.ecommerce.backend.shared.metrics;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Maximum number of SQL statements one call of the annotated endpoint may run, counting the
+ * authentication lookup done by the security filter and statements run through a JdbcTemplate.
+ * Going over logs a warning, and fails the request when
+ * api.jdbc.statement-budget.fail-on-exceed is on, as it is in the tests.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface StatementBudget {
+
+    int value();
+}
@@ -0,0 +1,16 @@
+package com.ecommerce.backend.shared.metrics;
+
+import lombok.Getter;
+
+@Getter
+public class StatementBudgetExceededException extends RuntimeException {
+
+    private final String endpoint;
+    private final int budget;
+
+    public StatementBudgetExceededException(String endpoint, int budget, String sql) {
+        super("SQL statement budget of " + budget + " exceeded by " + endpoint + " at: " + sql);
+        this.endpoint = endpoint;
+        this.budget = budget;
+    }
+}
@@ -0,0 +1,51 @@
+package com.ecommerce.backend.shared.metrics;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Applies the {@link StatementBudget} of the matched controller method to the statements
+ * {@link JdbcStatementMetricsFilter} is counting, and logs requests that went over it.
+ */
+@Slf4j
+@Component
+@AllArgsConstructor
+public class StatementBudgetInterceptor implements HandlerInterceptor {
+
+    private final StatementCounter statementCounter;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        StatementBudget budget = budget(handler);
+        if (budget != null) {
+            statementCounter.budget(endpoint(request), budget.value());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+            Exception ex) {
+        StatementBudget budget = budget(handler);
+        int statements = statementCounter.current();
+        if (budget != null && statements > budget.value()) {
+            log.warn("SQL statement budget exceeded: endpoint=\"{}\" budget={} statements={} status={}",
+                    endpoint(request), budget.value(), statements, response.getStatus());
+        }
+    }
+
+    private static StatementBudget budget(Object handler) {
+        return handler instanceof HandlerMethod method ? method.getMethodAnnotation(StatementBudget.class) : null;
+    }
+
+    private static String endpoint(HttpServletRequest request) {
+        return request.getMethod() + " " + request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    }
+}
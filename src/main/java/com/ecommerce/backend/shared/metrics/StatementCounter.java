@@ -0,0 +1,68 @@
+package com.ecommerce.backend.shared.metrics;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts the SQL statements prepared on the current thread between {@link #start()} and
+ * {@link #stop()}, whether by Hibernate or a JdbcTemplate: {@link StatementCountingDataSource}
+ * reports every statement created on the application's connections. Threads that never called
+ * start() pay one ThreadLocal lookup per statement.
+ *
+ * With api.jdbc.statement-budget.fail-on-exceed (on in the test profile) the first statement
+ * past the {@link #budget budget} of the current request throws
+ * {@link StatementBudgetExceededException} instead of running.
+ */
+@Component
+public class StatementCounter {
+
+    private static final ThreadLocal<Count> COUNT = new ThreadLocal<>();
+
+    private final boolean failOnExceed;
+
+    public StatementCounter(@Value("${api.jdbc.statement-budget.fail-on-exceed:false}") boolean failOnExceed) {
+        this.failOnExceed = failOnExceed;
+    }
+
+    private static final class Count {
+        private int statements;
+        private int budget = Integer.MAX_VALUE;
+        private String endpoint;
+        private boolean failed;
+    }
+
+    // Called before a statement is created; throwing here keeps it from running
+    public void count(String sql) {
+        Count count = COUNT.get();
+        if (count != null && ++count.statements > count.budget && failOnExceed && !count.failed) {
+            count.failed = true;
+            throw new StatementBudgetExceededException(count.endpoint, count.budget, sql);
+        }
+    }
+
+    public void start() {
+        COUNT.set(new Count());
+    }
+
+    // Caps the statements of the request being counted on this thread; no-op when not counting
+    public void budget(String endpoint, int budget) {
+        Count count = COUNT.get();
+        if (count != null) {
+            count.endpoint = endpoint;
+            count.budget = budget;
+        }
+    }
+
+    // Statements counted so far on this thread, or 0 when not counting
+    public int current() {
+        Count count = COUNT.get();
+        return count == null ? 0 : count.statements;
+    }
+
+    // Statements counted since start(), or 0 when counting was not started on this thread
+    public int stop() {
+        int statements = current();
+        COUNT.remove();
+        return statements;
+    }
+}
@@ -0,0 +1,29 @@
+package com.ecommerce.backend.shared.metrics;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * Wraps the application's DataSource in a {@link StatementCountingDataSource}, so statements
+ * run through a JdbcTemplate are counted along with Hibernate's.
+ */
+@Component
+@AllArgsConstructor
+public class StatementCountingPostProcessor implements BeanPostProcessor {
+
+    // Looked up lazily: post-processors are created before regular beans
+    private final ObjectProvider<StatementCounter> statementCounter;
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof StatementCountingDataSource)) {
+            return new StatementCountingDataSource(dataSource, statementCounter.getObject());
+        }
+        return bean;
+    }
+}
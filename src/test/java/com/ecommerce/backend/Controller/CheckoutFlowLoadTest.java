@@ -0,0 +1,252 @@
+package com.ecommerce.backend.Controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ecommerce.backend.Controller.LoadTestHarness.Latencies;
+import com.ecommerce.backend.EcommerceSpringbootBackendApplication;
+import com.ecommerce.backend.model.Cart;
+import com.ecommerce.backend.model.Product;
+import com.ecommerce.backend.model.User;
+import com.ecommerce.backend.model.enums.UserRole;
+import com.ecommerce.backend.repository.CartRepository;
+import com.ecommerce.backend.repository.PaymentRepository;
+import com.ecommerce.backend.repository.ProductRepository;
+import com.ecommerce.backend.repository.UserRepository;
+import com.ecommerce.backend.service.search.ProductSearchIndex;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * The whole purchase path under concurrent customers, with per-endpoint numbers.
+ *
+ * Boots the application on a random port with its own in-memory H2 (MySQL mode), seeds
+ * users with empty carts and a catalog, then every user logs in once and runs a closed loop
+ * of search, add to cart, checkout and payment. Prints requests, req/s and p50/p95/p99 per
+ * endpoint. Sizes are system properties, e.g.
+ * {@code mvn -Pload test -Dtest=CheckoutFlowLoadTest -Dload.users=500 -Dload.checkouts=10}.
+ */
+@Tag("load")
+class CheckoutFlowLoadTest {
+
+    private static final int USERS = Integer.getInteger("load.users", 50);
+    private static final int CHECKOUTS_PER_USER = Integer.getInteger("load.checkouts", 5);
+    private static final int PRODUCTS = Integer.getInteger("load.products", 500);
+    private static final String PASSWORD = "12344321";
+
+    private enum Step {
+        LOGIN("POST /auth/login"),
+        SEARCH("GET /products/search"),
+        ADD_TO_CART("POST /cart"),
+        CHECKOUT("POST /order"),
+        PAYMENT("POST /payment");
+
+        private final String label;
+
+        Step(String label) {
+            this.label = label;
+        }
+    }
+
+    @Test
+    @DisplayName("Concurrent customers complete login, search, cart, checkout and payment without errors")
+    void checkoutFlow_UnderConcurrentUsers_ShouldReportLatencyPerEndpoint() throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+                EcommerceSpringbootBackendApplication.class)
+                .profiles("test")
+                .properties("server.port=0", "spring.jmx.enabled=false",
+                        "spring.datasource.url=jdbc:h2:mem:checkout-load;MODE=MySQL;DATABASE_TO_LOWER=TRUE;"
+                                + "LOCK_TIMEOUT=10000")
+                .run()) {
+            List<User> users = seedUsers(context);
+            List<Product> products = seedProducts(context);
+            String baseUrl = "http://localhost:" + ((ServletWebServerApplicationContext) context).getWebServer()
+                    .getPort();
+            ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+
+            long started = System.nanoTime();
+            List<Map<Step, Latencies>> perUser = drive(baseUrl, users, products, objectMapper);
+            double seconds = (System.nanoTime() - started) / 1e9;
+
+            Map<Step, Latencies> total = new EnumMap<>(Step.class);
+            for (Step step : Step.values()) {
+                total.put(step, Latencies.merge(perUser.stream().map(user -> user.get(step)).toList()));
+            }
+            print(total, seconds);
+
+            for (Step step : Step.values()) {
+                assertEquals(0, total.get(step).failures(), step.label + " failures");
+            }
+            assertEquals(USERS, total.get(Step.LOGIN).size());
+            assertEquals(USERS * CHECKOUTS_PER_USER, total.get(Step.PAYMENT).size());
+            assertEquals(USERS * CHECKOUTS_PER_USER, context.getBean(PaymentRepository.class).count());
+        }
+    }
+
+    private List<User> seedUsers(ConfigurableApplicationContext context) {
+        // BCrypt is deliberately slow; one hash shared by every seeded user keeps seeding fast
+        String hash = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+        List<User> users = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            users.add(User.builder()
+                    .email("load-" + i + "@mail.com")
+                    .password(hash)
+                    .role(UserRole.CUSTOMER)
+                    .build());
+        }
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        List<Long> ids = userRepository.saveAll(users).stream().map(User::getId).toList();
+        // Cart shares its id with the user (@MapsId), so the user must be managed when the cart is persisted
+        new TransactionTemplate(context.getBean(PlatformTransactionManager.class))
+                .executeWithoutResult(status -> context.getBean(CartRepository.class).saveAll(
+                        userRepository.findAllById(ids).stream()
+                                .map(user -> Cart.builder().user(user).build())
+                                .toList()));
+        return users;
+    }
+
+    private List<Product> seedProducts(ConfigurableApplicationContext context) {
+        List<Product> products = new ArrayList<>(PRODUCTS);
+        for (int i = 0; i < PRODUCTS; i++) {
+            products.add(Product.builder()
+                    .name("Load Product " + i)
+                    .description("Seeded for the checkout load test")
+                    .price(BigDecimal.valueOf(500 + i * 7L, 2))
+                    .stockQuantity(1_000_000)
+                    .build());
+        }
+        products = context.getBean(ProductRepository.class).saveAll(products);
+        // Seeded behind the service's back, so the search index has to be rebuilt by hand
+        context.getBean(ProductSearchIndex.class).rebuild(products);
+        return products;
+    }
+
+    private List<Map<Step, Latencies>> drive(String baseUrl, List<User> users, List<Product> products,
+            ObjectMapper objectMapper) throws Exception {
+        try (LoadTestHarness harness = new LoadTestHarness()) {
+            return harness.runConcurrently(users.size(), i -> () -> new Customer(harness.http(), baseUrl,
+                    objectMapper, products).run(users.get(i).getEmail()));
+        }
+    }
+
+    private static void print(Map<Step, Latencies> total, double seconds) {
+        System.out.printf("%d users x %d checkouts in %.1f s%n", USERS, CHECKOUTS_PER_USER, seconds);
+        System.out.printf("%-22s %9s %8s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "failed", "req/s", "p50 ms", "p95 ms", "p99 ms");
+        for (Step step : Step.values()) {
+            Latencies latencies = total.get(step);
+            double[] percentiles = latencies.percentilesMillis(0.50, 0.95, 0.99);
+            System.out.printf("%-22s %9d %8d %9.0f %9.1f %9.1f %9.1f%n", step.label, latencies.size(),
+                    latencies.failures(), latencies.size() / seconds, percentiles[0], percentiles[1],
+                    percentiles[2]);
+        }
+    }
+
+    /**
+     * One simulated customer. A failed step abandons the rest of that checkout so its
+     * failure does not cascade into misleading errors on the following endpoints.
+     */
+    private static final class Customer {
+
+        private final HttpClient http;
+        private final String baseUrl;
+        private final ObjectMapper objectMapper;
+        private final List<Product> products;
+        private final Map<Step, Latencies> latencies = new EnumMap<>(Step.class);
+        private String token;
+
+        Customer(HttpClient http, String baseUrl, ObjectMapper objectMapper, List<Product> products) {
+            this.http = http;
+            this.baseUrl = baseUrl;
+            this.objectMapper = objectMapper;
+            this.products = products;
+            for (Step step : Step.values()) {
+                latencies.put(step, new Latencies());
+            }
+        }
+
+        Map<Step, Latencies> run(String email) throws Exception {
+            JsonNode login = send(Step.LOGIN, post("/auth/login",
+                    "{\"email\":\"" + email + "\",\"password\":\"" + PASSWORD + "\"}"), 200);
+            if (login == null) {
+                return latencies;
+            }
+            token = login.get("data").get("token").asText();
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            for (int i = 0; i < CHECKOUTS_PER_USER; i++) {
+                Product product = products.get(random.nextInt(products.size()));
+                int quantity = 1 + random.nextInt(3);
+                if (send(Step.SEARCH, get("/products/search?name=Product+" + random.nextInt(100)
+                        + "&maxPrice=50&size=20"), 200) == null) {
+                    continue;
+                }
+                if (send(Step.ADD_TO_CART, post("/cart",
+                        "{\"productId\":" + product.getId() + ",\"quantity\":" + quantity + "}"), 201) == null) {
+                    continue;
+                }
+                JsonNode order = send(Step.CHECKOUT, post("/order", ""), 201);
+                if (order == null) {
+                    continue;
+                }
+                BigDecimal amount = product.getPrice().multiply(BigDecimal.valueOf(quantity));
+                send(Step.PAYMENT, post("/payment", "{\"orderId\":" + order.get("data").get("id").asLong()
+                        + ",\"paymentMethod\":\"MPESA\",\"amount\":" + amount + "}"), 201);
+            }
+            return latencies;
+        }
+
+        // The parsed body, or null when the request failed or returned another status
+        private JsonNode send(Step step, HttpRequest request, int expectedStatus) throws InterruptedException {
+            long sent = System.nanoTime();
+            try {
+                HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() != expectedStatus) {
+                    latencies.get(step).fail();
+                    System.out.printf("%s -> %d %s%n", step.label, response.statusCode(), response.body());
+                    return null;
+                }
+                latencies.get(step).addSince(sent);
+                return objectMapper.readTree(response.body());
+            } catch (IOException e) {
+                latencies.get(step).fail();
+                return null;
+            }
+        }
+
+        private HttpRequest get(String path) {
+            return authorized(HttpRequest.newBuilder(URI.create(baseUrl + path))).GET().build();
+        }
+
+        private HttpRequest post(String path, String json) {
+            return authorized(HttpRequest.newBuilder(URI.create(baseUrl + path)))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(json))
+                    .build();
+        }
+
+        private HttpRequest.Builder authorized(HttpRequest.Builder builder) {
+            return token == null ? builder : builder.header("Authorization", "Bearer " + token);
+        }
+    }
+}
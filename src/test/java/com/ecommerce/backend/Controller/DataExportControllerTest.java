@@ -0,0 +1,188 @@
+package com.ecommerce.backend.Controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.ecommerce.backend.model.Order;
+import com.ecommerce.backend.model.Payment;
+import com.ecommerce.backend.model.Product;
+import com.ecommerce.backend.model.User;
+import com.ecommerce.backend.model.enums.OrderStatus;
+import com.ecommerce.backend.model.enums.PaymentMethod;
+import com.ecommerce.backend.model.enums.PaymentStatus;
+import com.ecommerce.backend.model.enums.UserRole;
+import com.ecommerce.backend.repository.OrderRepository;
+import com.ecommerce.backend.repository.PaymentRepository;
+import com.ecommerce.backend.repository.ProductRepository;
+import com.ecommerce.backend.repository.UserRepository;
+import com.ecommerce.backend.security.TokenService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class DataExportControllerTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private PaymentRepository paymentRepository;
+    @Autowired
+    private TokenService tokenService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String adminToken;
+    private String customerToken;
+    private User customer;
+
+    @BeforeEach
+    void setUp() {
+        User admin = userRepository.save(User.builder()
+                .email("analyst@mail.com")
+                .password("12344321")
+                .role(UserRole.ADMIN)
+                .build());
+        customer = userRepository.save(User.builder()
+                .email("buyer@mail.com")
+                .password("12344321")
+                .role(UserRole.CUSTOMER)
+                .build());
+        adminToken = tokenService.generateToken(admin);
+        customerToken = tokenService.generateToken(customer);
+    }
+
+    @AfterEach
+    void tearDown() {
+        paymentRepository.deleteAll();
+        orderRepository.deleteAll();
+        productRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Streams every product as NDJSON, one object per line")
+    void exportProducts_AsNdjson_ShouldWriteOneLinePerRow() throws Exception {
+        Product desk = product("Desk", "Oak", "199.90");
+        product("Chair", "Pine", "49.00");
+
+        ResponseEntity<String> response = get("/products/export", adminToken);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(MediaType.APPLICATION_NDJSON.isCompatibleWith(response.getHeaders().getContentType()));
+        assertEquals("attachment; filename=\"products.ndjson\"",
+                response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION));
+        List<String> lines = response.getBody().lines().toList();
+        assertEquals(2, lines.size());
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertEquals(desk.getId(), first.get("id").asLong());
+        assertEquals("Desk", first.get("name").asText());
+        assertEquals(0, new BigDecimal("199.90").compareTo(first.get("price").decimalValue()));
+        assertTrue(first.get("updatedAt").isTextual());
+    }
+
+    @Test
+    @DisplayName("Exports CSV with a header and quoted fields")
+    void exportProducts_AsCsv_ShouldQuoteFields() {
+        Product lamp = product("Lamp, \"retro\"", "Brass", "25.50");
+
+        String body = get("/products/export?format=csv", adminToken).getBody();
+
+        List<String> lines = body.lines().toList();
+        assertEquals("id,name,description,price,stockQuantity,createdAt,updatedAt", lines.get(0));
+        assertTrue(lines.get(1).startsWith(lamp.getId() + ",\"Lamp, \"\"retro\"\"\",Brass,25.50,3,"));
+    }
+
+    @Test
+    @DisplayName("updatedSince only exports rows changed at or after it")
+    void exportProducts_WithUpdatedSince_ShouldBeIncremental() {
+        Product old = product("Old", "Stale", "1.00");
+        product("New", "Fresh", "2.00");
+        jdbcTemplate.update("UPDATE products SET updated_at = ? WHERE id = ?",
+                LocalDateTime.now().minusDays(2), old.getId());
+
+        String body = get("/products/export?format=csv&updatedSince=" + LocalDateTime.now().minusDays(1),
+                adminToken).getBody();
+
+        List<String> lines = body.lines().toList();
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(1).contains(",New,"));
+    }
+
+    @Test
+    @DisplayName("Exports orders and payments with their customer")
+    void exportOrdersAndPayments_ShouldFlattenRelations() throws Exception {
+        Order order = Order.builder()
+                .user(customer)
+                .status(OrderStatus.PAID)
+                .totalAmount(new BigDecimal("80.00"))
+                .build();
+        Payment payment = paymentRepository.save(Payment.builder()
+                .order(order)
+                .amount(new BigDecimal("80.00"))
+                .method(PaymentMethod.MPESA)
+                .status(PaymentStatus.SUCCESS)
+                .transactionReference("ref-1")
+                .build());
+
+        JsonNode orderRow = objectMapper.readTree(get("/order/export", adminToken).getBody().lines().findFirst()
+                .orElseThrow());
+        String payments = get("/payment/export?format=csv", adminToken).getBody();
+
+        Long orderId = payment.getOrder().getId();
+        assertEquals(orderId, orderRow.get("id").asLong());
+        assertEquals("buyer@mail.com", orderRow.get("userEmail").asText());
+        assertEquals("PAID", orderRow.get("status").asText());
+        assertTrue(payments.lines().toList().get(1)
+                .startsWith(payment.getId() + "," + orderId + ",buyer@mail.com,MPESA,SUCCESS,80.00,ref-1,"));
+    }
+
+    @Test
+    @DisplayName("Exports are reserved to admins and reject unknown formats")
+    void export_ShouldCheckRoleAndFormat() {
+        assertFalse(get("/products/export", customerToken).getStatusCode().is2xxSuccessful());
+        assertEquals(HttpStatus.BAD_REQUEST, get("/products/export?format=xml", adminToken).getStatusCode());
+    }
+
+    private Product product(String name, String description, String price) {
+        return productRepository.save(Product.builder()
+                .name(name)
+                .description(description)
+                .price(new BigDecimal(price))
+                .stockQuantity(3)
+                .build());
+    }
+
+    private ResponseEntity<String> get(String url, String token) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        return restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+    }
+}
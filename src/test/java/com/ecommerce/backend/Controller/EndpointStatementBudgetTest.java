@@ -0,0 +1,177 @@
+package com.ecommerce.backend.Controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.ecommerce.backend.model.Category;
+import com.ecommerce.backend.model.Product;
+import com.ecommerce.backend.model.User;
+import com.ecommerce.backend.model.enums.UserRole;
+import com.ecommerce.backend.repository.CartItemRepository;
+import com.ecommerce.backend.repository.CartRepository;
+import com.ecommerce.backend.repository.CategoryRepository;
+import com.ecommerce.backend.repository.OrderRepository;
+import com.ecommerce.backend.repository.ProductRepository;
+import com.ecommerce.backend.repository.UserRepository;
+import com.ecommerce.backend.security.PrincipalCache;
+import com.ecommerce.backend.security.TokenService;
+
+/**
+ * Calls every endpoint that carries a @StatementBudget with more than one row behind
+ * it. The test profile fails a request that runs over its budget, so an N+1 regression
+ * on any of them fails the regular build, not just the load profile.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class EndpointStatementBudgetTest {
+
+    private static final int ITEMS = 3;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private CartRepository cartRepository;
+    @Autowired
+    private CartItemRepository cartItemRepository;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private TokenService tokenService;
+    @Autowired
+    private PrincipalCache principalCache;
+
+    private String adminToken;
+    private String customerToken;
+    private User admin;
+    private User customer;
+    private List<Product> products;
+
+    @BeforeEach
+    void setUp() {
+        admin = userRepository.save(User.builder()
+                .email("budget-admin@mail.com")
+                .password("12344321")
+                .role(UserRole.ADMIN)
+                .build());
+        customer = userRepository.save(User.builder()
+                .email("budget-customer@mail.com")
+                .password("12344321")
+                .role(UserRole.CUSTOMER)
+                .build());
+        adminToken = tokenService.generateToken(admin);
+        customerToken = tokenService.generateToken(customer);
+
+        List<Product> seeded = new ArrayList<>();
+        for (int i = 0; i < ITEMS; i++) {
+            seeded.add(Product.builder()
+                    .name("Budget Product " + i)
+                    .description("Seeded for the statement budget test")
+                    .price(new BigDecimal("10.00").add(BigDecimal.valueOf(i)))
+                    .stockQuantity(100)
+                    .build());
+        }
+        products = productRepository.saveAll(seeded);
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderRepository.deleteAll();
+        cartItemRepository.deleteAll();
+        cartRepository.deleteAll();
+        categoryRepository.deleteAll();
+        productRepository.deleteAll();
+        userRepository.deleteAll();
+        // Deleted behind UserService's back, so the next test's users are not shadowed by these
+        principalCache.evict(admin.getEmail());
+        principalCache.evict(customer.getEmail());
+    }
+
+    @Test
+    @DisplayName("Adding to, listing and clearing a cart with several items stays within budget")
+    void cartEndpoints_WithSeveralItems_ShouldStayWithinBudget() {
+        fillCart();
+
+        ResponseEntity<String> own = exchange(HttpMethod.GET, "/cart", null, customerToken);
+        assertEquals(HttpStatus.OK, own.getStatusCode(), own.getBody());
+        assertTrue(own.getBody().contains("Budget Product " + (ITEMS - 1)), own.getBody());
+
+        ResponseEntity<String> ofUser = exchange(HttpMethod.GET, "/cart/getUserCart/" + customer.getId(), null,
+                adminToken);
+        assertEquals(HttpStatus.OK, ofUser.getStatusCode(), ofUser.getBody());
+
+        ResponseEntity<String> cleared = exchange(HttpMethod.DELETE, "/cart", null, customerToken);
+        assertEquals(HttpStatus.OK, cleared.getStatusCode(), cleared.getBody());
+        assertEquals(0, cartItemRepository.count());
+    }
+
+    @Test
+    @DisplayName("Checking out and listing several orders with several items stays within budget")
+    void orderEndpoints_WithSeveralOrders_ShouldStayWithinBudget() {
+        for (int i = 0; i < ITEMS; i++) {
+            fillCart();
+            ResponseEntity<String> created = exchange(HttpMethod.POST, "/order", null, customerToken);
+            assertEquals(HttpStatus.CREATED, created.getStatusCode(), created.getBody());
+        }
+
+        ResponseEntity<String> history = exchange(HttpMethod.GET, "/order", null, customerToken);
+
+        assertEquals(HttpStatus.OK, history.getStatusCode(), history.getBody());
+        assertEquals(ITEMS, orderRepository.count());
+    }
+
+    @Test
+    @DisplayName("Listing categories and reading one stays within budget")
+    void categoryEndpoints_WithSeveralCategories_ShouldStayWithinBudget() {
+        List<Category> categories = categoryRepository.saveAll(List.of(
+                Category.builder().name("Livros").build(),
+                Category.builder().name("Jogos").build(),
+                Category.builder().name("Música").build()));
+
+        ResponseEntity<String> list = exchange(HttpMethod.GET, "/category", null, customerToken);
+        assertEquals(HttpStatus.OK, list.getStatusCode(), list.getBody());
+        assertTrue(list.getBody().contains("Jogos"), list.getBody());
+
+        ResponseEntity<String> one = exchange(HttpMethod.GET, "/category/" + categories.get(0).getId(), null,
+                customerToken);
+        assertEquals(HttpStatus.OK, one.getStatusCode(), one.getBody());
+    }
+
+    private void fillCart() {
+        for (Product product : products) {
+            ResponseEntity<String> added = exchange(HttpMethod.POST, "/cart",
+                    "{\"productId\":" + product.getId() + ",\"quantity\":2}", customerToken);
+            assertEquals(HttpStatus.CREATED, added.getStatusCode(), added.getBody());
+        }
+    }
+
+    private ResponseEntity<String> exchange(HttpMethod method, String url, String body, String token) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return restTemplate.exchange(url, method, new HttpEntity<>(body, headers), String.class);
+    }
+}
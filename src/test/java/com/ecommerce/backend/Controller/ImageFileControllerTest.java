@@ -0,0 +1,256 @@
+package com.ecommerce.backend.Controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.ecommerce.backend.model.User;
+import com.ecommerce.backend.model.enums.UserRole;
+import com.ecommerce.backend.repository.UserRepository;
+import com.ecommerce.backend.security.TokenService;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class ImageFileControllerTest {
+
+    private static final String IMAGE = "0b7e0c1e-photo.jpg";
+    private static final int IMAGE_SIZE = 5 * 1024 * 1024;
+    private static final byte[] THUMBNAIL_BYTES = "thumbnail".getBytes(StandardCharsets.US_ASCII);
+    private static final String HASH = "9f".repeat(32);
+
+    private static Path uploadDir;
+    private static byte[] imageBytes;
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private TestRestTemplate restTemplate;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TokenService tokenService;
+
+    private String token;
+
+    @BeforeAll
+    static void createImage() throws IOException {
+        uploadDir = Files.createTempDirectory("images");
+        imageBytes = new byte[IMAGE_SIZE];
+        new Random(42).nextBytes(imageBytes);
+        Files.write(uploadDir.resolve(IMAGE), imageBytes);
+        Files.write(uploadDir.resolve("0b7e0c1e-photo_thumbnail.jpg"), THUMBNAIL_BYTES);
+        Path shard = Files.createDirectories(uploadDir.resolve("9f/9f"));
+        Files.write(shard.resolve(HASH + ".jpg"), THUMBNAIL_BYTES);
+    }
+
+    @DynamicPropertySource
+    static void uploadDirectory(DynamicPropertyRegistry registry) {
+        registry.add("file.upload-dir", () -> uploadDir.toString());
+    }
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(User.builder()
+                .email("viewer@mail.com")
+                .password("12344321")
+                .role(UserRole.CUSTOMER)
+                .build());
+        token = tokenService.generateToken(user);
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Serves the file with validators and a long-lived Cache-Control")
+    void getImage_ShouldStreamFileWithCacheHeaders() {
+        ResponseEntity<byte[]> response = get(new HttpHeaders());
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertArrayEquals(imageBytes, response.getBody());
+        assertEquals(MediaType.IMAGE_JPEG, response.getHeaders().getContentType());
+        assertEquals(IMAGE_SIZE, response.getHeaders().getContentLength());
+        assertEquals("bytes", response.getHeaders().getFirst(HttpHeaders.ACCEPT_RANGES));
+        assertNotNull(response.getHeaders().getETag());
+        assertTrue(response.getHeaders().getLastModified() > 0);
+        assertEquals("max-age=31536000, public, immutable", response.getHeaders().getCacheControl());
+    }
+
+    @Test
+    @DisplayName("Answers a byte range with 206 and only the requested bytes")
+    void getImage_WithRange_ShouldReturnPartialContent() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RANGE, "bytes=1000-1099");
+
+        ResponseEntity<byte[]> response = get(headers);
+
+        assertEquals(HttpStatus.PARTIAL_CONTENT, response.getStatusCode());
+        assertEquals("bytes 1000-1099/" + IMAGE_SIZE, response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE));
+        assertEquals(100, response.getBody().length);
+        assertEquals(imageBytes[1000], response.getBody()[0]);
+        assertEquals(imageBytes[1099], response.getBody()[99]);
+    }
+
+    @Test
+    @DisplayName("Revalidation with a matching ETag or date returns 304 without a body")
+    void getImage_WhenNotModified_ShouldReturn304() {
+        HttpHeaders first = get(new HttpHeaders()).getHeaders();
+
+        HttpHeaders byETag = new HttpHeaders();
+        byETag.setIfNoneMatch(first.getETag());
+        ResponseEntity<byte[]> etagResponse = get(byETag);
+
+        HttpHeaders byDate = new HttpHeaders();
+        byDate.setIfModifiedSince(first.getLastModified());
+        ResponseEntity<byte[]> dateResponse = get(byDate);
+
+        assertEquals(HttpStatus.NOT_MODIFIED, etagResponse.getStatusCode());
+        assertNull(etagResponse.getBody());
+        assertEquals(first.getETag(), etagResponse.getHeaders().getETag());
+        assertEquals(HttpStatus.NOT_MODIFIED, dateResponse.getStatusCode());
+    }
+
+    @Test
+    @DisplayName("A generated variant is served by size; a missing one falls back to the original")
+    void getImage_WithSize_ShouldServeVariantOrOriginal() {
+        ResponseEntity<byte[]> thumbnail = get("?size=thumbnail", new HttpHeaders());
+        ResponseEntity<byte[]> card = get("?size=CARD", new HttpHeaders());
+        ResponseEntity<byte[]> unknown = get("?size=huge", new HttpHeaders());
+
+        assertArrayEquals(THUMBNAIL_BYTES, thumbnail.getBody());
+        assertEquals("max-age=31536000, public, immutable", thumbnail.getHeaders().getCacheControl());
+        assertEquals(IMAGE_SIZE, card.getBody().length);
+        assertEquals("no-cache", card.getHeaders().getCacheControl());
+        assertEquals(HttpStatus.BAD_REQUEST, unknown.getStatusCode());
+    }
+
+    @Test
+    @DisplayName("A content-addressed name is served from its shard with the hash as ETag")
+    void getImage_WithContentHashName_ShouldServeFromShard() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+
+        ResponseEntity<byte[]> response = restTemplate.exchange("/images/" + HASH + ".jpg", HttpMethod.GET,
+                new HttpEntity<>(headers), byte[].class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertArrayEquals(THUMBNAIL_BYTES, response.getBody());
+        assertEquals("\"" + HASH + "\"", response.getHeaders().getETag());
+    }
+
+    @Test
+    @DisplayName("Unknown files return 404")
+    void getImage_WithUnknownFile_ShouldReturn404() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+
+        ResponseEntity<byte[]> response = restTemplate.exchange("/images/missing.png", HttpMethod.GET,
+                new HttpEntity<>(headers), byte[].class);
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+
+    /**
+     * Many clients download the 5 MB image at once. The bytes allocated on the heap
+     * while serving must stay a small fraction of the bytes sent: a handler that reads
+     * the whole file into memory would allocate at least one image per download.
+     */
+    @Test
+    @Tag("load")
+    @DisplayName("Concurrent downloads do not allocate the image on the heap")
+    void getImage_UnderConcurrentDownloads_ShouldKeepHeapFlat() throws Exception {
+        int clients = 32;
+        int downloadsPerClient = 8;
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory
+                .getThreadMXBean();
+        download(); // aquecimento
+
+        long allocatedBefore = threads.getTotalThreadAllocatedBytes();
+        ExecutorService pool = Executors.newFixedThreadPool(clients);
+        List<Future<Long>> results = new ArrayList<>();
+        for (int i = 0; i < clients; i++) {
+            results.add(pool.submit(() -> {
+                long received = 0;
+                for (int d = 0; d < downloadsPerClient; d++) {
+                    received += download();
+                }
+                return received;
+            }));
+        }
+        long served = 0;
+        for (Future<Long> result : results) {
+            served += result.get();
+        }
+        pool.shutdown();
+        long allocated = threads.getTotalThreadAllocatedBytes() - allocatedBefore;
+
+        assertTrue(served >= (long) clients * downloadsPerClient * IMAGE_SIZE);
+        assertTrue(allocated < served / 5,
+                "allocated " + (allocated >> 20) + " MB to serve " + (served >> 20) + " MB");
+    }
+
+    private ResponseEntity<byte[]> get(HttpHeaders headers) {
+        return get("", headers);
+    }
+
+    private ResponseEntity<byte[]> get(String query, HttpHeaders headers) {
+        headers.setBearerAuth(token);
+        return restTemplate.exchange("/images/" + IMAGE + query, HttpMethod.GET, new HttpEntity<>(headers),
+                byte[].class);
+    }
+
+    // Cliente HTTP mínimo sobre socket: lê a resposta num buffer fixo e descarta.
+    private long download() throws IOException {
+        try (Socket socket = new Socket("localhost", port)) {
+            OutputStream out = socket.getOutputStream();
+            out.write(("GET /images/" + IMAGE + " HTTP/1.1\r\n"
+                    + "Host: localhost\r\n"
+                    + "Authorization: Bearer " + token + "\r\n"
+                    + "Connection: close\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            InputStream in = socket.getInputStream();
+            byte[] buffer = new byte[64 * 1024];
+            long received = 0;
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                received += read;
+            }
+            return received;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.ecommerce.backend.Controller;
+
+import java.net.http.HttpClient;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+
+/**
+ * Client side of the load tests: closed-loop clients on virtual threads sharing one
+ * HTTP/1.1 client, released together, plus latency bookkeeping and percentiles.
+ */
+final class LoadTestHarness implements AutoCloseable {
+
+    private final ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpClient http = HttpClient.newBuilder()
+            .executor(clients)
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+
+    HttpClient http() {
+        return http;
+    }
+
+    /**
+     * Runs {@code count} clients at once and waits for all of them.
+     *
+     * @return each client's result, in client order
+     */
+    <T> List<T> runConcurrently(int count, IntFunction<Callable<T>> client) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<T>> futures = new ArrayList<>(count);
+        for (int c = 0; c < count; c++) {
+            Callable<T> task = client.apply(c);
+            futures.add(clients.submit(() -> {
+                start.await();
+                return task.call();
+            }));
+        }
+        start.countDown();
+        List<T> results = new ArrayList<>(count);
+        for (Future<T> future : futures) {
+            results.add(future.get());
+        }
+        return results;
+    }
+
+    @Override
+    public void close() {
+        http.close();
+        clients.close();
+    }
+
+    // Latencies of successful requests in microseconds, plus the number of failed ones
+    static final class Latencies {
+
+        private long[] values = new long[16];
+        private int size;
+        private long failures;
+
+        static Latencies merge(List<Latencies> all) {
+            Latencies merged = new Latencies();
+            all.forEach(merged::addAll);
+            return merged;
+        }
+
+        void add(long micros) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = micros;
+        }
+
+        void addSince(long sentNanos) {
+            add((System.nanoTime() - sentNanos) / 1_000);
+        }
+
+        void fail() {
+            failures++;
+        }
+
+        void addAll(Latencies other) {
+            for (int i = 0; i < other.size; i++) {
+                add(other.values[i]);
+            }
+            failures += other.failures;
+        }
+
+        int size() {
+            return size;
+        }
+
+        long failures() {
+            return failures;
+        }
+
+        // The given percentiles in milliseconds, from a single sort
+        double[] percentilesMillis(double... percentiles) {
+            long[] sorted = Arrays.copyOf(values, size);
+            Arrays.sort(sorted);
+            double[] millis = new double[percentiles.length];
+            for (int i = 0; i < percentiles.length; i++) {
+                millis[i] = sorted.length == 0 ? 0
+                        : sorted[(int) Math.ceil(percentiles[i] * sorted.length) - 1] / 1000.0;
+            }
+            return millis;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.ecommerce.backend.Controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.ecommerce.backend.model.User;
+import com.ecommerce.backend.model.base.SecondLevelCacheConfig;
+import com.ecommerce.backend.model.enums.UserRole;
+import com.ecommerce.backend.repository.UserRepository;
+import com.ecommerce.backend.security.TokenService;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+class MetricsEndpointTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TokenService tokenService;
+
+    private String adminToken;
+    private String customerToken;
+
+    @BeforeEach
+    void setUp() {
+        adminToken = tokenService.generateToken(userRepository.save(User.builder()
+                .email("ops@mail.com")
+                .password("12344321")
+                .role(UserRole.ADMIN)
+                .build()));
+        customerToken = tokenService.generateToken(userRepository.save(User.builder()
+                .email("shopper@mail.com")
+                .password("12344321")
+                .role(UserRole.CUSTOMER)
+                .build()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Exposes service timers and JDBC statements per endpoint in Prometheus format")
+    void prometheus_ShouldExposeServiceAndStatementMetrics() {
+        assertEquals(HttpStatus.OK, get("/products/search?name=lamp", customerToken).getStatusCode());
+        assertEquals(HttpStatus.NOT_FOUND, get("/products/999999", customerToken).getStatusCode());
+
+        ResponseEntity<String> scrape = get("/actuator/prometheus", adminToken);
+
+        assertEquals(HttpStatus.OK, scrape.getStatusCode());
+        String body = scrape.getBody();
+        assertTrue(body.contains("service_method_seconds_count{class=\"ProductService\",exception=\"none\","
+                + "method=\"searchProducts\",outcome=\"SUCCESS\""), body);
+        assertTrue(body.contains("service_method_errors_total{class=\"ProductService\","
+                + "exception=\"BusinessException\",method=\"findProductById\""), body);
+        assertTrue(body.contains("http_server_requests_jdbc_statements_count{method=\"GET\",outcome=\"SUCCESS\","
+                + "uri=\"/products/search\""), body);
+        assertTrue(body.contains("service_method_seconds_bucket{"), "service timers publish histograms");
+    }
+
+    @Test
+    @DisplayName("Publishes second-level cache requests and puts per region")
+    void prometheus_ShouldExposeSecondLevelCacheRegions() {
+        String body = get("/actuator/prometheus", adminToken).getBody();
+
+        for (String region : List.of(SecondLevelCacheConfig.CATEGORY_REGION,
+                SecondLevelCacheConfig.PRODUCT_CATEGORY_REGION, SecondLevelCacheConfig.PRODUCT_REGION)) {
+            assertTrue(body.contains("region=\"" + region + "\""), region);
+        }
+        assertTrue(body.contains("hibernate_second_level_cache_requests_total{"), body);
+        assertTrue(body.contains("hibernate_second_level_cache_puts_total{"), body);
+    }
+
+    @Test
+    @DisplayName("The scrape endpoint is reserved to admins")
+    void prometheus_ShouldRequireAdmin() {
+        assertFalse(get("/actuator/prometheus", customerToken).getStatusCode().is2xxSuccessful());
+    }
+
+    private ResponseEntity<String> get(String url, String token) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        return restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+    }
+}
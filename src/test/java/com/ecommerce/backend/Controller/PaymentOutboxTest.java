@@ -0,0 +1,117 @@
+package com.ecommerce.backend.Controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ecommerce.backend.dto.requestDto.PaymentRequestDto;
+import com.ecommerce.backend.model.Order;
+import com.ecommerce.backend.model.User;
+import com.ecommerce.backend.model.enums.OrderStatus;
+import com.ecommerce.backend.model.enums.PaymentMethod;
+import com.ecommerce.backend.model.enums.UserRole;
+import com.ecommerce.backend.repository.OrderRepository;
+import com.ecommerce.backend.repository.OutboxEventRepository;
+import com.ecommerce.backend.repository.PaymentRepository;
+import com.ecommerce.backend.repository.UserRepository;
+import com.ecommerce.backend.security.TokenService;
+import com.ecommerce.backend.service.outbox.OutboxDispatcher;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class PaymentOutboxTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private PaymentRepository paymentRepository;
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+    @Autowired
+    private TokenService tokenService;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+
+    private String token;
+    private Order order;
+
+    @BeforeEach
+    void setUp() {
+        User customer = userRepository.save(User.builder()
+                .email("payer@mail.com")
+                .password("12344321")
+                .role(UserRole.CUSTOMER)
+                .build());
+        token = tokenService.generateToken(customer);
+        order = orderRepository.save(Order.builder()
+                .user(customer)
+                .status(OrderStatus.PENDING)
+                .totalAmount(new BigDecimal("50.00"))
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxEventRepository.deleteAll();
+        paymentRepository.deleteAll();
+        orderRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("A payment links its order through the outbox, after the response")
+    void createPayment_ShouldLinkOrderAsynchronously() throws InterruptedException {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+
+        ResponseEntity<String> response = restTemplate.exchange("/payment", HttpMethod.POST,
+                new HttpEntity<>(new PaymentRequestDto(order.getId(), PaymentMethod.MPESA, new BigDecimal("50.00")),
+                        headers),
+                String.class);
+
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        Long linkedPaymentId = null;
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (System.currentTimeMillis() < deadline) {
+            // Polling is off in tests; delivery still runs on the dispatcher's executor
+            outboxDispatcher.dispatch();
+            linkedPaymentId = linkedPaymentId();
+            if (linkedPaymentId != null && outboxEventRepository.count() == 0) {
+                break;
+            }
+            Thread.sleep(50);
+        }
+        assertNotNull(linkedPaymentId);
+        assertEquals(paymentRepository.findAll().get(0).getId(), linkedPaymentId);
+        assertEquals(0, outboxEventRepository.count());
+    }
+
+    private Long linkedPaymentId() {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            Order current = orderRepository.findById(order.getId()).orElseThrow();
+            return current.getPayment() != null ? current.getPayment().getId() : null;
+        });
+    }
+}
@@ -0,0 +1,227 @@
+package com.ecommerce.backend.Controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.ecommerce.backend.dto.ResponseDto.ProductImportErrorResponseDto;
+import com.ecommerce.backend.dto.ResponseDto.ProductImportJobResponseDto;
+import com.ecommerce.backend.model.Product;
+import com.ecommerce.backend.model.ProductImportJob;
+import com.ecommerce.backend.model.User;
+import com.ecommerce.backend.model.enums.DataFormat;
+import com.ecommerce.backend.model.enums.ImportJobStatus;
+import com.ecommerce.backend.model.enums.UserRole;
+import com.ecommerce.backend.repository.ProductImportErrorRepository;
+import com.ecommerce.backend.repository.ProductImportJobRepository;
+import com.ecommerce.backend.repository.ProductRepository;
+import com.ecommerce.backend.repository.UserRepository;
+import com.ecommerce.backend.security.TokenService;
+import com.ecommerce.backend.service.bulk.ProductImportService;
+import com.ecommerce.backend.shared.apiResponse.ApiResponse;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class ProductBulkImportControllerTest {
+
+    private static final ParameterizedTypeReference<ApiResponse<ProductImportJobResponseDto>> JOB_RESPONSE =
+            new ParameterizedTypeReference<>() {
+            };
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private ProductImportJobRepository jobRepository;
+    @Autowired
+    private ProductImportErrorRepository errorRepository;
+    @Autowired
+    private ProductImportService productImportService;
+    @Autowired
+    private TokenService tokenService;
+
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        User admin = userRepository.save(User.builder()
+                .email("importer@mail.com")
+                .password("12344321")
+                .role(UserRole.ADMIN)
+                .build());
+        token = tokenService.generateToken(admin);
+        productRepository.save(Product.builder()
+                .name("Existing Lamp")
+                .description("Already in the catalog")
+                .price(new BigDecimal("10.00"))
+                .stockQuantity(1)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        errorRepository.deleteAll();
+        jobRepository.deleteAll();
+        productRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Imports a CSV in the background and reports rejected rows")
+    void bulkImport_WithCsv_ShouldImportValidRowsAndReportErrors() {
+        String csv = """
+                name,description,price,stockQuantity
+                Desk,"Oak desk, 120cm",199.90,5
+                "Chair ""Pro\"\"\",Ergonomic,89.50,12
+                existing lamp,Duplicate of the catalog,5.00,1
+                Desk,Duplicate within the file,10.00,1
+                Shelf,,30.00,2
+                Stool,Three legs,abc,2
+                """;
+
+        ResponseEntity<ApiResponse<ProductImportJobResponseDto>> started = post(csv, "text/csv");
+        assertEquals(HttpStatus.ACCEPTED, started.getStatusCode());
+        ProductImportJobResponseDto job = awaitFinished(started.getBody().getData().id());
+
+        assertEquals(ImportJobStatus.COMPLETED, job.status());
+        assertEquals(6, job.rowsRead());
+        assertEquals(2, job.rowsImported());
+        assertEquals(4, job.rowsRejected());
+        assertTrue(job.rowsPerSecond() > 0);
+        assertEquals(List.of(
+                new ProductImportErrorResponseDto(3, "Product name already exists"),
+                new ProductImportErrorResponseDto(4, "Product name already exists"),
+                new ProductImportErrorResponseDto(5, "The Description can not be null"),
+                new ProductImportErrorResponseDto(6, "Invalid price 'abc'")), job.errors());
+        assertEquals("Oak desk, 120cm", productRepository.findByName("Desk").orElseThrow().getDescription());
+        Product chair = productRepository.findByName("Chair \"Pro\"").orElseThrow();
+        assertEquals(0, new BigDecimal("89.50").compareTo(chair.getPrice()));
+        assertEquals("importer@mail.com", chair.getCreatedBy());
+        assertNotNull(chair.getCreatedAt());
+    }
+
+    @Test
+    @DisplayName("Imports NDJSON, one object per line")
+    void bulkImport_WithNdjson_ShouldImportRows() {
+        String ndjson = """
+                {"name":"Lamp","description":"Desk lamp","price":25.5,"stockQuantity":3}
+
+                {"name":"Rug","description":"Wool","price":"cheap","stockQuantity":1}
+                not json
+                """;
+
+        ProductImportJobResponseDto job = awaitFinished(post(ndjson, MediaType.APPLICATION_NDJSON_VALUE)
+                .getBody().getData().id());
+
+        assertEquals(ImportJobStatus.COMPLETED, job.status());
+        assertEquals(3, job.rowsRead());
+        assertEquals(1, job.rowsImported());
+        assertEquals(0, new BigDecimal("25.5").compareTo(productRepository.findByName("Lamp").orElseThrow().getPrice()));
+        assertEquals("Invalid price 'cheap'", job.errors().get(0).message());
+        assertTrue(job.errors().get(1).message().startsWith("Malformed JSON"));
+    }
+
+    @Test
+    @DisplayName("A resumed job continues after its last committed row")
+    void process_WithCommittedRows_ShouldResumeAfterThem() throws IOException {
+        Path spool = Files.createTempFile("import-", ".csv");
+        Files.writeString(spool, """
+                name,description,price,stockQuantity
+                First,Committed before the crash,1.00,1
+                Second,Committed before the crash,1.00,1
+                Third,Still to import,1.00,1
+                """);
+        ProductImportJob job = jobRepository.save(ProductImportJob.builder()
+                .format(DataFormat.CSV)
+                .status(ImportJobStatus.RUNNING)
+                .spoolFile(spool.toString())
+                .rowsRead(2)
+                .rowsImported(2)
+                .build());
+
+        productImportService.process(job.getId());
+
+        ProductImportJob finished = jobRepository.findById(job.getId()).orElseThrow();
+        assertEquals(ImportJobStatus.COMPLETED, finished.getStatus());
+        assertEquals(3, finished.getRowsRead());
+        assertEquals(3, finished.getRowsImported());
+        assertTrue(productRepository.findByName("First").isEmpty());
+        assertTrue(productRepository.findByName("Third").isPresent());
+        assertFalse(Files.exists(spool));
+    }
+
+    @Test
+    @DisplayName("A CSV without the expected header fails the job with a message")
+    void bulkImport_WithBadHeader_ShouldFailJob() {
+        ProductImportJobResponseDto job = awaitFinished(post("title,cost\nDesk,10\n", "text/csv")
+                .getBody().getData().id());
+
+        assertEquals(ImportJobStatus.FAILED, job.status());
+        assertTrue(job.failureMessage().contains("CSV header"));
+        assertEquals(0, job.rowsRead());
+    }
+
+    @Test
+    @DisplayName("Other content types are rejected")
+    void bulkImport_WithUnsupportedType_ShouldReturn415() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        headers.setContentType(MediaType.APPLICATION_XML);
+
+        ResponseEntity<String> response = restTemplate.exchange("/products/bulk", HttpMethod.POST,
+                new HttpEntity<>("<products/>", headers), String.class);
+
+        assertEquals(HttpStatus.UNSUPPORTED_MEDIA_TYPE, response.getStatusCode());
+    }
+
+    private ResponseEntity<ApiResponse<ProductImportJobResponseDto>> post(String body, String contentType) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        headers.setContentType(MediaType.parseMediaType(contentType));
+        return restTemplate.exchange("/products/bulk", HttpMethod.POST, new HttpEntity<>(body, headers),
+                JOB_RESPONSE);
+    }
+
+    private ProductImportJobResponseDto awaitFinished(Long jobId) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (true) {
+            ProductImportJobResponseDto job = restTemplate.exchange("/products/bulk/" + jobId, HttpMethod.GET,
+                    new HttpEntity<>(headers), JOB_RESPONSE).getBody().getData();
+            boolean finished = job.status() == ImportJobStatus.COMPLETED || job.status() == ImportJobStatus.FAILED;
+            if (finished || System.currentTimeMillis() > deadline) {
+                return job;
+            }
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return job;
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.ecommerce.backend.Controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.ecommerce.backend.model.User;
+import com.ecommerce.backend.model.enums.UserRole;
+import com.ecommerce.backend.repository.ProductRepository;
+import com.ecommerce.backend.repository.UserRepository;
+import com.ecommerce.backend.security.TokenService;
+import com.ecommerce.backend.shared.metrics.StatementBudget;
+
+import lombok.AllArgsConstructor;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@Import(StatementBudgetTest.BudgetedController.class)
+class StatementBudgetTest {
+
+    @RestController
+    @AllArgsConstructor
+    static class BudgetedController {
+
+        private final ProductRepository productRepository;
+        private final JdbcTemplate jdbcTemplate;
+
+        // The principal lookup counts too, so the budget leaves room for it
+        @StatementBudget(3)
+        @GetMapping("/test/budgeted")
+        public long count(@RequestParam int queries) {
+            long total = 0;
+            for (int i = 0; i < queries; i++) {
+                total += productRepository.count();
+            }
+            return total;
+        }
+
+        @StatementBudget(3)
+        @GetMapping("/test/budgeted/jdbc")
+        public long countWithJdbc(@RequestParam int queries) {
+            long total = 0;
+            for (int i = 0; i < queries; i++) {
+                total += jdbcTemplate.queryForObject("SELECT COUNT(*) FROM products", Long.class);
+            }
+            return total;
+        }
+    }
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TokenService tokenService;
+
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        token = tokenService.generateToken(userRepository.save(User.builder()
+                .email("budget@mail.com")
+                .password("12344321")
+                .role(UserRole.CUSTOMER)
+                .build()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("An endpoint within its statement budget answers normally")
+    void withinBudget_ShouldSucceed() {
+        assertEquals(HttpStatus.OK, get("/test/budgeted?queries=2").getStatusCode());
+    }
+
+    @Test
+    @DisplayName("An endpoint over its statement budget fails the request in tests")
+    void overBudget_ShouldFailRequest() {
+        ResponseEntity<String> response = get("/test/budgeted?queries=5");
+
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
+        assertTrue(response.getBody().contains("StatementBudgetExceededException"), response.getBody());
+    }
+
+    @Test
+    @DisplayName("Statements run through a JdbcTemplate count towards the budget")
+    void overBudget_WithJdbcTemplate_ShouldFailRequest() {
+        assertEquals(HttpStatus.OK, get("/test/budgeted/jdbc?queries=2").getStatusCode());
+
+        ResponseEntity<String> response = get("/test/budgeted/jdbc?queries=5");
+
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
+        assertTrue(response.getBody().contains("StatementBudgetExceededException"), response.getBody());
+    }
+
+    private ResponseEntity<String> get(String url) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        return restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+    }
+}
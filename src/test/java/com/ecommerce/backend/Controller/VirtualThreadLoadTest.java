@@ -0,0 +1,136 @@
+package com.ecommerce.backend.Controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+
+import com.ecommerce.backend.Controller.LoadTestHarness.Latencies;
+import com.ecommerce.backend.EcommerceSpringbootBackendApplication;
+import com.ecommerce.backend.model.Product;
+import com.ecommerce.backend.model.User;
+import com.ecommerce.backend.model.enums.UserRole;
+import com.ecommerce.backend.repository.ProductRepository;
+import com.ecommerce.backend.repository.UserRepository;
+import com.ecommerce.backend.security.TokenService;
+
+import jakarta.servlet.Filter;
+
+/**
+ * Platform versus virtual request threads at 2,000 concurrent clients.
+ *
+ * H2 answers in microseconds, so every request also sleeps in a filter for the time a
+ * MySQL round trip would block it. Each mode gets its own application on a random port;
+ * the clients run a closed loop of authenticated GET /products/{id}. With 200 Tomcat
+ * threads and 50 ms of blocking, platform mode tops out at 4,000 req/s; on small machines
+ * the CPU saturates first and the gap is smaller, or reversed. The comparison is therefore
+ * printed, not asserted; only failed requests fail the test.
+ */
+@Tag("load")
+class VirtualThreadLoadTest {
+
+    private static final int CLIENTS = 2_000;
+    private static final int REQUESTS_PER_CLIENT = 10;
+    private static final long SIMULATED_DATABASE_MILLIS = 50;
+
+    @Test
+    @DisplayName("Platform and virtual threads both serve blocking load without errors")
+    void virtualThreads_ComparedToPlatformThreads_UnderBlockingLoad() throws Exception {
+        Result platform = run(false);
+        Result virtual = run(true);
+
+        System.out.printf("%-8s %10s %10s %10s%n", "mode", "req/s", "p50 ms", "p99 ms");
+        System.out.printf("%-8s %10.0f %10.1f %10.1f%n", "platform", platform.throughput(), platform.p50(),
+                platform.p99());
+        System.out.printf("%-8s %10.0f %10.1f %10.1f%n", "virtual", virtual.throughput(), virtual.p50(), virtual.p99());
+
+        assertEquals(0, platform.failures());
+        assertEquals(0, virtual.failures());
+    }
+
+    private Result run(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+                EcommerceSpringbootBackendApplication.class)
+                .profiles("test")
+                .properties("server.port=0", "spring.jmx.enabled=false",
+                        "spring.threads.virtual.enabled=" + virtualThreads)
+                .initializers(ctx -> ((GenericApplicationContext) ctx).registerBean("simulatedDatabaseLatency",
+                        Filter.class, () -> (request, response, chain) -> {
+                            try {
+                                Thread.sleep(SIMULATED_DATABASE_MILLIS);
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                            chain.doFilter(request, response);
+                        }))
+                .run()) {
+            int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            User user = context.getBean(UserRepository.class).save(User.builder()
+                    .email("load@mail.com")
+                    .password("12344321")
+                    .role(UserRole.CUSTOMER)
+                    .build());
+            Product product = context.getBean(ProductRepository.class).save(Product.builder()
+                    .name("Load test product")
+                    .description("Load test product")
+                    .price(new BigDecimal("10.00"))
+                    .stockQuantity(1)
+                    .build());
+            HttpRequest request = HttpRequest.newBuilder(
+                    URI.create("http://localhost:" + port + "/products/" + product.getId()))
+                    .header("Authorization", "Bearer " + context.getBean(TokenService.class).generateToken(user))
+                    .build();
+            return load(request);
+        }
+    }
+
+    private Result load(HttpRequest request) throws Exception {
+        try (LoadTestHarness harness = new LoadTestHarness()) {
+            // Warm-up, also opens the connections
+            send(harness, request, 1);
+
+            long started = System.nanoTime();
+            Latencies latencies = Latencies.merge(send(harness, request, REQUESTS_PER_CLIENT));
+            double seconds = (System.nanoTime() - started) / 1e9;
+
+            double[] percentiles = latencies.percentilesMillis(0.50, 0.99);
+            return new Result(latencies.size() / seconds, percentiles[0], percentiles[1], latencies.failures());
+        }
+    }
+
+    // Per client, the latency of each request that returned 200; anything else counts as failed
+    private List<Latencies> send(LoadTestHarness harness, HttpRequest request, int requestsPerClient)
+            throws Exception {
+        return harness.runConcurrently(CLIENTS, client -> () -> {
+            Latencies latencies = new Latencies();
+            for (int r = 0; r < requestsPerClient; r++) {
+                long sent = System.nanoTime();
+                try {
+                    if (harness.http().send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        latencies.addSince(sent);
+                    } else {
+                        latencies.fail();
+                    }
+                } catch (IOException e) {
+                    latencies.fail();
+                }
+            }
+            return latencies;
+        });
+    }
+
+    private record Result(double throughput, double p50, double p99, long failures) {
+    }
+}
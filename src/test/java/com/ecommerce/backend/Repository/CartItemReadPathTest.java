@@ -0,0 +1,109 @@
+package com.ecommerce.backend.Repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ecommerce.backend.dto.ResponseDto.CartItemResponseDto;
+import com.ecommerce.backend.model.Cart;
+import com.ecommerce.backend.model.CartItem;
+import com.ecommerce.backend.model.Product;
+import com.ecommerce.backend.model.User;
+import com.ecommerce.backend.model.enums.UserRole;
+import com.ecommerce.backend.repository.CartItemRepository;
+import com.ecommerce.backend.repository.CartRepository;
+import com.ecommerce.backend.repository.ProductRepository;
+import com.ecommerce.backend.repository.UserRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CartItemReadPathTest {
+
+    private static final int ITEMS = 5;
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private CartRepository cartRepository;
+    @Autowired
+    private CartItemRepository cartItemRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .email("buyer@mail.com")
+                .password("12344321")
+                .role(UserRole.CUSTOMER)
+                .build());
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Cart cart = cartRepository.save(Cart.builder().user(userRepository.getReferenceById(user.getId())).build());
+            for (int i = 0; i < ITEMS; i++) {
+                Product product = productRepository.save(Product.builder()
+                        .name("Product " + i)
+                        .description("Product " + i)
+                        .price(new BigDecimal("10.00").add(BigDecimal.valueOf(i)))
+                        .stockQuantity(10)
+                        .build());
+                cartItemRepository.save(CartItem.builder().cart(cart).product(product).quantity(i + 1).build());
+            }
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        cartItemRepository.deleteAll();
+        cartRepository.deleteAll();
+        productRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Cart items are read as DTOs with a single SQL statement, whatever the cart size")
+    void findResponseDtosByCartId_ShouldUseOneStatement() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<CartItemResponseDto> items = cartItemRepository.findResponseDtosByCartId(user.getId());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(ITEMS, items.size());
+        assertEquals("Product 0", items.get(0).productName());
+        assertEquals(0, new BigDecimal("10.00").compareTo(items.get(0).productPrice()));
+        assertEquals(ITEMS, items.get(ITEMS - 1).quantity());
+    }
+
+    @Test
+    @DisplayName("An unknown cart yields an empty list")
+    void findResponseDtosByCartId_WithUnknownCart_ShouldBeEmpty() {
+        assertTrue(cartItemRepository.findResponseDtosByCartId(-1L).isEmpty());
+    }
+}
@@ -0,0 +1,128 @@
+package com.ecommerce.backend.Repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ecommerce.backend.model.Category;
+import com.ecommerce.backend.model.Product;
+import com.ecommerce.backend.model.ProductCategory;
+import com.ecommerce.backend.repository.CategoryRepository;
+import com.ecommerce.backend.repository.ProductCategoryRepository;
+import com.ecommerce.backend.repository.ProductRepository;
+import com.ecommerce.backend.repository.CategoryNode;
+import com.ecommerce.backend.service.category.CategoryTree;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CategoryTreeQueryTest {
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private ProductCategoryRepository productCategoryRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Category electronics;
+    private Category smartphones;
+    private Category android;
+    private Category home;
+    private Product phone;
+    private Product charger;
+
+    @BeforeEach
+    void setUp() {
+        electronics = categoryRepository.save(Category.builder().name("Eletrônicos").build());
+        smartphones = categoryRepository.save(Category.builder().name("Smartphones").parentCategory(electronics).build());
+        android = categoryRepository.save(Category.builder().name("Android").parentCategory(smartphones).build());
+        home = categoryRepository.save(Category.builder().name("Casa").build());
+
+        phone = productRepository.save(product("Galaxy"));
+        charger = productRepository.save(product("Carregador"));
+        Product lamp = productRepository.save(product("Luminária"));
+
+        // The phone sits in two categories of the same subtree; it must come back once.
+        link(phone, smartphones);
+        link(phone, android);
+        link(charger, electronics);
+        link(lamp, home);
+    }
+
+    @AfterEach
+    void tearDown() {
+        productCategoryRepository.deleteAll();
+        productRepository.deleteAll();
+        categoryRepository.deleteAll(List.of(android, smartphones, electronics, home));
+    }
+
+    @Test
+    @DisplayName("The whole hierarchy is loaded with a single statement, parents as plain ids")
+    void findAllNodes_ShouldUseOneStatement() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<CategoryNode> nodes = categoryRepository.findAllNodes();
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(List.of(electronics.getId(), smartphones.getId(), android.getId(), home.getId()),
+                nodes.stream().map(CategoryNode::id).toList());
+        assertNull(nodes.get(0).parentId());
+        assertEquals(smartphones.getId(), nodes.get(2).parentId());
+    }
+
+    @Test
+    @DisplayName("Products of a category include its subcategories, each product once, a page at a time")
+    void findDistinctProductsByCategoryIdIn_ShouldCoverSubtree() {
+        CategoryTree tree = CategoryTree.of(categoryRepository.findAllNodes());
+
+        Page<Product> firstPage = productCategoryRepository.findDistinctProductsByCategoryIdIn(
+                tree.subtree(electronics.getId()), PageRequest.of(0, 1, Sort.by("id")));
+        Page<Product> products = productCategoryRepository.findDistinctProductsByCategoryIdIn(
+                tree.subtree(electronics.getId()), PageRequest.of(0, 10, Sort.by("id")));
+
+        assertEquals(List.of(phone.getId()), firstPage.map(Product::getId).getContent());
+        assertEquals(2, firstPage.getTotalElements());
+        assertEquals(List.of(phone.getId(), charger.getId()), products.map(Product::getId).getContent());
+        assertEquals(List.of(phone.getId()), productCategoryRepository
+                .findDistinctProductsByCategoryIdIn(tree.subtree(smartphones.getId()), PageRequest.of(0, 10))
+                .map(Product::getId).getContent());
+    }
+
+    private Product product(String name) {
+        return Product.builder()
+                .name(name)
+                .description(name)
+                .price(new BigDecimal("10.00"))
+                .stockQuantity(10)
+                .build();
+    }
+
+    private void link(Product product, Category category) {
+        productCategoryRepository.save(ProductCategory.builder().product(product).category(category).build());
+    }
+}
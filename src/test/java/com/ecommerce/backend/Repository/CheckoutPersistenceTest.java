@@ -0,0 +1,144 @@
+package com.ecommerce.backend.Repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ecommerce.backend.model.Cart;
+import com.ecommerce.backend.model.CartItem;
+import com.ecommerce.backend.model.Order;
+import com.ecommerce.backend.model.OrderItem;
+import com.ecommerce.backend.model.Product;
+import com.ecommerce.backend.model.User;
+import com.ecommerce.backend.model.enums.OrderStatus;
+import com.ecommerce.backend.model.enums.UserRole;
+import com.ecommerce.backend.repository.CartItemRepository;
+import com.ecommerce.backend.repository.CartRepository;
+import com.ecommerce.backend.repository.OrderRepository;
+import com.ecommerce.backend.repository.ProductRepository;
+import com.ecommerce.backend.repository.UserRepository;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CheckoutPersistenceTest {
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private CartRepository cartRepository;
+    @Autowired
+    private CartItemRepository cartItemRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate tx;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        user = userRepository.save(User.builder()
+                .email("buyer@mail.com")
+                .password("12344321")
+                .role(UserRole.CUSTOMER)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        cartItemRepository.deleteAll();
+        cartRepository.deleteAll();
+        orderRepository.deleteAll();
+        productRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Order items are inserted in one JDBC batch and get their generated ids")
+    void insertItems_ShouldInsertEveryItemWithItsId() {
+        List<OrderItem> items = new ArrayList<>();
+        Order saved = tx.execute(status -> {
+            Order newOrder = orderRepository.save(order());
+            for (int i = 0; i < 20; i++) {
+                items.add(OrderItem.builder()
+                        .quantity(1)
+                        .unitPrice(new BigDecimal("10.00"))
+                        .productId((long) i)
+                        .productName("Product " + i)
+                        .order(newOrder)
+                        .build());
+            }
+            orderRepository.insertItems(items, user.getEmail());
+            return newOrder;
+        });
+
+        List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM order_items WHERE order_id = ? ORDER BY id",
+                Long.class, saved.getId());
+        assertEquals(ids, items.stream().map(OrderItem::getId).toList());
+        assertEquals(20, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM order_items WHERE created_by = ? AND created_at IS NOT NULL", Integer.class,
+                user.getEmail()));
+        assertEquals("Product 19", orderRepository.findItemsByOrderIds(List.of(saved.getId())).get(19).productName());
+    }
+
+    @Test
+    @DisplayName("Clearing a cart is one bulk DELETE that leaves other carts alone")
+    void deleteAllByCartId_ShouldOnlyRemoveThatCart() {
+        User otherUser = userRepository.save(User.builder()
+                .email("other@mail.com")
+                .password("12344321")
+                .role(UserRole.CUSTOMER)
+                .build());
+        Product product = productRepository.save(Product.builder()
+                .name("Smartphone")
+                .description("Smartphone")
+                .price(new BigDecimal("2000.00"))
+                .stockQuantity(10)
+                .build());
+        tx.executeWithoutResult(status -> {
+            Cart cart = cartRepository.save(Cart.builder().user(userRepository.getReferenceById(user.getId())).build());
+            Cart otherCart = cartRepository
+                    .save(Cart.builder().user(userRepository.getReferenceById(otherUser.getId())).build());
+            cartItemRepository.save(CartItem.builder().cart(cart).product(product).quantity(1).build());
+            cartItemRepository.save(CartItem.builder().cart(otherCart).product(product).quantity(2).build());
+        });
+
+        Integer deleted = tx.execute(status -> cartItemRepository.deleteAllByCartId(user.getId()));
+
+        assertEquals(1, deleted);
+        assertTrue(cartItemRepository.findByCartUser(user).isEmpty());
+        assertEquals(1, cartItemRepository.findByCartUser(otherUser).size());
+    }
+
+    private Order order() {
+        return Order.builder()
+                .user(user)
+                .status(OrderStatus.PENDING)
+                .totalAmount(new BigDecimal("10.00"))
+                .build();
+    }
+}
@@ -0,0 +1,134 @@
+package com.ecommerce.backend.Repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ecommerce.backend.model.Order;
+import com.ecommerce.backend.model.OrderItem;
+import com.ecommerce.backend.model.User;
+import com.ecommerce.backend.model.enums.OrderStatus;
+import com.ecommerce.backend.model.enums.UserRole;
+import com.ecommerce.backend.repository.OrderHistoryRow;
+import com.ecommerce.backend.repository.OrderItemRow;
+import com.ecommerce.backend.repository.OrderRepository;
+import com.ecommerce.backend.repository.UserRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OrderHistoryQueryTest {
+
+    private static final int ORDERS = 30;
+    private static final int ITEMS_PER_ORDER = 3;
+
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User customer;
+    private User otherCustomer;
+
+    @BeforeEach
+    void setUp() {
+        customer = userRepository.save(user("history@mail.com"));
+        otherCustomer = userRepository.save(user("other@mail.com"));
+        for (int i = 0; i < ORDERS; i++) {
+            orderRepository.save(order(customer, i));
+        }
+        orderRepository.save(order(otherCustomer, 99));
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("A page of history is one query for orders, one for items and one count")
+    void history_ShouldUseConstantNumberOfStatements() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Page<OrderHistoryRow> page = orderRepository.findHistoryByUserId(customer.getId(),
+                PageRequest.of(1, 10, Sort.by(Sort.Direction.DESC, "id")));
+        List<Long> orderIds = page.map(OrderHistoryRow::id).getContent();
+        List<OrderItemRow> items = orderRepository.findItemsByOrderIds(orderIds);
+
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(ORDERS, page.getTotalElements());
+        assertEquals(10, page.getNumberOfElements());
+        assertEquals(10 * ITEMS_PER_ORDER, items.size());
+        assertTrue(items.stream().allMatch(item -> orderIds.contains(item.orderId())));
+    }
+
+    @Test
+    @DisplayName("Only the requested user's orders are returned, newest first")
+    void history_ShouldBeScopedToUser() {
+        Page<OrderHistoryRow> page = orderRepository.findHistoryByUserId(otherCustomer.getId(),
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "id")));
+
+        assertEquals(1, page.getTotalElements());
+        assertEquals(OrderStatus.PENDING, page.getContent().get(0).status());
+
+        List<Long> ids = orderRepository.findHistoryByUserId(customer.getId(),
+                PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "id"))).map(OrderHistoryRow::id).getContent();
+        List<Long> sorted = new ArrayList<>(ids);
+        sorted.sort((a, b) -> Long.compare(b, a));
+        assertEquals(sorted, ids);
+    }
+
+    private User user(String email) {
+        return User.builder()
+                .email(email)
+                .password("12344321")
+                .role(UserRole.CUSTOMER)
+                .build();
+    }
+
+    private Order order(User owner, int index) {
+        Order order = Order.builder()
+                .user(owner)
+                .status(OrderStatus.PENDING)
+                .totalAmount(new BigDecimal("30.00"))
+                .build();
+        List<OrderItem> items = new ArrayList<>();
+        for (int i = 0; i < ITEMS_PER_ORDER; i++) {
+            items.add(OrderItem.builder()
+                    .quantity(1)
+                    .unitPrice(new BigDecimal("10.00"))
+                    .productId((long) i)
+                    .productName("Product " + index + "-" + i)
+                    .order(order)
+                    .build());
+        }
+        order.setOrderItems(items);
+        return order;
+    }
+}
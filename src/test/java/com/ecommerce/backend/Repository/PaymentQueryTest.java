@@ -0,0 +1,130 @@
+package com.ecommerce.backend.Repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ecommerce.backend.dto.ResponseDto.PaymentResponseDto;
+import com.ecommerce.backend.dto.ResponseDto.PaymentSummaryResponseDto;
+import com.ecommerce.backend.model.Order;
+import com.ecommerce.backend.model.Payment;
+import com.ecommerce.backend.model.User;
+import com.ecommerce.backend.model.enums.OrderStatus;
+import com.ecommerce.backend.model.enums.PaymentMethod;
+import com.ecommerce.backend.model.enums.PaymentStatus;
+import com.ecommerce.backend.model.enums.UserRole;
+import com.ecommerce.backend.repository.OrderRepository;
+import com.ecommerce.backend.repository.PaymentRepository;
+import com.ecommerce.backend.repository.UserRepository;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PaymentQueryTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 3, 10);
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private User customer;
+
+    @BeforeEach
+    void setUp() {
+        customer = userRepository.save(User.builder()
+                .email("payer@mail.com")
+                .password("12344321")
+                .role(UserRole.CUSTOMER)
+                .build());
+        payment(DAY, PaymentStatus.SUCCESS, PaymentMethod.MPESA, "10.00");
+        payment(DAY, PaymentStatus.SUCCESS, PaymentMethod.BCI, "15.50");
+        payment(DAY, PaymentStatus.FAILED, PaymentMethod.MPESA, "7.00");
+        payment(DAY.plusDays(1), PaymentStatus.SUCCESS, PaymentMethod.MPESA, "20.00");
+        payment(DAY.plusDays(5), PaymentStatus.PENDING, PaymentMethod.BCI, "1.00");
+    }
+
+    @AfterEach
+    void tearDown() {
+        paymentRepository.deleteAll();
+        orderRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Filters by status, method and paidAt range and pages the result")
+    void findPage_ShouldApplyEveryFilter() {
+        Page<PaymentResponseDto> page = paymentRepository.findPage(PaymentStatus.SUCCESS, PaymentMethod.MPESA,
+                DAY, DAY.plusDays(1), PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "paidAt", "id")));
+
+        assertEquals(2, page.getTotalElements());
+        assertEquals(2, page.getTotalPages());
+        PaymentResponseDto newest = page.getContent().get(0);
+        assertEquals(DAY.plusDays(1), newest.paidAt());
+        assertEquals("payer@mail.com", newest.useEmail());
+        assertNotNull(newest.orderid());
+    }
+
+    @Test
+    @DisplayName("Null filters match every payment")
+    void findPage_WithoutFilters_ShouldReturnEverything() {
+        Page<PaymentResponseDto> page = paymentRepository.findPage(null, null, null, null,
+                PageRequest.of(0, 10, Sort.by("amount")));
+
+        assertEquals(5, page.getTotalElements());
+        assertEquals(0, new BigDecimal("1.00").compareTo(page.getContent().get(0).amount()));
+    }
+
+    @Test
+    @DisplayName("Summary groups by day and status in the database")
+    void summarizeByDayAndStatus_ShouldAggregatePerDayAndStatus() {
+        List<PaymentSummaryResponseDto> summary = paymentRepository.summarizeByDayAndStatus(DAY, DAY.plusDays(1));
+
+        assertEquals(3, summary.size());
+        PaymentSummaryResponseDto first = summary.get(0);
+        assertEquals(DAY, first.day());
+        assertEquals(PaymentStatus.FAILED, first.status());
+        assertEquals(1L, first.payments());
+        PaymentSummaryResponseDto success = summary.get(1);
+        assertEquals(PaymentStatus.SUCCESS, success.status());
+        assertEquals(2L, success.payments());
+        assertEquals(0, new BigDecimal("25.50").compareTo(success.totalAmount()));
+        assertEquals(DAY.plusDays(1), summary.get(2).day());
+    }
+
+    private void payment(LocalDate paidAt, PaymentStatus status, PaymentMethod method, String amount) {
+        Order order = Order.builder()
+                .user(customer)
+                .status(OrderStatus.PAID)
+                .totalAmount(new BigDecimal(amount))
+                .build();
+        paymentRepository.save(Payment.builder()
+                .order(order)
+                .amount(new BigDecimal(amount))
+                .method(method)
+                .status(status)
+                .paidAt(paidAt)
+                .transactionReference("ref-" + paidAt + "-" + amount)
+                .build());
+    }
+}
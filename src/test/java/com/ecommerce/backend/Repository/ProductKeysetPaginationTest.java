@@ -0,0 +1,102 @@
+package com.ecommerce.backend.Repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ecommerce.backend.model.Product;
+import com.ecommerce.backend.repository.ProductCursor;
+import com.ecommerce.backend.repository.ProductRepository;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProductKeysetPaginationTest {
+
+    private static final int PAGE_SIZE = 4;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @BeforeEach
+    void setUp() {
+        // Few distinct prices so many rows tie on the sort key and the id tiebreaker matters
+        for (int i = 0; i < 23; i++) {
+            productRepository.save(Product.builder()
+                    .name("Product " + (char) ('a' + (i * 7) % 23))
+                    .description("Product " + i)
+                    .price(new BigDecimal(10 + (i % 3) * 5))
+                    .stockQuantity(1)
+                    .build());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Walking every page by name visits each product once, in order")
+    void pagesByName_ShouldMatchFullOrdering() {
+        List<Long> expected = productRepository.findAll().stream()
+                .sorted(Comparator.comparing(Product::getName).thenComparing(Product::getId))
+                .map(Product::getId)
+                .toList();
+
+        assertEquals(expected, walk(null, null, Sort.Order.asc("name")));
+    }
+
+    @Test
+    @DisplayName("Walking every page by price descending handles ties on price")
+    void pagesByPriceDescending_ShouldMatchFullOrdering() {
+        List<Long> expected = productRepository.findAll().stream()
+                .sorted(Comparator.comparing(Product::getPrice).thenComparing(Product::getId).reversed())
+                .map(Product::getId)
+                .toList();
+
+        assertEquals(expected, walk(null, null, Sort.Order.desc("price")));
+    }
+
+    @Test
+    @DisplayName("Filters apply to every page")
+    void pagesWithFilters_ShouldOnlyReturnMatchingProducts() {
+        List<Long> expected = productRepository.findAll().stream()
+                .filter(p -> p.getName().toLowerCase().contains("product") && p.getPrice().intValue() <= 15)
+                .sorted(Comparator.comparing(Product::getPrice).thenComparing(Product::getId))
+                .map(Product::getId)
+                .toList();
+
+        assertEquals(expected, walk("PRODUCT", new BigDecimal("15"), Sort.Order.asc("price")));
+    }
+
+    private List<Long> walk(String name, BigDecimal maxPrice, Sort.Order order) {
+        List<Long> visited = new ArrayList<>();
+        ProductCursor after = null;
+        while (true) {
+            List<Product> page = productRepository.findPageAfter(name, maxPrice, order, after, PAGE_SIZE);
+            page.forEach(p -> visited.add(p.getId()));
+            if (page.size() < PAGE_SIZE) {
+                return visited;
+            }
+            // Round-trip through the opaque token like a client would
+            after = ProductCursor.decode(ProductCursor.after(page.get(PAGE_SIZE - 1), order.getProperty()).encode());
+        }
+    }
+}
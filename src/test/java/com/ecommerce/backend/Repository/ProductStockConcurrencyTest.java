@@ -0,0 +1,145 @@
+package com.ecommerce.backend.Repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ecommerce.backend.model.Product;
+import com.ecommerce.backend.repository.ProductRepository;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProductStockConcurrencyTest {
+
+    private static final int INITIAL_STOCK = 50;
+    private static final int CHECKOUTS = 200;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long skuId;
+    private Long otherId;
+
+    @BeforeEach
+    void setUp() {
+        skuId = productRepository.save(product("Hot SKU", INITIAL_STOCK)).getId();
+        otherId = productRepository.save(product("Other SKU", 1_000)).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Parallel checkouts on one SKU never oversell it")
+    void parallelCheckouts_ShouldNeverOversell() throws Exception {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        ExecutorService pool = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < CHECKOUTS; i++) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    // Each checkout buys one unit of the hot SKU and one of another product;
+                    // a rejected item rolls the whole checkout back, like OrderService does.
+                    return tx.execute(status -> {
+                        List<Long> rejected = productRepository
+                                .decrementStockIfAvailable(Map.of(skuId, 1, otherId, 1));
+                        if (!rejected.isEmpty()) {
+                            status.setRollbackOnly();
+                            return false;
+                        }
+                        return true;
+                    });
+                }));
+            }
+            start.countDown();
+
+            int accepted = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get(30, TimeUnit.SECONDS)) {
+                    accepted++;
+                }
+            }
+
+            assertEquals(INITIAL_STOCK, accepted);
+            assertEquals(0, productRepository.findById(skuId).orElseThrow().getStockQuantity());
+            assertEquals(1_000 - INITIAL_STOCK, productRepository.findById(otherId).orElseThrow().getStockQuantity());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Single-item decrement refuses to go below zero")
+    void decrementStockIfAvailable_ShouldRejectWhenStockIsInsufficient() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        Integer first = tx.execute(status -> productRepository.decrementStockIfAvailable(skuId, INITIAL_STOCK));
+        Integer second = tx.execute(status -> productRepository.decrementStockIfAvailable(skuId, 1));
+
+        assertEquals(1, first);
+        assertEquals(0, second);
+        assertEquals(0, productRepository.findById(skuId).orElseThrow().getStockQuantity());
+    }
+
+    @Test
+    @DisplayName("Both stock decrements move updated_at, so incremental exports see them")
+    void decrementStockIfAvailable_ShouldTouchUpdatedAt() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        LocalDateTime stale = LocalDateTime.of(2000, 1, 1, 0, 0);
+        jdbcTemplate.update("UPDATE products SET updated_at = ?", stale);
+
+        tx.execute(status -> productRepository.decrementStockIfAvailable(skuId, 1));
+        tx.execute(status -> productRepository.decrementStockIfAvailable(Map.of(otherId, 1)));
+
+        assertTrue(updatedAt(skuId).isAfter(stale));
+        assertTrue(updatedAt(otherId).isAfter(stale));
+    }
+
+    private LocalDateTime updatedAt(Long id) {
+        return jdbcTemplate.queryForObject("SELECT updated_at FROM products WHERE id = ?", LocalDateTime.class, id);
+    }
+
+    private Product product(String name, int stock) {
+        return Product.builder()
+                .name(name)
+                .description(name)
+                .price(new BigDecimal("10.00"))
+                .stockQuantity(stock)
+                .build();
+    }
+}
@@ -0,0 +1,142 @@
+package com.ecommerce.backend.Repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ecommerce.backend.model.Category;
+import com.ecommerce.backend.model.Product;
+import com.ecommerce.backend.model.ProductCategory;
+import com.ecommerce.backend.model.base.SecondLevelCacheConfig;
+import com.ecommerce.backend.repository.CategoryRepository;
+import com.ecommerce.backend.repository.ProductCategoryRepository;
+import com.ecommerce.backend.repository.ProductRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(SecondLevelCacheConfig.class)
+class SecondLevelCacheTest {
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private ProductCategoryRepository productCategoryRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+    private Category category;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        category = categoryRepository.save(Category.builder().name("Livros").build());
+        product = productRepository.save(Product.builder()
+                .name("Romance")
+                .description("Capa dura")
+                .price(new BigDecimal("30.00"))
+                .stockQuantity(10)
+                .build());
+        productCategoryRepository.save(ProductCategory.builder().product(product).category(category).build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        productCategoryRepository.deleteAll();
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("A category loaded once is served from its region without touching the database")
+    void findById_Category_ShouldHitTheCacheTheSecondTime() {
+        categoryRepository.findById(category.getId()).orElseThrow();
+        statistics.clear();
+
+        Category cached = categoryRepository.findById(category.getId()).orElseThrow();
+
+        assertEquals("Livros", cached.getName());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        CacheRegionStatistics region = statistics
+                .getDomainDataRegionStatistics(SecondLevelCacheConfig.CATEGORY_REGION);
+        assertEquals(1, region.getHitCount());
+    }
+
+    @Test
+    @DisplayName("Products of a category are answered from the query cache until a link changes")
+    void findAllProductsByCategoryId_ShouldUseTheQueryCache() {
+        productCategoryRepository.findAllProductsByCategoryId(category.getId());
+        statistics.clear();
+
+        List<ProductCategory> cached = productCategoryRepository.findAllProductsByCategoryId(category.getId());
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+        assertEquals(product.getId(), cached.get(0).getProduct().getId());
+        assertEquals("Livros", cached.get(0).getCategory().getName());
+
+        Product other = productRepository.save(Product.builder()
+                .name("Poesia")
+                .description("Brochura")
+                .price(new BigDecimal("12.00"))
+                .stockQuantity(5)
+                .build());
+        productCategoryRepository.save(ProductCategory.builder().product(other).category(category).build());
+
+        assertEquals(2, productCategoryRepository.findAllProductsByCategoryId(category.getId()).size());
+    }
+
+    @Test
+    @DisplayName("Reserving stock through JDBC evicts the cached product")
+    void decrementStockIfAvailable_ShouldEvictTheProduct() {
+        productRepository.findById(product.getId()).orElseThrow();
+        assertTrue(entityManagerFactory.getCache().contains(Product.class, product.getId()));
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                productRepository.decrementStockIfAvailable(Map.of(product.getId(), 4)));
+
+        assertFalse(entityManagerFactory.getCache().contains(Product.class, product.getId()));
+        assertEquals(6, productRepository.findById(product.getId()).orElseThrow().getStockQuantity());
+    }
+
+    @Test
+    @DisplayName("Stock is read from the table even while a stale product sits in the cache")
+    void findStockQuantityById_ShouldBypassTheCache() {
+        productRepository.findById(product.getId()).orElseThrow();
+        jdbcTemplate.update("UPDATE products SET stock_quantity = 2 WHERE id = ?", product.getId());
+
+        assertEquals(10, productRepository.findById(product.getId()).orElseThrow().getStockQuantity());
+        assertEquals(2, productRepository.findStockQuantityById(product.getId()).orElseThrow());
+    }
+}
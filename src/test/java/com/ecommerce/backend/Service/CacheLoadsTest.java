@@ -0,0 +1,81 @@
+package com.ecommerce.backend.Service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.ecommerce.backend.shared.cache.CacheLoads;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+class CacheLoadsTest {
+
+    private final AsyncCache<String, String> cache = Caffeine.newBuilder().recordStats().buildAsync();
+
+    @Test
+    @DisplayName("Should run one load per key and let concurrent callers wait for it")
+    void getOrLoad_WithConcurrentMisses_ShouldLoadOnce() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try (ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<String> first = threads.submit(() -> CacheLoads.getOrLoad(cache, "key", key -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                await(release);
+                return "value";
+            }));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            Future<String> second = threads.submit(() -> CacheLoads.getOrLoad(cache, "key", key -> {
+                loads.incrementAndGet();
+                return "other";
+            }));
+            release.countDown();
+
+            assertEquals("value", first.get());
+            assertEquals("value", second.get());
+        }
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.synchronous().stats().missCount());
+    }
+
+    @Test
+    @DisplayName("Should not keep null results or failed loads")
+    void getOrLoad_WithNullOrFailure_ShouldLeaveNoEntry() {
+        assertNull(CacheLoads.getOrLoad(cache, "missing", key -> null));
+        assertThrows(IllegalStateException.class, () -> CacheLoads.getOrLoad(cache, "broken", key -> {
+            throw new IllegalStateException("database down");
+        }));
+
+        assertEquals("found", CacheLoads.getOrLoad(cache, "missing", key -> "found"));
+        assertEquals("fixed", CacheLoads.getOrLoad(cache, "broken", key -> "fixed"));
+    }
+
+    @Test
+    @DisplayName("Should drop a value whose key was invalidated while it loaded")
+    void getOrLoad_InvalidatedDuringLoad_ShouldNotCacheStaleValue() {
+        String loaded = CacheLoads.getOrLoad(cache, "key", key -> {
+            cache.synchronous().invalidate(key);
+            return "stale";
+        });
+
+        assertEquals("stale", loaded);
+        assertEquals("fresh", CacheLoads.getOrLoad(cache, "key", key -> "fresh"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -114,6 +114,7 @@ class CartItemServiceTest {
                         when(userRepository.findById(1L)).thenReturn(Optional.of(user));
                         when(cartService.findOrCreateCart(user)).thenReturn(cart);
                         when(productService.getProduct(1L)).thenReturn(product);
+                        when(productService.getStockQuantity(1L)).thenReturn(10);
                         when(cartItemRepository.findByProductAndCart(product, cart)).thenReturn(Optional.empty());
                         when(cartItemMapper.toEntity(2, cart, product)).thenReturn(cartItem);
                         when(cartItemRepository.save(cartItem)).thenReturn(cartItem);
@@ -159,6 +160,7 @@ class CartItemServiceTest {
                         when(userRepository.findById(1L)).thenReturn(Optional.of(user));
                         when(cartService.findOrCreateCart(user)).thenReturn(cart);
                         when(productService.getProduct(1L)).thenReturn(product);
+                        when(productService.getStockQuantity(1L)).thenReturn(10);
                         when(cartItemRepository.findByProductAndCart(product, cart))
                                         .thenReturn(Optional.of(existingItem));
                         when(cartItemRepository.save(existingItem)).thenReturn(existingItem);
@@ -181,7 +183,7 @@ class CartItemServiceTest {
                 @DisplayName("💰 Deve rejeitar quando quantidade ultrapassa estoque")
                 void addProductToCart_WithQuantityExceedingStock_ShouldThrowException() {
                         // Arrange
-                        product.setStockQuantity(5); // Estoque = 5
+                        // A entidade (possivelmente do cache) diz 10, mas a tabela tem 5
 
                         CartItemRequestDto excessDto = new CartItemRequestDto(
                                         1L,
@@ -191,6 +193,7 @@ class CartItemServiceTest {
                         when(userRepository.findById(1L)).thenReturn(Optional.of(user));
                         when(cartService.findOrCreateCart(user)).thenReturn(cart);
                         when(productService.getProduct(1L)).thenReturn(product);
+                        when(productService.getStockQuantity(1L)).thenReturn(5);
                         when(cartItemRepository.findByProductAndCart(product, cart))
                                         .thenReturn(Optional.empty());
 
@@ -208,7 +211,7 @@ class CartItemServiceTest {
                 @DisplayName("💰 Deve rejeitar quando quantidade TOTAL ultrapassa estoque")
                 void addProductToCart_WithTotalQuantityExceedingStock_ShouldThrowException() {
                         // Arrange
-                        product.setStockQuantity(5); // Estoque = 5
+                        // A entidade (possivelmente do cache) diz 10, mas a tabela tem 5
 
                         CartItem existingItem = CartItem.builder()
                                         .product(product)
@@ -224,6 +227,7 @@ class CartItemServiceTest {
                         when(userRepository.findById(1L)).thenReturn(Optional.of(user));
                         when(cartService.findOrCreateCart(user)).thenReturn(cart);
                         when(productService.getProduct(1L)).thenReturn(product);
+                        when(productService.getStockQuantity(1L)).thenReturn(5);
                         when(cartItemRepository.findByProductAndCart(product, cart))
                                         .thenReturn(Optional.of(existingItem));
 
@@ -262,12 +266,8 @@ class CartItemServiceTest {
                 @DisplayName("✅ Deve retornar itens do usuário autenticado")
                 void getAuthCartItems_WithAuthenticatedUser_ShouldReturnItems() {
                         // Arrange
-                        List<CartItem> cartItems = List.of(cartItem);
-                        List<CartItemResponseDto> responseDtos = List.of(responseDto);
-
                         when(securityService.getAuthenticatedUser()).thenReturn(Optional.of(user));
-                        when(cartItemRepository.findByCartUser(user)).thenReturn(cartItems);
-                        when(cartItemMapper.toResponseDto(cartItem, 2)).thenReturn(responseDto);
+                        when(cartItemRepository.findResponseDtosByCartId(1L)).thenReturn(List.of(responseDto));
 
                         // Act
                         List<CartItemResponseDto> result = cartItemService.getAuthCartItems();
@@ -276,19 +276,16 @@ class CartItemServiceTest {
                         assertNotNull(result);
                         assertEquals(1, result.size());
 
-                        verify(cartItemRepository).findByCartUser(user);
+                        verify(cartItemRepository).findResponseDtosByCartId(1L);
+                        verify(cartItemRepository, never()).findByCartUser(any());
+                        verifyNoInteractions(cartItemMapper);
                 }
 
                 @Test
                 @DisplayName("✅ Deve retornar itens por ID de usuário (admin)")
                 void getUserCartItems_WithValidUserId_ShouldReturnItems() {
                         // Arrange
-                        List<CartItem> cartItems = List.of(cartItem);
-                        List<CartItemResponseDto> responseDtos = List.of(responseDto);
-
-                        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
-                        when(cartItemRepository.findByCartUser(user)).thenReturn(cartItems);
-                        when(cartItemMapper.toResponseDto(cartItem, 2)).thenReturn(responseDto);
+                        when(cartItemRepository.findResponseDtosByCartId(1L)).thenReturn(List.of(responseDto));
 
                         // Act
                         List<CartItemResponseDto> result = cartItemService.getUserCartItems(1L);
@@ -297,15 +294,30 @@ class CartItemServiceTest {
                         assertNotNull(result);
                         assertEquals(1, result.size());
 
-                        verify(userRepository).findById(1L);
-                        verify(cartItemRepository).findByCartUser(user);
+                        verify(cartItemRepository).findResponseDtosByCartId(1L);
+                        verify(userRepository, never()).existsById(any());
+                }
+
+                @Test
+                @DisplayName("✅ Deve retornar lista vazia quando o carrinho do usuário está vazio")
+                void getUserCartItems_WithEmptyCart_ShouldReturnEmptyList() {
+                        // Arrange
+                        when(cartItemRepository.findResponseDtosByCartId(1L)).thenReturn(List.of());
+                        when(userRepository.existsById(1L)).thenReturn(true);
+
+                        // Act
+                        List<CartItemResponseDto> result = cartItemService.getUserCartItems(1L);
+
+                        // Assert
+                        assertTrue(result.isEmpty());
                 }
 
                 @Test
                 @DisplayName("❌ Deve lançar exceção quando usuário não existe")
                 void getUserCartItems_WithNonExistingUser_ShouldThrowException() {
                         // Arrange
-                        when(userRepository.findById(999L)).thenReturn(Optional.empty());
+                        when(cartItemRepository.findResponseDtosByCartId(999L)).thenReturn(List.of());
+                        when(userRepository.existsById(999L)).thenReturn(false);
 
                         // Act & Assert
                         BusinessException exception = assertThrows(BusinessException.class,
@@ -358,30 +370,27 @@ class CartItemServiceTest {
                 @DisplayName("✅ Deve limpar carrinho do usuário autenticado")
                 void cleanAuthUserCartitems_ShouldDeleteAllItems() {
                         // Arrange
-                        List<CartItem> cartItems = List.of(cartItem);
                         when(securityService.getAuthenticatedUser()).thenReturn(Optional.of(user));
-                        when(cartItemRepository.findByCartUser(user)).thenReturn(cartItems);
 
                         // Act
                         cartItemService.cleanAuthUserCartItems();
 
                         // Assert
-                        verify(cartItemRepository).deleteAll(cartItems);
+                        verify(cartItemRepository).deleteAllByCartId(user.getId());
+                        verify(cartItemRepository, never()).findByCartUser(any());
                 }
 
                 @Test
                 @DisplayName("✅ Deve limpar carrinho por ID de usuário (admin)")
                 void cleanUserCartItems_WithValidUserId_ShouldDeleteAllItems() {
                         // Arrange
-                        List<CartItem> cartItems = List.of(cartItem);
                         when(userRepository.findById(1L)).thenReturn(Optional.of(user));
-                        when(cartItemRepository.findByCartUser(user)).thenReturn(cartItems);
 
                         // Act
                         cartItemService.cleanUserCartItems(1L);
 
                         // Assert
-                        verify(cartItemRepository).deleteAll(cartItems);
+                        verify(cartItemRepository).deleteAllByCartId(1L);
                 }
         }
 }
\ No newline at end of file
@@ -23,6 +23,9 @@ import com.ecommerce.backend.mapper.CategoryMapper;
 import com.ecommerce.backend.model.Category;
 import com.ecommerce.backend.repository.CategoryRepository;
 import com.ecommerce.backend.service.CategoryService;
+import com.ecommerce.backend.repository.CategoryNode;
+import com.ecommerce.backend.service.category.CategoryTree;
+import com.ecommerce.backend.service.category.CategoryTreeHolder;
 import com.ecommerce.backend.shared.exception.BusinessException;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,6 +37,9 @@ class CategoryServiceTest {
     @Mock
     private CategoryMapper categoryMapper;
 
+    @Mock
+    private CategoryTreeHolder categoryTreeHolder;
+
     @InjectMocks
     private CategoryService categoryService;
 
@@ -117,6 +123,8 @@ class CategoryServiceTest {
             verify(categoryRepository).save(electronicsCategory);
             verify(categoryMapper).toResponseDto(electronicsCategory);
             verify(categoryRepository, never()).findById(anyLong());
+            verify(categoryTreeHolder).invalidate();
+            verify(categoryTreeHolder, never()).current();
         }
 
         @Test
@@ -126,6 +134,7 @@ class CategoryServiceTest {
             when(categoryRepository.existsByName("Smartphones")).thenReturn(false);
             when(categoryRepository.findById(1L)).thenReturn(Optional.of(electronicsCategory));
             when(categoryMapper.toEntity(subCategoryRequestDto, electronicsCategory)).thenReturn(smartphonesCategory);
+            when(categoryTreeHolder.current()).thenReturn(tree());
             when(categoryRepository.save(smartphonesCategory)).thenReturn(smartphonesCategory);
             when(categoryMapper.toResponseDto(smartphonesCategory)).thenReturn(subCategoryResponseDto);
 
@@ -195,12 +204,12 @@ class CategoryServiceTest {
         @DisplayName("Deve retornar lista de todas as categorias")
         void getAllCategories_ShouldReturnAllCategories() {
             // Arrange
-            List<Category> categories = List.of(electronicsCategory, smartphonesCategory);
-            List<CategoryResponseDto> responseDtos = List.of(categoryResponseDto, subCategoryResponseDto);
+            CategoryNode electronicsNode = new CategoryNode(1L, "Eletrônicos", "Produtos eletrônicos em geral", null);
+            CategoryNode smartphonesNode = new CategoryNode(2L, "Smartphones", "Telefones celulares", 1L);
 
-            when(categoryRepository.findAll()).thenReturn(categories);
-            when(categoryMapper.toResponseDto(electronicsCategory)).thenReturn(categoryResponseDto);
-            when(categoryMapper.toResponseDto(smartphonesCategory)).thenReturn(subCategoryResponseDto);
+            when(categoryTreeHolder.current()).thenReturn(CategoryTree.of(List.of(smartphonesNode, electronicsNode)));
+            when(categoryMapper.toResponseDto(electronicsNode)).thenReturn(categoryResponseDto);
+            when(categoryMapper.toResponseDto(smartphonesNode)).thenReturn(subCategoryResponseDto);
 
             // Act
             List<CategoryResponseDto> result = categoryService.getAllCategories();
@@ -211,15 +220,16 @@ class CategoryServiceTest {
             assertEquals("Eletrônicos", result.get(0).name());
             assertEquals("Smartphones", result.get(1).name());
 
-            verify(categoryRepository).findAll();
-            verify(categoryMapper, times(2)).toResponseDto(any(Category.class));
+            verify(categoryTreeHolder).current();
+            verify(categoryRepository, never()).findAll();
+            verify(categoryMapper, times(2)).toResponseDto(any(CategoryNode.class));
         }
 
         @Test
         @DisplayName("Deve retornar lista vazia quando não há categorias")
         void getAllCategories_WhenNoCategories_ShouldReturnEmptyList() {
             // Arrange
-            when(categoryRepository.findAll()).thenReturn(List.of());
+            when(categoryTreeHolder.current()).thenReturn(CategoryTree.empty());
 
             // Act
             List<CategoryResponseDto> result = categoryService.getAllCategories();
@@ -228,8 +238,7 @@ class CategoryServiceTest {
             assertNotNull(result);
             assertTrue(result.isEmpty());
 
-            verify(categoryRepository).findAll();
-            verify(categoryMapper, never()).toResponseDto(any(Category.class));
+            verify(categoryMapper, never()).toResponseDto(any(CategoryNode.class));
         }
     }
 
@@ -351,6 +360,7 @@ class CategoryServiceTest {
             when(categoryRepository.findById(2L)).thenReturn(Optional.of(smartphonesCategory));
             when(categoryRepository.existsByNameAndIdNot("Smartphones", 2L)).thenReturn(false);
             when(categoryRepository.findById(3L)).thenReturn(Optional.of(newParentCategory));
+            when(categoryTreeHolder.current()).thenReturn(tree());
             when(categoryMapper.updateEntity(smartphonesCategory, updateWithParentDto, newParentCategory))
                     .thenReturn(updatedCategory);
             when(categoryMapper.toResponseDto(updatedCategory)).thenReturn(updatedResponseDto);
@@ -366,6 +376,7 @@ class CategoryServiceTest {
             verify(categoryRepository).findById(2L);
             verify(categoryRepository).existsByNameAndIdNot("Smartphones", 2L);
             verify(categoryRepository).findById(3L);
+            verify(categoryTreeHolder).invalidate();
         }
 
         @Test
@@ -420,6 +431,7 @@ class CategoryServiceTest {
             when(categoryRepository.findById(2L)).thenReturn(Optional.of(smartphonesCategory));
             when(categoryRepository.existsByNameAndIdNot("Smartphones", 2L)).thenReturn(false);
             when(categoryRepository.findById(1L)).thenReturn(Optional.of(electronicsCategory));
+            when(categoryTreeHolder.current()).thenReturn(tree());
             when(categoryMapper.updateEntity(smartphonesCategory, sameNameDto, electronicsCategory))
                     .thenReturn(smartphonesCategory);
             when(categoryMapper.toResponseDto(smartphonesCategory)).thenReturn(subCategoryResponseDto);
@@ -454,6 +466,7 @@ class CategoryServiceTest {
             // Assert
             verify(categoryRepository).findById(1L);
             verify(categoryRepository).delete(electronicsCategory);
+            verify(categoryTreeHolder).invalidate();
         }
 
         @Test
@@ -471,6 +484,7 @@ class CategoryServiceTest {
 
             verify(categoryRepository).findById(999L);
             verify(categoryRepository, never()).delete(any(Category.class));
+            verify(categoryTreeHolder, never()).invalidate();
         }
     }
 
@@ -512,6 +526,43 @@ class CategoryServiceTest {
         }
     }
 
+    // Eletrônicos(1) -> Smartphones(2) -> Android(4); Tecnologia(3) é raiz
+    private CategoryTree tree() {
+        return CategoryTree.of(List.of(
+                new CategoryNode(1L, "Eletrônicos", null, null),
+                new CategoryNode(2L, "Smartphones", null, 1L),
+                new CategoryNode(3L, "Tecnologia", null, null),
+                new CategoryNode(4L, "Android", null, 2L)));
+    }
+
+    @Nested
+    @DisplayName("Testes para getSubtreeIds")
+    class GetSubtreeIdsTests {
+
+        @Test
+        @DisplayName("Deve retornar a categoria e todas as subcategorias")
+        void getSubtreeIds_WithExistingId_ShouldReturnCategoryAndDescendants() {
+            when(categoryTreeHolder.current()).thenReturn(tree());
+
+            List<Long> result = categoryService.getSubtreeIds(1L);
+
+            assertEquals(List.of(1L, 2L, 4L), result);
+            verifyNoInteractions(categoryRepository);
+        }
+
+        @Test
+        @DisplayName("Deve lançar exceção quando categoria não existe")
+        void getSubtreeIds_WithNonExistingId_ShouldThrowBusinessException() {
+            when(categoryTreeHolder.current()).thenReturn(tree());
+
+            BusinessException exception = assertThrows(BusinessException.class,
+                    () -> categoryService.getSubtreeIds(999L));
+
+            assertEquals("No Category found with the id 999", exception.getMessage());
+            assertEquals(HttpStatus.NOT_FOUND, exception.getHttpStatus());
+        }
+    }
+
     @Nested
     @DisplayName("Testes de integridade referencial")
     class ReferentialIntegrityTests {
@@ -536,6 +587,52 @@ class CategoryServiceTest {
                     () -> categoryService.createCategory(selfParentDto));
         }
 
+        @Test
+        @DisplayName("Não deve permitir mover categoria para baixo de um descendente")
+        void updateCategory_WithDescendantAsParent_ShouldThrowBusinessException() {
+            Category androidCategory = Category.builder()
+                    .name("Android")
+                    .parentCategory(smartphonesCategory)
+                    .build();
+            androidCategory.setId(4L);
+
+            CategoryRequestDto moveUnderDescendantDto = new CategoryRequestDto(
+                    "Eletrônicos",
+                    "Produtos eletrônicos em geral",
+                    4L);
+
+            when(categoryRepository.findById(1L)).thenReturn(Optional.of(electronicsCategory));
+            when(categoryRepository.existsByNameAndIdNot("Eletrônicos", 1L)).thenReturn(false);
+            when(categoryRepository.findById(4L)).thenReturn(Optional.of(androidCategory));
+            when(categoryTreeHolder.current()).thenReturn(tree());
+
+            BusinessException exception = assertThrows(BusinessException.class,
+                    () -> categoryService.updateCategory(1L, moveUnderDescendantDto));
+
+            assertEquals("Circular reference detected", exception.getMessage());
+            assertEquals(HttpStatus.BAD_REQUEST, exception.getHttpStatus());
+            verify(categoryMapper, never()).updateEntity(any(), any(), any());
+            verify(categoryTreeHolder, never()).invalidate();
+        }
+
+        @Test
+        @DisplayName("Não deve permitir categoria como pai de si mesma")
+        void updateCategory_WithSelfAsParent_ShouldThrowBusinessException() {
+            CategoryRequestDto selfParentDto = new CategoryRequestDto(
+                    "Eletrônicos",
+                    "Produtos eletrônicos em geral",
+                    1L);
+
+            when(categoryRepository.findById(1L)).thenReturn(Optional.of(electronicsCategory));
+            when(categoryRepository.existsByNameAndIdNot("Eletrônicos", 1L)).thenReturn(false);
+
+            BusinessException exception = assertThrows(BusinessException.class,
+                    () -> categoryService.updateCategory(1L, selfParentDto));
+
+            assertEquals("Category cannot be parent of itself", exception.getMessage());
+            verify(categoryTreeHolder, never()).current();
+        }
+
         @Test
         @DisplayName("Deve deletar categoria mesmo com subcategorias?")
         void deleteCategory_WithSubCategories_ShouldHandleCorrectly() {
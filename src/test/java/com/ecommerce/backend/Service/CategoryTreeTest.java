@@ -0,0 +1,112 @@
+package com.ecommerce.backend.Service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.ecommerce.backend.repository.CategoryNode;
+import com.ecommerce.backend.service.category.CategoryTree;
+
+class CategoryTreeTest {
+
+    // 1 Eletrônicos
+    // ├── 2 Smartphones
+    // │   ├── 4 Android
+    // │   └── 5 iOS
+    // └── 3 Notebooks
+    // 6 Casa
+    private CategoryTree tree;
+
+    @BeforeEach
+    void setUp() {
+        tree = CategoryTree.of(List.of(
+                node(5L, "iOS", 2L),
+                node(3L, "Notebooks", 1L),
+                node(1L, "Eletrônicos", null),
+                node(6L, "Casa", null),
+                node(4L, "Android", 2L),
+                node(2L, "Smartphones", 1L)));
+    }
+
+    @Test
+    @DisplayName("Should list every category ordered by id")
+    void all_ShouldBeOrderedById() {
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 6L), tree.all().stream().map(CategoryNode::id).toList());
+        assertEquals(6, tree.size());
+    }
+
+    @Test
+    @DisplayName("Should return the subtree as the category followed by its descendants")
+    void subtree_ShouldIncludeSelfAndDescendants() {
+        assertEquals(List.of(1L, 2L, 4L, 5L, 3L), tree.subtree(1L));
+        assertEquals(List.of(2L, 4L, 5L), tree.subtree(2L));
+        assertEquals(List.of(4L), tree.subtree(4L));
+        assertEquals(List.of(6L), tree.subtree(6L));
+        assertTrue(tree.subtree(99L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should return the ancestor path from the root")
+    void ancestors_ShouldStartAtRoot() {
+        assertEquals(List.of(1L, 2L), tree.ancestors(5L));
+        assertEquals(List.of(1L), tree.ancestors(3L));
+        assertTrue(tree.ancestors(1L).isEmpty());
+        assertTrue(tree.ancestors(99L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should detect descendants with the interval check")
+    void isInSubtree_ShouldCompareIntervals() {
+        assertTrue(tree.isInSubtree(1L, 4L));
+        assertTrue(tree.isInSubtree(2L, 2L));
+        assertFalse(tree.isInSubtree(2L, 3L));
+        assertFalse(tree.isInSubtree(4L, 2L));
+        assertFalse(tree.isInSubtree(6L, 1L));
+        assertFalse(tree.isInSubtree(1L, 99L));
+    }
+
+    @Test
+    @DisplayName("Should flag a new parent that is the category itself or one of its descendants")
+    void wouldCreateCycle_ShouldRejectDescendantParents() {
+        assertTrue(tree.wouldCreateCycle(1L, 5L));
+        assertTrue(tree.wouldCreateCycle(2L, 2L));
+        assertFalse(tree.wouldCreateCycle(2L, 3L));
+        assertFalse(tree.wouldCreateCycle(1L, 6L));
+        assertFalse(tree.wouldCreateCycle(null, 1L));
+    }
+
+    @Test
+    @DisplayName("Should still index categories stored in a parent loop")
+    void of_WithStoredCycle_ShouldKeepEveryNode() {
+        CategoryTree looped = CategoryTree.of(List.of(node(1L, "A", 2L), node(2L, "B", 1L)));
+
+        assertEquals(List.of(1L, 2L), looped.subtree(1L));
+        assertEquals(List.of(2L), looped.ancestors(1L));
+        assertTrue(looped.wouldCreateCycle(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("Should handle a very deep hierarchy without recursion")
+    void of_WithDeepChain_ShouldNotOverflow() {
+        List<CategoryNode> chain = new ArrayList<>();
+        chain.add(node(1L, "root", null));
+        for (long id = 2; id <= 100_000; id++) {
+            chain.add(node(id, "c" + id, id - 1));
+        }
+
+        CategoryTree deep = CategoryTree.of(chain);
+
+        assertEquals(100_000, deep.subtree(1L).size());
+        assertTrue(deep.wouldCreateCycle(1L, 100_000L));
+        assertEquals(99_999, deep.ancestors(100_000L).size());
+    }
+
+    private CategoryNode node(Long id, String name, Long parentId) {
+        return new CategoryNode(id, name, null, parentId);
+    }
+}
@@ -0,0 +1,138 @@
+package com.ecommerce.backend.Service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.MediaType;
+import org.springframework.util.unit.DataSize;
+
+import com.ecommerce.backend.service.image.CachedImage;
+import com.ecommerce.backend.service.image.HotImageCache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class HotImageCacheTest {
+
+    private static final String HASH = "c0".repeat(32);
+
+    @TempDir
+    Path tempDir;
+
+    private SimpleMeterRegistry meterRegistry;
+    private HotImageCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new HotImageCache(DataSize.ofKilobytes(16), DataSize.ofKilobytes(4), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should keep small files in memory with their headers precomputed")
+    void get_WithSmallFile_ShouldBeResident() throws IOException {
+        Path path = write(HASH + ".png", 1000);
+
+        CachedImage image = cache.get(path);
+
+        assertTrue(image.isResident());
+        assertEquals(MediaType.IMAGE_PNG, image.contentType());
+        assertEquals(HASH, image.eTag());
+        assertEquals(1000, image.size());
+        assertEquals(Files.getLastModifiedTime(path).toMillis(), image.lastModified());
+        assertFalse(image.content().isDirect());
+        try (InputStream in = image.body().getInputStream()) {
+            assertArrayEquals(Files.readAllBytes(path), in.readAllBytes());
+        }
+    }
+
+    @Test
+    @DisplayName("Should serve a hit from memory even after the file changes on disk")
+    void get_OnHit_ShouldNotTouchDisk() throws IOException {
+        Path path = write(HASH + ".jpg", 100);
+        byte[] original = Files.readAllBytes(path);
+        cache.get(path);
+        Files.delete(path);
+
+        try (InputStream in = cache.get(path).body().getInputStream()) {
+            assertArrayEquals(original, in.readAllBytes());
+        }
+        assertEquals(1, cache.stats().hitCount());
+        assertEquals(0.5, meterRegistry.get("images.cache.hit.ratio").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Should give every stream its own position so ranges can skip independently")
+    void body_ShouldSupportIndependentStreams() throws IOException {
+        CachedImage image = cache.get(write("legacy.jpg", 100));
+
+        try (InputStream first = image.body().getInputStream(); InputStream second = image.body().getInputStream()) {
+            assertEquals(90, first.skip(90));
+            assertEquals(10, first.readAllBytes().length);
+            assertEquals(100, second.readAllBytes().length);
+        }
+        assertEquals(100, image.body().contentLength());
+    }
+
+    @Test
+    @DisplayName("Should keep only the headers of files above the entry limit and stream them from disk")
+    void get_WithLargeFile_ShouldStreamFromDisk() throws IOException {
+        Path path = write("large.jpg", 8 * 1024);
+
+        CachedImage image = cache.get(path);
+
+        assertFalse(image.isResident());
+        assertInstanceOf(FileSystemResource.class, image.body());
+        assertEquals(Long.toHexString(image.lastModified()) + "-" + Long.toHexString(8 * 1024), image.eTag());
+        assertTrue(cache.residentBytes() < 1024);
+    }
+
+    @Test
+    @DisplayName("Should not cache missing files")
+    void get_WithMissingFile_ShouldReturnNull() throws IOException {
+        Path path = tempDir.resolve("missing.jpg");
+
+        assertNull(cache.get(path));
+        write("missing.jpg", 10);
+        assertNotNull(cache.get(path));
+    }
+
+    @Test
+    @DisplayName("Should stay within the byte budget and report resident bytes")
+    void get_ShouldRespectByteBudget() throws IOException {
+        for (int i = 0; i < 20; i++) {
+            cache.get(write("image-" + i + ".jpg", 4 * 1024));
+        }
+
+        assertTrue(cache.residentBytes() <= 16 * 1024);
+        assertEquals(cache.residentBytes(), meterRegistry.get("images.cache.resident.bytes").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Should drop evicted paths")
+    void evict_ShouldRemoveEntry() throws IOException {
+        Path path = write("legacy.jpg", 10);
+        cache.get(path);
+
+        cache.evict(path);
+        Files.delete(path);
+
+        assertNull(cache.get(path));
+    }
+
+    private Path write(String name, int size) throws IOException {
+        byte[] bytes = new byte[size];
+        for (int i = 0; i < size; i++) {
+            bytes[i] = (byte) i;
+        }
+        return Files.write(tempDir.resolve(name), bytes);
+    }
+}
@@ -0,0 +1,139 @@
+package com.ecommerce.backend.Service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+import com.ecommerce.backend.repository.ProductImageRepository;
+import com.ecommerce.backend.service.image.ContentAddressedImageStore;
+import com.ecommerce.backend.service.image.HotImageCache;
+import com.ecommerce.backend.service.image.ImageStoreGarbageCollector;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class ImageStoreGarbageCollectorTest {
+
+    private static final String REFERENCED = "a1".repeat(32);
+    private static final String ORPHAN = "a1b2".repeat(16);
+    private static final String RECENT_ORPHAN = "ff".repeat(32);
+
+    @Mock
+    private ProductImageRepository productImageRepository;
+
+    @TempDir
+    Path tempDir;
+
+    private ContentAddressedImageStore store;
+    private HotImageCache hotImageCache;
+    private ImageStoreGarbageCollector collector;
+
+    @BeforeEach
+    void setUp() {
+        store = new ContentAddressedImageStore(tempDir.toString());
+        hotImageCache = new HotImageCache(DataSize.ofMegabytes(1), DataSize.ofKilobytes(64), new SimpleMeterRegistry());
+        collector = new ImageStoreGarbageCollector(store, productImageRepository, hotImageCache, Duration.ofHours(1));
+    }
+
+    @Test
+    @DisplayName("Should shard stored files by the first bytes of their hash")
+    void locate_ShouldShardContentAddressedNames() {
+        assertEquals(tempDir.resolve("a1/b2/" + ORPHAN + ".jpg"), store.locate(ORPHAN + ".jpg"));
+        assertEquals(tempDir.resolve("a1/b2/" + ORPHAN + "_card.jpg"), store.locate(ORPHAN + "_card.jpg"));
+        assertEquals(tempDir.resolve("legacy_photo.jpg"), store.locate("legacy_photo.jpg"));
+    }
+
+    @Test
+    @DisplayName("Should keep a single file when the same content is stored twice")
+    void store_WithSameContent_ShouldDeduplicate() throws IOException {
+        Path first = store.store(Files.writeString(tempDir.resolve("upload-1.tmp"), "same"), ORPHAN, "image/png");
+        Path second = store.store(Files.writeString(tempDir.resolve("upload-2.tmp"), "same"), ORPHAN, "image/png");
+
+        assertEquals(first, second);
+        assertEquals(tempDir.resolve("a1/b2/" + ORPHAN + ".png"), first);
+        assertFalse(Files.exists(tempDir.resolve("upload-1.tmp")));
+        assertFalse(Files.exists(tempDir.resolve("upload-2.tmp")));
+    }
+
+    @Test
+    @DisplayName("Should delete unreferenced originals and their variants once past the grace period")
+    void collect_ShouldRemoveOnlyOldOrphans() throws IOException {
+        Path referenced = old(stored(REFERENCED + ".jpg"));
+        Path orphan = old(stored(ORPHAN + ".jpg"));
+        Path orphanVariant = old(stored(ORPHAN + "_thumbnail.jpg"));
+        Path recentOrphan = stored(RECENT_ORPHAN + ".png");
+        Path staleUpload = old(Files.writeString(tempDir.resolve("upload-9.tmp"), "partial"));
+        Path legacy = old(Files.writeString(tempDir.resolve("uuid_legacy.jpg"), "legacy"));
+        when(productImageRepository.findReferencedContentHashes(anyCollection())).thenReturn(Set.of(REFERENCED));
+        assertNotNull(hotImageCache.get(orphan.toAbsolutePath().normalize()));
+
+        int removed = collector.collect();
+
+        assertEquals(3, removed);
+        assertTrue(Files.exists(referenced));
+        assertFalse(Files.exists(orphan));
+        assertFalse(Files.exists(orphanVariant));
+        assertTrue(Files.exists(recentOrphan));
+        assertFalse(Files.exists(staleUpload));
+        assertTrue(Files.exists(legacy));
+        assertNull(hotImageCache.get(orphan.toAbsolutePath().normalize()));
+        verify(productImageRepository, never()).findReferencedContentHashes(argThat(hashes -> hashes.contains(RECENT_ORPHAN)));
+    }
+
+    @Test
+    @DisplayName("Should not delete a variant while its original is still inside the grace period")
+    void collect_WithRecentOriginal_ShouldKeepWholeGroup() throws IOException {
+        Path original = stored(ORPHAN + ".jpg");
+        Path variant = old(stored(ORPHAN + "_card.jpg"));
+
+        assertEquals(0, collector.collect());
+
+        assertTrue(Files.exists(original));
+        assertTrue(Files.exists(variant));
+        verifyNoInteractions(productImageRepository);
+    }
+
+    @Test
+    @DisplayName("Should keep an orphan reused by a duplicate upload after the shard was listed")
+    void collect_WithFileReusedDuringCollection_ShouldKeepIt() throws IOException {
+        Path orphan = old(stored(ORPHAN + ".jpg"));
+        // The duplicate upload lands while the collector is querying references, before its row commits
+        when(productImageRepository.findReferencedContentHashes(anyCollection())).thenAnswer(invocation -> {
+            store.store(Files.writeString(tempDir.resolve("upload-3.tmp"), "same"), ORPHAN, "image/jpeg");
+            return Set.of();
+        });
+
+        assertEquals(0, collector.collect());
+
+        assertTrue(Files.exists(orphan));
+        assertFalse(Files.exists(tempDir.resolve("upload-3.tmp")));
+    }
+
+    private Path stored(String name) throws IOException {
+        Path path = store.locate(name);
+        Files.createDirectories(path.getParent());
+        return Files.writeString(path, name);
+    }
+
+    private static Path old(Path path) throws IOException {
+        Files.setLastModifiedTime(path, FileTime.from(Instant.now().minus(Duration.ofDays(1))));
+        return path;
+    }
+}
@@ -0,0 +1,174 @@
+package com.ecommerce.backend.Service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.ecommerce.backend.model.enums.ImageVariant;
+import com.ecommerce.backend.repository.ProductImageRepository;
+import com.ecommerce.backend.service.image.ImageVariantGenerator;
+import com.ecommerce.backend.service.image.ImageVariantProcessor;
+
+@ExtendWith(MockitoExtension.class)
+class ImageVariantProcessorTest {
+
+    @Mock
+    private ProductImageRepository productImageRepository;
+
+    @TempDir
+    Path tempDir;
+
+    private ImageVariantGenerator generator;
+    private ImageVariantProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        generator = new ImageVariantGenerator(0.8f, 40_000_000);
+        processor = new ImageVariantProcessor(generator, productImageRepository, 1, 4);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        processor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should decode once and write every variant as a JPEG no wider than its limit")
+    void generate_ShouldWriteAllVariants() throws IOException {
+        Path original = writePng("uuid_photo.png", 2000, 1000);
+
+        Map<ImageVariant, Path> variants = generator.generate(original);
+
+        assertEquals(3, variants.size());
+        assertEquals(tempDir.resolve("uuid_photo_thumbnail.jpg"), variants.get(ImageVariant.THUMBNAIL));
+        for (ImageVariant variant : ImageVariant.values()) {
+            BufferedImage written = ImageIO.read(variants.get(variant).toFile());
+            assertEquals(variant.getMaxWidth(), written.getWidth());
+            assertEquals(variant.getMaxWidth() / 2, written.getHeight());
+        }
+        assertTrue(Files.size(variants.get(ImageVariant.THUMBNAIL)) < Files.size(variants.get(ImageVariant.FULL)));
+        try (var files = Files.list(tempDir)) {
+            assertTrue(files.noneMatch(file -> file.toString().endsWith(".tmp")));
+        }
+    }
+
+    @Test
+    @DisplayName("Should not upscale images smaller than a variant")
+    void generate_WithSmallImage_ShouldKeepOriginalWidth() throws IOException {
+        Path original = writePng("small.png", 300, 200);
+
+        Map<ImageVariant, Path> variants = generator.generate(original);
+
+        assertEquals(160, ImageIO.read(variants.get(ImageVariant.THUMBNAIL).toFile()).getWidth());
+        assertEquals(300, ImageIO.read(variants.get(ImageVariant.CARD).toFile()).getWidth());
+        assertEquals(300, ImageIO.read(variants.get(ImageVariant.FULL).toFile()).getWidth());
+    }
+
+    @Test
+    @DisplayName("Should not decode an image whose header declares more pixels than the limit")
+    void generate_OverPixelLimit_ShouldSkipDecode() throws IOException {
+        Path original = writePng("huge.png", 200, 100);
+
+        Map<ImageVariant, Path> variants = new ImageVariantGenerator(0.8f, 19_999).generate(original);
+
+        assertTrue(variants.isEmpty());
+        try (var files = Files.list(tempDir)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    @DisplayName("Should record the variant paths on the image")
+    void process_ShouldUpdateImageRow() throws IOException {
+        Path original = writePng("uuid_photo.png", 800, 600);
+
+        processor.process(7L, original);
+
+        verify(productImageRepository).updateVariants(7L,
+                tempDir.resolve("uuid_photo_thumbnail.jpg").toString(),
+                tempDir.resolve("uuid_photo_card.jpg").toString(),
+                tempDir.resolve("uuid_photo_full.jpg").toString());
+    }
+
+    @Test
+    @DisplayName("Should leave the image untouched when the file cannot be decoded")
+    void process_WithUndecodableFile_ShouldNotUpdate() throws IOException {
+        Path original = Files.write(tempDir.resolve("fake.jpg"), "fake image content".getBytes());
+
+        processor.process(7L, original);
+
+        verify(productImageRepository, never()).updateVariants(anyLong(), any(), any(), any());
+        try (var files = Files.list(tempDir)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    @DisplayName("Should process submitted images in the background")
+    void submit_ShouldRunAsynchronously() throws IOException {
+        Path original = writePng("uuid_photo.png", 800, 600);
+
+        processor.submit(9L, original);
+
+        verify(productImageRepository, timeout(5000)).updateVariants(eq(9L), anyString(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Should drop the job instead of running it on the caller when the queue is full")
+    void submit_WithFullQueue_ShouldNotRunOnCaller() throws Exception {
+        ImageVariantGenerator blocking = mock(ImageVariantGenerator.class);
+        CountDownLatch release = new CountDownLatch(1);
+        when(blocking.generate(any())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return Map.of();
+        });
+        ImageVariantProcessor busy = new ImageVariantProcessor(blocking, productImageRepository, 1, 1);
+        try {
+            busy.submit(1L, tempDir.resolve("running.png"));
+            verify(blocking, timeout(5000)).generate(tempDir.resolve("running.png"));
+            busy.submit(2L, tempDir.resolve("queued.png"));
+
+            busy.submit(3L, tempDir.resolve("dropped.png"));
+
+            assertEquals(1, busy.queuedJobs());
+            release.countDown();
+            verify(blocking, timeout(5000)).generate(tempDir.resolve("queued.png"));
+            verify(blocking, never()).generate(tempDir.resolve("dropped.png"));
+        } finally {
+            release.countDown();
+            busy.shutdown();
+        }
+    }
+
+    private Path writePng(String name, int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.ORANGE);
+        graphics.fillOval(0, 0, width, height);
+        graphics.dispose();
+        Path path = tempDir.resolve(name);
+        ImageIO.write(image, "png", path.toFile());
+        return path;
+    }
+}
@@ -5,9 +5,10 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyInt;
-import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.Mockito.doNothing;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -17,18 +18,25 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 
 import com.ecommerce.backend.dto.ResponseDto.OrderItemResponseDto;
 import com.ecommerce.backend.dto.ResponseDto.OrderResponseDto;
+import com.ecommerce.backend.dto.ResponseDto.OrderResponseListDto;
 import com.ecommerce.backend.dto.requestDto.OrderStatusRequestDto;
 import com.ecommerce.backend.mapper.OrderMapper;
 import com.ecommerce.backend.model.CartItem;
@@ -38,6 +46,8 @@ import com.ecommerce.backend.model.Product;
 import com.ecommerce.backend.model.User;
 import com.ecommerce.backend.model.enums.OrderStatus;
 import com.ecommerce.backend.model.enums.UserRole;
+import com.ecommerce.backend.repository.OrderHistoryRow;
+import com.ecommerce.backend.repository.OrderItemRow;
 import com.ecommerce.backend.repository.OrderRepository;
 import com.ecommerce.backend.security.SecurityService;
 import com.ecommerce.backend.service.CartItemService;
@@ -149,22 +159,28 @@ public class OrderServiceTest {
         @Test
         void getAuthUserOrders_WithAuthenticatedUser_ShouldReturnOrders() {
                 // Arrange
-                List<Order> userOrders = List.of(order);
+                Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "id"));
+                Page<OrderHistoryRow> page = new PageImpl<>(
+                                List.of(new OrderHistoryRow(1L, OrderStatus.PENDING)), pageable, 1);
+                List<OrderItemRow> items = List.of(
+                                new OrderItemRow(1L, 1L, 1L, "Smartphone", new BigDecimal("2000.00"), 6));
+                OrderResponseListDto listDto = new OrderResponseListDto(List.of(responseDto), 10, 1L, 1, 0);
                 when(securityService.getAuthenticatedUser()).thenReturn(Optional.of(user));
-                when(orderRepository.findAllByUser(user)).thenReturn(userOrders);
-                when(orderMapper.toResponseDto(any(Order.class))).thenReturn(responseDto);
+                when(orderRepository.findHistoryByUserId(1L, pageable)).thenReturn(page);
+                when(orderRepository.findItemsByOrderIds(List.of(1L))).thenReturn(items);
+                when(orderMapper.toResponseListDto(page, items, "test@mail.com")).thenReturn(listDto);
 
                 // Act
-                List<OrderResponseDto> result = orderService.getAuthUserOrders();
+                OrderResponseListDto result = orderService.getAuthUserOrders(pageable);
 
                 // Assert
                 assertNotNull(result);
-                assertEquals(1, result.size());
-                assertEquals(1L, result.get(0).id());
+                assertEquals(1, result.orders().size());
+                assertEquals(1L, result.orders().get(0).id());
 
                 verify(securityService).getAuthenticatedUser();
-                verify(orderRepository).findAllByUser(user);
-                verify(orderMapper).toResponseDto(order);
+                verify(orderRepository).findHistoryByUserId(1L, pageable);
+                verify(orderRepository).findItemsByOrderIds(List.of(1L));
         }
 
         @Test
@@ -174,31 +190,46 @@ public class OrderServiceTest {
 
                 // Act & Assert
                 BusinessException exception = assertThrows(BusinessException.class,
-                                () -> orderService.getAuthUserOrders());
+                                () -> orderService.getAuthUserOrders(PageRequest.of(0, 10)));
 
                 assertEquals("user not found", exception.getMessage());
                 assertEquals(HttpStatus.NOT_FOUND, exception.getHttpStatus());
 
                 verify(securityService).getAuthenticatedUser();
-                verify(orderRepository, never()).findAllByUser(any());
+                verify(orderRepository, never()).findHistoryByUserId(any(), any());
         }
 
         @Test
-        void getAuthUserOrders_WithNoOrders_ShouldReturnEmptyList() {
+        void getAuthUserOrders_WithNoOrders_ShouldSkipItemQuery() {
                 // Arrange
+                Pageable pageable = PageRequest.of(0, 10);
+                Page<OrderHistoryRow> empty = Page.empty(pageable);
                 when(securityService.getAuthenticatedUser()).thenReturn(Optional.of(user));
-                when(orderRepository.findAllByUser(user)).thenReturn(List.of());
+                when(orderRepository.findHistoryByUserId(1L, pageable)).thenReturn(empty);
+                when(orderMapper.toResponseListDto(empty, List.of(), "test@mail.com"))
+                                .thenReturn(new OrderResponseListDto(List.of(), 10, 0L, 0, 0));
 
                 // Act
-                List<OrderResponseDto> result = orderService.getAuthUserOrders();
+                OrderResponseListDto result = orderService.getAuthUserOrders(pageable);
 
                 // Assert
                 assertNotNull(result);
-                assertTrue(result.isEmpty());
+                assertTrue(result.orders().isEmpty());
 
-                verify(securityService).getAuthenticatedUser();
-                verify(orderRepository).findAllByUser(user);
-                verify(orderMapper, never()).toResponseDto(any());
+                verify(orderRepository, never()).findItemsByOrderIds(any());
+        }
+
+        @Test
+        void getAuthUserOrders_WithUnsupportedSort_ShouldThrowBusinessException() {
+                // Arrange
+                when(securityService.getAuthenticatedUser()).thenReturn(Optional.of(user));
+
+                // Act & Assert
+                BusinessException exception = assertThrows(BusinessException.class,
+                                () -> orderService.getAuthUserOrders(PageRequest.of(0, 10, Sort.by("totalAmount"))));
+
+                assertEquals(HttpStatus.BAD_REQUEST, exception.getHttpStatus());
+                verify(orderRepository, never()).findHistoryByUserId(any(), any());
         }
 
         @Test
@@ -288,10 +319,9 @@ public class OrderServiceTest {
                 when(securityService.getAuthenticatedUser()).thenReturn(Optional.of(user));
                 when(cartItemService.getCartItemsEntity()).thenReturn(cartItems);
                 when(orderRepository.save(any(Order.class))).thenReturn(order);
-                when(orderMapper.toResponseDto(any(Order.class))).thenReturn(responseDto);
+                when(orderMapper.toResponseDto(any(Order.class), anyList())).thenReturn(responseDto);
 
-                // Mock do updateStockQuantity (método void)
-                doNothing().when(productService).updateStockQuantity(anyLong(), anyInt());
+                when(productService.reserveStock(anyMap())).thenReturn(List.of());
 
                 // Act
                 OrderResponseDto result = orderService.createOrderFromCart();
@@ -304,8 +334,10 @@ public class OrderServiceTest {
                 verify(securityService).getAuthenticatedUser();
                 verify(cartItemService).getCartItemsEntity();
                 verify(orderRepository).save(any(Order.class));
+                verify(orderRepository).insertItems(argThat(items -> items.size() == 1
+                                && items.get(0).getQuantity() == 2), eq("test@mail.com"));
                 verify(cartItemService).cleanAuthUserCartItems();
-                verify(productService).updateStockQuantity(1L, 2);
+                verify(productService).reserveStock(Map.of(1L, 2));
         }
 
         @Test
@@ -372,7 +404,7 @@ public class OrderServiceTest {
                 verify(securityService).getAuthenticatedUser();
                 verify(cartItemService).getCartItemsEntity();
                 verify(orderRepository, never()).save(any());
-                verify(productService, never()).updateStockQuantity(anyLong(), anyInt());
+                verify(productService, never()).reserveStock(anyMap());
         }
 
         @Test
@@ -406,8 +438,8 @@ public class OrderServiceTest {
                         assertEquals(0, expectedTotal.compareTo(savedOrder.getTotalAmount()));
                         return savedOrder;
                 });
-                when(orderMapper.toResponseDto(any(Order.class))).thenReturn(orderResponseDto);
-                doNothing().when(productService).updateStockQuantity(anyLong(), anyInt());
+                when(orderMapper.toResponseDto(any(Order.class), anyList())).thenReturn(orderResponseDto);
+                when(productService.reserveStock(anyMap())).thenReturn(List.of());
 
                 // Act
                 orderService.createOrderFromCart();
@@ -417,7 +449,7 @@ public class OrderServiceTest {
         }
 
         @Test
-        void createOrderFromCart_ShouldCallUpdateStockQuantityForEachItem() {
+        void createOrderFromCart_ShouldReserveStockForAllItemsInOneCall() {
                 // Arrange
                 // Criando múltiplos itens no carrinho
                 Product product1 = Product.builder()
@@ -449,17 +481,15 @@ public class OrderServiceTest {
                 when(securityService.getAuthenticatedUser()).thenReturn(Optional.of(user));
                 when(cartItemService.getCartItemsEntity()).thenReturn(multipleCartItems);
                 when(orderRepository.save(any(Order.class))).thenReturn(order);
-                when(orderMapper.toResponseDto(any(Order.class))).thenReturn(orderResponseDto);
-                doNothing().when(productService).updateStockQuantity(anyLong(), anyInt());
+                when(orderMapper.toResponseDto(any(Order.class), anyList())).thenReturn(orderResponseDto);
+                when(productService.reserveStock(anyMap())).thenReturn(List.of());
 
                 // Act
                 orderService.createOrderFromCart();
 
                 // Assert
-                // Verifica se updateStockQuantity foi chamado para cada produto
-                verify(productService).updateStockQuantity(1L, 3);
-                verify(productService).updateStockQuantity(2L, 2);
-                verify(productService, times(2)).updateStockQuantity(anyLong(), anyInt());
+                // Verifica se o estoque de todos os produtos foi reservado numa única chamada
+                verify(productService, times(1)).reserveStock(Map.of(1L, 3, 2L, 2));
         }
 
         @Test
@@ -468,8 +498,8 @@ public class OrderServiceTest {
                 when(securityService.getAuthenticatedUser()).thenReturn(Optional.of(user));
                 when(cartItemService.getCartItemsEntity()).thenReturn(cartItems);
                 when(orderRepository.save(any(Order.class))).thenReturn(order);
-                when(orderMapper.toResponseDto(any(Order.class))).thenReturn(orderResponseDto);
-                doNothing().when(productService).updateStockQuantity(anyLong(), anyInt());
+                when(orderMapper.toResponseDto(any(Order.class), anyList())).thenReturn(orderResponseDto);
+                when(productService.reserveStock(anyMap())).thenReturn(List.of());
 
                 // Act
                 orderService.createOrderFromCart();
@@ -486,7 +516,7 @@ public class OrderServiceTest {
 
                 // Simula falha ao salvar o pedido
                 when(orderRepository.save(any(Order.class))).thenThrow(new RuntimeException("Database error"));
-                doNothing().when(productService).updateStockQuantity(anyLong(), anyInt());
+                when(productService.reserveStock(anyMap())).thenReturn(List.of());
 
                 // Act & Assert
                 assertThrows(RuntimeException.class, () -> orderService.createOrderFromCart());
@@ -494,4 +524,22 @@ public class OrderServiceTest {
                 // Verifica que NÃO limpou o carrinho em caso de falha
                 verify(cartItemService, never()).cleanAuthUserCartItems();
         }
+
+        @Test
+        void createOrderFromCart_WhenReservationIsRejected_ShouldThrowConflict() {
+                // Arrange
+                when(securityService.getAuthenticatedUser()).thenReturn(Optional.of(user));
+                when(cartItemService.getCartItemsEntity()).thenReturn(cartItems);
+                // Outro checkout levou o estoque entre a leitura do carrinho e a reserva
+                when(productService.reserveStock(anyMap())).thenReturn(List.of(1L));
+
+                // Act & Assert
+                BusinessException exception = assertThrows(BusinessException.class,
+                                () -> orderService.createOrderFromCart());
+
+                assertTrue(exception.getMessage().contains("Smartphone"));
+                assertEquals(HttpStatus.CONFLICT, exception.getHttpStatus());
+                verify(orderRepository, never()).save(any());
+                verify(cartItemService, never()).cleanAuthUserCartItems();
+        }
 }
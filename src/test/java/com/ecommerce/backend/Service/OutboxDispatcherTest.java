@@ -0,0 +1,132 @@
+package com.ecommerce.backend.Service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.ecommerce.backend.model.OutboxEvent;
+import com.ecommerce.backend.repository.OutboxEventRepository;
+import com.ecommerce.backend.service.events.PaymentCompletedEvent;
+import com.ecommerce.backend.service.outbox.OutboxDispatcher;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxDispatcherTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private OutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new OutboxDispatcher(outboxEventRepository, eventPublisher, new ObjectMapper(), true, 1, 10,
+                Duration.ofMinutes(5), Duration.ofMinutes(1), false);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should publish claimed events on the executor and delete them afterwards")
+    void dispatch_ShouldDeliverAndDelete() throws InterruptedException {
+        OutboxEvent event = event(7L, PaymentCompletedEvent.class.getName(), "{\"orderId\":3,\"paymentId\":4}", 0);
+        when(outboxEventRepository.findByAvailableAtLessThanEqualOrderById(any(), any())).thenReturn(List.of(event));
+        when(outboxEventRepository.claim(eq(7L), eq(0), any())).thenReturn(1);
+
+        assertEquals(1, dispatcher.dispatch());
+        dispatcher.shutdown();
+
+        verify(eventPublisher).publishEvent(new PaymentCompletedEvent(3L, 4L));
+        verify(outboxEventRepository).deleteDelivered(7L);
+        verify(outboxEventRepository, never()).reschedule(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should not poll when the outbox is disabled")
+    void scheduledDispatch_WhenDisabled_ShouldNotQuery() throws InterruptedException {
+        OutboxDispatcher disabled = new OutboxDispatcher(outboxEventRepository, eventPublisher, new ObjectMapper(),
+                false, 1, 10, Duration.ofMinutes(5), Duration.ofMinutes(1), false);
+
+        disabled.scheduledDispatch();
+        disabled.shutdown();
+
+        verifyNoInteractions(outboxEventRepository);
+    }
+
+    @Test
+    @DisplayName("Should skip events another dispatcher claimed first")
+    void dispatch_WhenClaimIsLost_ShouldNotDeliver() throws InterruptedException {
+        OutboxEvent event = event(7L, PaymentCompletedEvent.class.getName(), "{\"orderId\":3,\"paymentId\":4}", 2);
+        when(outboxEventRepository.findByAvailableAtLessThanEqualOrderById(any(), any())).thenReturn(List.of(event));
+        when(outboxEventRepository.claim(eq(7L), eq(2), any())).thenReturn(0);
+
+        assertEquals(0, dispatcher.dispatch());
+        dispatcher.shutdown();
+
+        verifyNoInteractions(eventPublisher);
+        verify(outboxEventRepository, never()).deleteDelivered(any());
+    }
+
+    @Test
+    @DisplayName("Should keep a failed event and retry it later with backoff")
+    void dispatch_WhenListenerFails_ShouldReschedule() throws InterruptedException {
+        OutboxEvent event = event(7L, PaymentCompletedEvent.class.getName(), "{\"orderId\":3,\"paymentId\":4}", 2);
+        when(outboxEventRepository.findByAvailableAtLessThanEqualOrderById(any(), any())).thenReturn(List.of(event));
+        when(outboxEventRepository.claim(eq(7L), eq(2), any())).thenReturn(1);
+        doThrow(new IllegalStateException("database down")).when(eventPublisher).publishEvent(any(Object.class));
+
+        LocalDateTime before = LocalDateTime.now();
+        dispatcher.dispatch();
+        dispatcher.shutdown();
+
+        ArgumentCaptor<LocalDateTime> retryAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(outboxEventRepository).reschedule(eq(7L), retryAt.capture(), eq("database down"));
+        // Third attempt: 1s, 2s, 4s
+        assertFalse(retryAt.getValue().isBefore(before.plusSeconds(4)));
+        verify(outboxEventRepository, never()).deleteDelivered(any());
+    }
+
+    @Test
+    @DisplayName("Should never instantiate types outside the events package")
+    void dispatch_WithForeignType_ShouldNotPublish() throws InterruptedException {
+        OutboxEvent event = event(8L, "java.lang.ProcessBuilder", "{}", 0);
+        when(outboxEventRepository.findByAvailableAtLessThanEqualOrderById(any(), any())).thenReturn(List.of(event));
+        when(outboxEventRepository.claim(eq(8L), eq(0), any())).thenReturn(1);
+
+        dispatcher.dispatch();
+        dispatcher.shutdown();
+
+        verifyNoInteractions(eventPublisher);
+        verify(outboxEventRepository).reschedule(eq(8L), any(), contains("Unknown outbox event type"));
+    }
+
+    private OutboxEvent event(Long id, String type, String payload, int attempts) {
+        OutboxEvent event = OutboxEvent.builder()
+                .eventType(type)
+                .payload(payload)
+                .availableAt(LocalDateTime.now())
+                .attempts(attempts)
+                .build();
+        event.setId(id);
+        return event;
+    }
+}
@@ -17,10 +17,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 
 import com.ecommerce.backend.dto.ResponseDto.PaymentResponseDto;
+import com.ecommerce.backend.dto.ResponseDto.PaymentResponseListDto;
+import com.ecommerce.backend.dto.ResponseDto.PaymentSummaryResponseDto;
 import com.ecommerce.backend.dto.requestDto.PaymentRequestDto;
 import com.ecommerce.backend.dto.requestDto.PaymentStatusUpdateRequest;
 import com.ecommerce.backend.mapper.PaymentMapper;
@@ -32,6 +38,7 @@ import com.ecommerce.backend.repository.PaymentRepository;
 import com.ecommerce.backend.service.OrderService;
 import com.ecommerce.backend.service.PaymentService;
 import com.ecommerce.backend.service.events.PaymentCompletedEvent;
+import com.ecommerce.backend.service.outbox.OutboxService;
 import com.ecommerce.backend.shared.exception.BusinessException;
 
 @ExtendWith(MockitoExtension.class)
@@ -47,7 +54,7 @@ class PaymentServiceTest {
     private OrderService orderService;
 
     @Mock
-    private ApplicationEventPublisher eventPublisher;
+    private OutboxService outboxService;
 
     @InjectMocks
     private PaymentService paymentService;
@@ -115,7 +122,7 @@ class PaymentServiceTest {
             assertEquals(new BigDecimal("1000.00"), result.amount());
             assertEquals(PaymentStatus.PENDING, result.status());
 
-            verify(eventPublisher).publishEvent(any(PaymentCompletedEvent.class));
+            verify(outboxService).enqueue(new PaymentCompletedEvent(1L, 1L));
             verify(paymentRepository, times(1)).save(payment); // 1 vez apenas!
         }
 
@@ -280,25 +287,78 @@ class PaymentServiceTest {
 
     @Nested
     @DisplayName("Listagem de Pagamentos")
-    class FindAllPaymentsTests {
+    class FindPaymentsTests {
 
         @Test
-        @DisplayName("📋 Deve retornar lista de todos os pagamentos")
-        void findAllPayments_ShouldReturnAllPayments() {
+        @DisplayName("📋 Deve retornar a página filtrada de pagamentos")
+        void findPayments_ShouldReturnFilteredPage() {
             // Arrange
-            List<Payment> payments = List.of(payment);
-            List<PaymentResponseDto> responseDtos = List.of(paymentResponseDto);
+            Pageable pageable = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "paidAt", "id"));
+            Page<PaymentResponseDto> page = new PageImpl<>(List.of(paymentResponseDto), pageable, 1);
+            PaymentResponseListDto listDto = new PaymentResponseListDto(List.of(paymentResponseDto), 20, 1L, 1, 0);
+            LocalDate from = LocalDate.now().minusDays(7);
 
-            when(paymentRepository.findAll()).thenReturn(payments);
-            when(paymentMapper.toResponseList(payments)).thenReturn(responseDtos);
+            when(paymentRepository.findPage(PaymentStatus.PENDING, null, from, null, pageable)).thenReturn(page);
+            when(paymentMapper.toResponseListDto(page)).thenReturn(listDto);
 
             // Act
-            List<PaymentResponseDto> result = paymentService.findAllPayments();
+            PaymentResponseListDto result = paymentService.findPayments(PaymentStatus.PENDING, null, from, null,
+                    pageable);
 
             // Assert
-            assertNotNull(result);
-            assertEquals(1, result.size());
-            verify(paymentRepository).findAll();
+            assertEquals(1, result.payments().size());
+            verify(paymentRepository, never()).findAll();
+        }
+
+        @Test
+        @DisplayName("🚫 Deve rejeitar ordenação por coluna não indexada")
+        void findPayments_WithUnsupportedSort_ShouldThrowException() {
+            Pageable pageable = PageRequest.of(0, 20, Sort.by("transactionReference"));
+
+            BusinessException ex = assertThrows(BusinessException.class,
+                    () -> paymentService.findPayments(null, null, null, null, pageable));
+
+            assertEquals(HttpStatus.BAD_REQUEST, ex.getHttpStatus());
+            verifyNoInteractions(paymentRepository);
+        }
+
+        @Test
+        @DisplayName("📅 Deve rejeitar intervalo de datas invertido")
+        void findPayments_WithInvertedRange_ShouldThrowException() {
+            LocalDate today = LocalDate.now();
+
+            BusinessException ex = assertThrows(BusinessException.class,
+                    () -> paymentService.findPayments(null, null, today, today.minusDays(1), PageRequest.of(0, 20)));
+
+            assertEquals("paidFrom must not be after paidTo", ex.getMessage());
+        }
+    }
+
+    @Nested
+    @DisplayName("Resumo de Pagamentos")
+    class SummarizePaymentsTests {
+
+        @Test
+        @DisplayName("📊 Sem datas, deve resumir os últimos 30 dias")
+        void summarizePayments_WithoutRange_ShouldUseLast30Days() {
+            LocalDate today = LocalDate.now();
+            List<PaymentSummaryResponseDto> rows = List.of(
+                    new PaymentSummaryResponseDto(today, PaymentStatus.SUCCESS, 2L, new BigDecimal("30.00")));
+            when(paymentRepository.summarizeByDayAndStatus(today.minusDays(29), today)).thenReturn(rows);
+
+            assertEquals(rows, paymentService.summarizePayments(null, null));
+        }
+
+        @Test
+        @DisplayName("🚫 Deve rejeitar intervalos maiores que um ano")
+        void summarizePayments_WithHugeRange_ShouldThrowException() {
+            LocalDate today = LocalDate.now();
+
+            BusinessException ex = assertThrows(BusinessException.class,
+                    () -> paymentService.summarizePayments(today.minusYears(2), today));
+
+            assertEquals(HttpStatus.BAD_REQUEST, ex.getHttpStatus());
+            verifyNoInteractions(paymentRepository);
         }
     }
-}
\ No newline at end of file
+}
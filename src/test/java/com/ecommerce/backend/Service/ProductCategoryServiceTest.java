@@ -16,11 +16,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 
 import com.ecommerce.backend.dto.ResponseDto.ProductCategoryResponseDto;
+import com.ecommerce.backend.dto.ResponseDto.ProductResponseDto;
+import com.ecommerce.backend.dto.ResponseDto.ProductResponseListDto;
 import com.ecommerce.backend.dto.requestDto.ProductCategoryRequestDto;
 import com.ecommerce.backend.mapper.ProductCategoryMapper;
+import com.ecommerce.backend.mapper.ProductMapper;
 import com.ecommerce.backend.model.Category;
 import com.ecommerce.backend.model.Product;
 import com.ecommerce.backend.model.ProductCategory;
@@ -45,6 +53,9 @@ class ProductCategoryServiceTest {
     @Mock
     private CategoryService categoryService;
 
+    @Mock
+    private ProductMapper productMapper;
+
     @InjectMocks
     private ProductCategoryService productCategoryService;
 
@@ -359,6 +370,50 @@ class ProductCategoryServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("findAllProductsInCategoryTree - Buscar produtos da categoria e subcategorias")
+    class FindAllProductsInCategoryTreeTests {
+
+        @Test
+        @DisplayName("✅ Deve buscar produtos de toda a subárvore numa única consulta")
+        void findAllProductsInCategoryTree_ShouldQueryWholeSubtree() {
+            // Arrange
+            ProductResponseDto productResponseDto = new ProductResponseDto(1L, "Smartphone Galaxy S23",
+                    "Smartphone top de linha Samsung", new BigDecimal("4500.00"), 10);
+            ProductResponseListDto responseList = new ProductResponseListDto(List.of(productResponseDto), 10, 1L,
+                    1, 0, null);
+            Pageable pageable = PageRequest.of(0, 10, Sort.by("id"));
+            Page<Product> page = new PageImpl<>(List.of(product), pageable, 1);
+
+            when(categoryService.getSubtreeIds(1L)).thenReturn(List.of(1L, 2L, 4L));
+            when(productCategoryRepository.findDistinctProductsByCategoryIdIn(List.of(1L, 2L, 4L), pageable))
+                    .thenReturn(page);
+            when(productMapper.toResponseListDto(page)).thenReturn(responseList);
+
+            // Act
+            ProductResponseListDto result = productCategoryService.findAllProductsInCategoryTree(1L, pageable);
+
+            // Assert
+            assertEquals(responseList, result);
+            verify(productCategoryRepository).findDistinctProductsByCategoryIdIn(List.of(1L, 2L, 4L), pageable);
+        }
+
+        @Test
+        @DisplayName("❌ Deve lançar exceção quando categoria não existe")
+        void findAllProductsInCategoryTree_WithNonExistingCategory_ShouldThrowBusinessException() {
+            // Arrange
+            when(categoryService.getSubtreeIds(999L)).thenThrow(
+                    new BusinessException("No Category found with the id 999", HttpStatus.NOT_FOUND));
+
+            // Act & Assert
+            BusinessException exception = assertThrows(BusinessException.class,
+                    () -> productCategoryService.findAllProductsInCategoryTree(999L, PageRequest.of(0, 10)));
+
+            assertEquals(HttpStatus.NOT_FOUND, exception.getHttpStatus());
+            verify(productCategoryRepository, never()).findDistinctProductsByCategoryIdIn(any(), any());
+        }
+    }
+
     @Nested
     @DisplayName("getAll - Listar todas as associações")
     class GetAllTests {
@@ -9,6 +9,9 @@ import java.math.BigDecimal;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,6 +24,7 @@ import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -32,11 +36,17 @@ import com.ecommerce.backend.model.ProductImage;
 import com.ecommerce.backend.repository.ProductImageRepository;
 import com.ecommerce.backend.service.ProductImageService;
 import com.ecommerce.backend.service.ProductService;
+import com.ecommerce.backend.service.events.ProductImageUploadedEvent;
+import com.ecommerce.backend.service.image.ContentAddressedImageStore;
+import com.ecommerce.backend.service.image.StoredImage;
 import com.ecommerce.backend.shared.exception.BusinessException;
 
 @ExtendWith(MockitoExtension.class)
 class ProductImageServiceTest {
 
+    private static final byte[] JPEG_SIGNATURE = { (byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0 };
+    private static final byte[] PNG_SIGNATURE = { (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n' };
+
     @Mock
     private ProductService productService;
 
@@ -46,6 +56,9 @@ class ProductImageServiceTest {
     @Mock
     private ProductImageMapper productImageMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ProductImageService productImageService;
 
@@ -81,21 +94,23 @@ class ProductImageServiceTest {
                 "test-image.jpg",
                 " image/jpeg",
                 "uploads/images/test-image.jpg",
-                1L// imageUrl
-        );
+                1L,// imageUrl
+                null,
+                null,
+                null);
 
         // Arquivos de teste
         validJpegFile = new MockMultipartFile(
                 "file",
                 "test-image.jpg",
                 "image/jpeg",
-                "fake image content".getBytes());
+                withSignature(JPEG_SIGNATURE, "fake image content"));
 
         validPngFile = new MockMultipartFile(
                 "file",
                 "test-image.png",
                 "image/png",
-                "fake image content".getBytes());
+                withSignature(PNG_SIGNATURE, "fake image content"));
 
         invalidTypeFile = new MockMultipartFile(
                 "file",
@@ -110,9 +125,9 @@ class ProductImageServiceTest {
                 new byte[6 * 1024 * 1024] // 6MB
         );
 
-        // Configurar uploadDir via Reflection (já que é @Value)
-        ReflectionTestUtils.setField(productImageService, "uploadDir",
-                tempDir.toString());
+        // Store real sobre o diretório temporário (o @TempDir só existe depois dos mocks)
+        ReflectionTestUtils.setField(productImageService, "imageStore",
+                new ContentAddressedImageStore(tempDir.toString()));
     }
 
     @Nested
@@ -124,7 +139,7 @@ class ProductImageServiceTest {
         void saveImage_WithValidJpeg_ShouldSaveImage() throws IOException {
             // Arrange
             when(productService.getProduct(1L)).thenReturn(product);
-            when(productImageMapper.toEntity(eq(validJpegFile), eq(product), anyString()))
+            when(productImageMapper.toEntity(eq(validJpegFile), eq(product), any(StoredImage.class)))
                     .thenReturn(productImage);
             when(productImageRepository.save(productImage)).thenReturn(productImage);
             when(productImageMapper.toResponseDto(productImage)).thenReturn(responseDto);
@@ -140,6 +155,9 @@ class ProductImageServiceTest {
             verify(productService).getProduct(1L);
             verify(productImageRepository).save(productImage);
             verify(productImageMapper).toResponseDto(productImage);
+            verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof ProductImageUploadedEvent uploaded
+                    && uploaded.getImageId().equals(1L)
+                    && Files.exists(uploaded.getPath())));
         }
 
         @Test
@@ -147,7 +165,7 @@ class ProductImageServiceTest {
         void saveImage_WithValidPng_ShouldSaveImage() throws IOException {
             // Arrange
             when(productService.getProduct(1L)).thenReturn(product);
-            when(productImageMapper.toEntity(eq(validPngFile), eq(product), anyString()))
+            when(productImageMapper.toEntity(eq(validPngFile), eq(product), any(StoredImage.class)))
                     .thenReturn(productImage);
             when(productImageRepository.save(productImage)).thenReturn(productImage);
             when(productImageMapper.toResponseDto(productImage)).thenReturn(responseDto);
@@ -201,6 +219,7 @@ class ProductImageServiceTest {
 
             verify(productService).getProduct(999L);
             verify(productImageRepository, never()).save(any());
+            verifyNoInteractions(eventPublisher);
 
             // Verificar que nenhum arquivo foi salvo
             try (var files = Files.list(tempDir)) {
@@ -215,10 +234,11 @@ class ProductImageServiceTest {
         void saveImage_WhenUploadDirDoesNotExist_ShouldCreateDirectory() throws IOException {
             // Arrange
             String nonExistentDir = tempDir.toString() + "/subdir/images";
-            ReflectionTestUtils.setField(productImageService, "uploadDir", nonExistentDir);
+            ReflectionTestUtils.setField(productImageService, "imageStore",
+                    new ContentAddressedImageStore(nonExistentDir));
 
             when(productService.getProduct(1L)).thenReturn(product);
-            when(productImageMapper.toEntity(eq(validJpegFile), eq(product), anyString()))
+            when(productImageMapper.toEntity(eq(validJpegFile), eq(product), any(StoredImage.class)))
                     .thenReturn(productImage);
             when(productImageRepository.save(productImage)).thenReturn(productImage);
             when(productImageMapper.toResponseDto(productImage)).thenReturn(responseDto);
@@ -234,28 +254,128 @@ class ProductImageServiceTest {
         }
 
         @Test
-        @DisplayName("🔄 Deve gerar nome único com UUID")
-        void saveImage_ShouldGenerateUniqueFilename() throws IOException {
+        @DisplayName("🔄 Deve guardar o arquivo pelo hash do conteúdo, em subdiretórios")
+        void saveImage_ShouldStoreUnderContentAddress() throws Exception {
             // Arrange
             when(productService.getProduct(1L)).thenReturn(product);
-            when(productImageMapper.toEntity(eq(validJpegFile), eq(product), anyString()))
+            when(productImageMapper.toEntity(eq(validJpegFile), eq(product), any(StoredImage.class)))
                     .thenReturn(productImage);
-            when(productImageRepository.save(productImage)).thenReturn(productImage);
-            when(productImageMapper.toResponseDto(productImage)).thenReturn(responseDto);
+            String hash = HexFormat.of().formatHex(
+                    MessageDigest.getInstance("SHA-256").digest(validJpegFile.getBytes()));
+
+            // Act
+            productImageService.saveImage(1L, validJpegFile);
+
+            // Assert
+            Path expected = tempDir.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash + ".jpg");
+            verify(productImageMapper).toEntity(eq(validJpegFile), eq(product),
+                    argThat(stored -> stored.filePath().equals(expected.toString())));
+            assertTrue(Files.exists(expected));
+        }
+
+        @Test
+        @DisplayName("♻️ Deve reaproveitar o arquivo quando o mesmo conteúdo é enviado de novo")
+        void saveImage_WithSameContentTwice_ShouldStoreOneFile() throws IOException {
+            // Arrange
+            MockMultipartFile sameBytesOtherName = new MockMultipartFile("file", "other-name.jpg", "image/jpeg",
+                    validJpegFile.getBytes());
+            when(productService.getProduct(1L)).thenReturn(product);
+            when(productImageMapper.toEntity(any(), eq(product), any(StoredImage.class))).thenReturn(productImage);
+
+            // Act
+            productImageService.saveImage(1L, validJpegFile);
+            productImageService.saveImage(1L, sameBytesOtherName);
+
+            // Assert
+            try (var files = Files.walk(tempDir)) {
+                assertEquals(1, files.filter(Files::isRegularFile).count());
+            }
+            verify(productImageRepository, times(2)).save(productImage);
+        }
+
+        @Test
+        @DisplayName("🔍 Deve detectar o tipo pelos bytes e ignorar o Content-Type enviado")
+        void saveImage_ShouldSniffTypeFromContent() throws IOException {
+            // Arrange: cabeçalho diz JPEG, conteúdo é PNG
+            MockMultipartFile mislabeled = new MockMultipartFile("file", "photo.jpg", "image/jpeg",
+                    withSignature(PNG_SIGNATURE, "png body"));
+            when(productService.getProduct(1L)).thenReturn(product);
+            when(productImageMapper.toEntity(eq(mislabeled), eq(product), any(StoredImage.class)))
+                    .thenReturn(productImage);
+
+            // Act
+            productImageService.saveImage(1L, mislabeled);
+
+            // Assert
+            verify(productImageMapper).toEntity(eq(mislabeled), eq(product),
+                    argThat(stored -> stored.contentType().equals("image/png")));
+        }
+
+        @Test
+        @DisplayName("❌ Deve rejeitar conteúdo que não é imagem mesmo com Content-Type de imagem")
+        void saveImage_WithImageHeaderButOtherContent_ShouldThrowException() throws IOException {
+            // Arrange
+            MockMultipartFile disguised = new MockMultipartFile("file", "script.png", "image/png",
+                    "<?php echo 'hi'; ?>".getBytes());
+
+            // Act & Assert
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> productImageService.saveImage(1L, disguised));
+
+            assertEquals("Only JPEG or PNG images are allowed", exception.getMessage());
+            verify(productService, never()).getProduct(any());
+            try (var files = Files.list(tempDir)) {
+                assertEquals(0, files.count());
+            }
+        }
+
+        @Test
+        @DisplayName("#️⃣ Deve gravar o conteúdo em disco e registrar o SHA-256 calculado no upload")
+        void saveImage_ShouldWriteContentAndRecordHash() throws Exception {
+            // Arrange
+            when(productService.getProduct(1L)).thenReturn(product);
+            when(productImageMapper.toEntity(eq(validJpegFile), eq(product), any(StoredImage.class)))
+                    .thenReturn(productImage);
+            String expectedHash = HexFormat.of().formatHex(
+                    MessageDigest.getInstance("SHA-256").digest(validJpegFile.getBytes()));
 
             // Act
             productImageService.saveImage(1L, validJpegFile);
 
             // Assert
-            verify(productImageMapper).toEntity(
-                    eq(validJpegFile),
-                    eq(product),
-                    argThat(path -> {
-                        // Verifica se o path contém UUID + nome original
-                        String fileName = Paths.get(path).getFileName().toString();
-                        return fileName.contains("_test-image.jpg") &&
-                                fileName.length() > "test-image.jpg".length() + 36; // UUID tem 36 chars
-                    }));
+            verify(productImageMapper).toEntity(eq(validJpegFile), eq(product), argThat(stored -> {
+                try {
+                    return stored.contentHash().equals(expectedHash)
+                            && stored.contentType().equals("image/jpeg")
+                            && Arrays.equals(Files.readAllBytes(Paths.get(stored.filePath())),
+                                    validJpegFile.getBytes());
+                } catch (IOException e) {
+                    return false;
+                }
+            }));
+            try (var files = Files.list(tempDir)) {
+                assertTrue(files.noneMatch(file -> file.getFileName().toString().endsWith(".tmp")));
+            }
+        }
+
+        @Test
+        @DisplayName("🛡️ Não deve usar o nome enviado pelo cliente no disco")
+        void saveImage_WithPathInOriginalName_ShouldKeepFileInUploadDir() throws IOException {
+            // Arrange
+            MockMultipartFile traversal = new MockMultipartFile("file", "../../etc/evil.jpg", "image/jpeg",
+                    withSignature(JPEG_SIGNATURE, "x"));
+            when(productService.getProduct(1L)).thenReturn(product);
+            when(productImageMapper.toEntity(eq(traversal), eq(product), any(StoredImage.class)))
+                    .thenReturn(productImage);
+
+            // Act
+            productImageService.saveImage(1L, traversal);
+
+            // Assert
+            verify(productImageMapper).toEntity(eq(traversal), eq(product), argThat(stored -> {
+                Path saved = Paths.get(stored.filePath());
+                return saved.startsWith(tempDir) && !saved.getFileName().toString().contains("evil");
+            }));
         }
     }
 
@@ -321,4 +441,11 @@ class ProductImageServiceTest {
             verify(productService, never()).getProduct(any());
         }
     }
-}
\ No newline at end of file
+
+    private static byte[] withSignature(byte[] signature, String body) {
+        byte[] bodyBytes = body.getBytes();
+        byte[] content = Arrays.copyOf(signature, signature.length + bodyBytes.length);
+        System.arraycopy(bodyBytes, 0, content, signature.length, bodyBytes.length);
+        return content;
+    }
+}
@@ -0,0 +1,89 @@
+package com.ecommerce.backend.Service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.ecommerce.backend.dto.requestDto.ProductRequestDto;
+import com.ecommerce.backend.model.enums.DataFormat;
+import com.ecommerce.backend.service.bulk.ProductImportRow;
+import com.ecommerce.backend.service.bulk.ProductRowReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class ProductRowReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Should map CSV columns by header name and unquote fields")
+    void csv_ShouldParseQuotedFieldsInAnyColumnOrder() throws IOException {
+        List<ProductImportRow> rows = read(DataFormat.CSV,
+                "stockQuantity,price,name,description\r\n"
+                        + "3,9.99,\"Mug, large\",\"Says \"\"hello\"\"\non two lines\"\r\n"
+                        + "\r\n"
+                        + "1,2,Plate,Round\n");
+
+        assertEquals(2, rows.size());
+        assertEquals(new ProductRequestDto("Mug, large", "Says \"hello\"\non two lines", new BigDecimal("9.99"), 3),
+                rows.get(0).product());
+        assertEquals(2, rows.get(1).rowNumber());
+        assertEquals("Plate", rows.get(1).product().name());
+    }
+
+    @Test
+    @DisplayName("Should reject CSV rows with a wrong column count or bad numbers")
+    void csv_WithBadRows_ShouldReportErrors() throws IOException {
+        List<ProductImportRow> rows = read(DataFormat.CSV,
+                "name,description,price,stockQuantity\n"
+                        + "Cup,Small,1.00\n"
+                        + "Cup,Small,1.00,many\n"
+                        + "Cup,Small,,1\n");
+
+        assertEquals("Expected 4 columns but found 3", rows.get(0).error());
+        assertEquals("Invalid stock quantity 'many'", rows.get(1).error());
+        assertNull(rows.get(2).error());
+        assertNull(rows.get(2).product().price());
+    }
+
+    @Test
+    @DisplayName("Should refuse a CSV header without the product columns")
+    void csv_WithoutHeaderColumns_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> read(DataFormat.CSV, "name,price\nCup,1\n"));
+    }
+
+    @Test
+    @DisplayName("Should parse one NDJSON object per line and skip blank lines")
+    void ndjson_ShouldParseEachLine() throws IOException {
+        List<ProductImportRow> rows = read(DataFormat.NDJSON,
+                "{\"name\":\"Cup\",\"description\":\"Small\",\"price\":1.10,\"stockQuantity\":4}\n"
+                        + "\n"
+                        + "{\"name\":\"Cup\",\"description\":\"Small\",\"price\":1.10}\n"
+                        + "[1,2]\n"
+                        + "{broken\n");
+
+        assertEquals(4, rows.size());
+        assertEquals(new ProductRequestDto("Cup", "Small", new BigDecimal("1.10"), 4), rows.get(0).product());
+        assertEquals("Invalid stock quantity ''", rows.get(1).error());
+        assertEquals("Expected a JSON object", rows.get(2).error());
+        assertTrue(rows.get(3).error().startsWith("Malformed JSON"));
+        assertEquals(4, rows.get(3).rowNumber());
+    }
+
+    private List<ProductImportRow> read(DataFormat format, String content) throws IOException {
+        List<ProductImportRow> rows = new ArrayList<>();
+        try (ProductRowReader reader = ProductRowReader.open(format, new StringReader(content), objectMapper)) {
+            ProductImportRow row;
+            while ((row = reader.next()) != null) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,162 @@
+package com.ecommerce.backend.Service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import com.ecommerce.backend.model.Product;
+import com.ecommerce.backend.service.search.ProductSearchIndex;
+
+class ProductSearchIndexTest {
+
+    private ProductSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductSearchIndex();
+        index.rebuild(List.of(
+                product(1L, "Smartphone Galaxy", "Telefone com câmera dupla", "2000.00"),
+                product(2L, "Capa para smartphone", "Proteção em silicone", "50.00"),
+                product(3L, "Câmera Digital", "Câmera compacta 20MP", "1500.00"),
+                product(4L, "Fone Bluetooth", "Compatível com qualquer smartphone", "300.00")));
+    }
+
+    @Test
+    @DisplayName("Should return only the requested page of results, with the total match count")
+    void search_WithOffset_ShouldReturnThatPage() {
+        ProductSearchIndex.Hits byName = index.search("", null, Sort.by("name"), 1, 2);
+        ProductSearchIndex.Hits ranked = index.search("smartphone", null, Sort.unsorted(), 2, 5);
+
+        assertEquals(List.of(2L, 4L), byName.ids());
+        assertEquals(4, byName.total());
+        assertEquals(List.of(4L), ranked.ids());
+        assertEquals(3, ranked.total());
+        assertTrue(index.search("", null, Sort.by("name"), 10, 2).ids().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should page price-ordered results straight from the price map, ties by id")
+    void search_ByPrice_ShouldWalkThePriceMap() {
+        index.index(product(5L, "Película", "Vidro temperado", "50.00"));
+
+        ProductSearchIndex.Hits ascending = index.search(null, new BigDecimal("1500"), Sort.by("price"), 1, 3);
+        ProductSearchIndex.Hits descending = index.search(null, null, Sort.by(Sort.Direction.DESC, "price"), 3, 5);
+
+        assertEquals(List.of(5L, 4L, 3L), ascending.ids());
+        assertEquals(4, ascending.total());
+        assertEquals(List.of(2L, 5L), descending.ids());
+        assertEquals(5, descending.total());
+    }
+
+    @Test
+    @DisplayName("Should not serve before the first build")
+    void canServe_BeforeBuild_ShouldBeFalse() {
+        assertFalse(new ProductSearchIndex().canServe(Sort.by("name")));
+        assertTrue(index.canServe(Sort.by("name")));
+    }
+
+    @Test
+    @DisplayName("Should rank products whose name matches above description-only matches")
+    void search_ShouldRankNameMatchesFirst() {
+        List<Long> result = search("smartphone", null, Sort.unsorted());
+
+        assertEquals(3, result.size());
+        assertEquals(4L, result.get(2));
+    }
+
+    @Test
+    @DisplayName("Should match query terms as prefixes, ignoring case and accents")
+    void search_ShouldMatchPrefixesWithoutAccents() {
+        assertEquals(List.of(3L, 1L), search("CAMER", null, Sort.unsorted()));
+        assertEquals(List.of(4L), search("blue", null, Sort.unsorted()));
+    }
+
+    @Test
+    @DisplayName("Should require every query term to match")
+    void search_ShouldIntersectTerms() {
+        assertEquals(List.of(2L), search("capa smart", null, Sort.unsorted()));
+        assertTrue(search("capa bluetooth", null, Sort.unsorted()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should apply the price ceiling to ranked and browsed results")
+    void search_ShouldFilterByMaxPrice() {
+        assertEquals(List.of(2L, 4L), search("smartphone", new BigDecimal("300"), Sort.unsorted()));
+        assertEquals(List.of(3L, 4L, 2L),
+                search(null, new BigDecimal("1500"), Sort.by(Sort.Direction.DESC, "price")));
+    }
+
+    @Test
+    @DisplayName("Should browse by name when there is no query text")
+    void search_WithoutText_ShouldSortByName() {
+        assertEquals(List.of(3L, 2L, 4L, 1L), search("", null, Sort.by("name")));
+        assertEquals(List.of(3L, 2L, 4L, 1L), search("", null, Sort.unsorted()));
+        assertFalse(index.canServe(Sort.by("stockQuantity")));
+    }
+
+    @Test
+    @DisplayName("Should apply a requested sort to free-text matches instead of relevance")
+    void search_WithTextAndSort_ShouldHonourTheSort() {
+        assertEquals(List.of(2L, 4L, 1L), search("smartphone", null, Sort.by("price")));
+        assertEquals(List.of(2L, 4L, 1L), search("smartphone", null, Sort.by("name")));
+        assertFalse(index.canServe(Sort.by("stockQuantity")));
+    }
+
+    @Test
+    @DisplayName("Changes indexed while a build loads pages win over the older rows of the build")
+    void rebuild_ShouldKeepChangesMadeWhileBuilding() {
+        index.beginRebuild();
+        assertFalse(index.canServe(Sort.unsorted()));
+        index.addAll(List.of(product(1L, "Smartphone Galaxy", "Telefone com câmera dupla", "2000.00")));
+
+        index.index(product(3L, "Câmera Instantânea", "Imprime na hora", "900.00"));
+        index.remove(4L);
+        // Pages read before those changes committed
+        index.addAll(List.of(
+                product(3L, "Câmera Digital", "Câmera compacta 20MP", "1500.00"),
+                product(4L, "Fone Bluetooth", "Compatível com qualquer smartphone", "300.00")));
+        index.finishRebuild();
+
+        assertTrue(index.canServe(Sort.unsorted()));
+        assertEquals(List.of(3L), search("instantanea", null, Sort.unsorted()));
+        assertTrue(search("digital", null, Sort.unsorted()).isEmpty());
+        assertTrue(search("bluetooth", null, Sort.unsorted()).isEmpty());
+        assertEquals(2, index.size());
+
+        // Once the build is over, a page is applied as is
+        index.addAll(List.of(product(4L, "Fone Bluetooth", "Sem fio", "300.00")));
+        assertEquals(List.of(4L), search("bluetooth", null, Sort.unsorted()));
+    }
+
+    @Test
+    @DisplayName("Should reflect updates and deletes")
+    void indexAndRemove_ShouldUpdateResults() {
+        index.index(product(4L, "Headset Bluetooth", "Sem fio", "300.00"));
+        index.remove(2L);
+
+        assertEquals(List.of(1L), search("smartphone", null, Sort.unsorted()));
+        assertEquals(List.of(4L), search("headset", null, Sort.unsorted()));
+        assertEquals(3, index.size());
+    }
+
+    private Product product(Long id, String name, String description, String price) {
+        Product product = Product.builder()
+                .name(name)
+                .description(description)
+                .price(new BigDecimal(price))
+                .stockQuantity(1)
+                .build();
+        product.setId(id);
+        return product;
+    }
+
+    private List<Long> search(String text, BigDecimal maxPrice, Sort sort) {
+        return index.search(text, maxPrice, sort, 0, 100).ids();
+    }
+}
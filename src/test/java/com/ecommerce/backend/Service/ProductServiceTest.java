@@ -9,26 +9,39 @@ import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 import com.ecommerce.backend.dto.ResponseDto.ProductResponseDto;
 import com.ecommerce.backend.dto.ResponseDto.ProductResponseListDto;
 import com.ecommerce.backend.dto.requestDto.ProductRequestDto;
 import com.ecommerce.backend.mapper.ProductMapper;
 import com.ecommerce.backend.model.Product;
+import com.ecommerce.backend.repository.ProductCursor;
 import com.ecommerce.backend.repository.ProductRepository;
 import com.ecommerce.backend.service.ProductService;
+import com.ecommerce.backend.service.cache.ProductCatalogCache;
+import com.ecommerce.backend.service.events.ProductChangedEvent;
+import com.ecommerce.backend.service.search.ProductSearchIndex;
 import com.ecommerce.backend.shared.exception.BusinessException;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 @ExtendWith(MockitoExtension.class)
 class ProductServiceTest {
@@ -39,6 +52,16 @@ class ProductServiceTest {
     @Mock
     private ProductMapper productMapper;
 
+    @Mock
+    private ProductSearchIndex searchIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private ProductCatalogCache catalogCache = new ProductCatalogCache(100, Duration.ofMinutes(5),
+            new SimpleMeterRegistry());
+
     @InjectMocks
     private ProductService productService;
 
@@ -79,7 +102,7 @@ class ProductServiceTest {
         when(productRepository.findAll(pageable)).thenReturn(pagedProducts);
         when(productMapper.toResponseListDto(pagedProducts))
                 .thenReturn(new ProductResponseListDto(List.of(responseDto), pagedProducts.getSize(),
-                        pagedProducts.getTotalElements(), pagedProducts.getTotalPages(), pagedProducts.getNumber()));
+                        pagedProducts.getTotalElements(), pagedProducts.getTotalPages(), pagedProducts.getNumber(), null));
 
         // Act
         ProductResponseListDto result = productService.getAllProducts(pageable);
@@ -91,6 +114,106 @@ class ProductServiceTest {
         verify(productMapper).toResponseListDto(pagedProducts);
     }
 
+    @Test
+    void getProductsAfter_WithMoreRows_ShouldTrimAndReturnNextCursor() {
+        // Arrange
+        Pageable firstPage = PageRequest.of(0, 1, Sort.by("name"));
+        Product next = Product.builder().name("Zeta").price(BigDecimal.TEN).build();
+        product.setId(1L);
+        next.setId(2L);
+        when(productRepository.findPageAfter(null, null, Sort.Order.asc("name"), null, 2))
+                .thenReturn(new ArrayList<>(List.of(product, next)));
+        when(productMapper.toCursorListDto(eq(List.of(product)), eq(1), anyString()))
+                .thenAnswer(invocation -> new ProductResponseListDto(List.of(responseDto), 1, null, null, null,
+                        invocation.getArgument(2)));
+
+        // Act
+        ProductResponseListDto result = productService.getProductsAfter(null, null, firstPage, "");
+
+        // Assert
+        ProductCursor cursor = ProductCursor.decode(result.nextCursor());
+        assertEquals("name", cursor.sortProperty());
+        assertEquals("Product Test", cursor.lastValue());
+        assertEquals(1L, cursor.lastId());
+        assertNull(result.totalItems());
+        verify(productRepository, never()).findAll(any(Pageable.class));
+    }
+
+    @Test
+    void getProductsAfter_OnLastPage_ShouldReturnNoCursor() {
+        // Arrange
+        Pageable pricePage = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "price"));
+        ProductCursor after = new ProductCursor("price", "150.00", 7L);
+        when(productRepository.findPageAfter("Test", new BigDecimal("200.0"), Sort.Order.desc("price"), after, 11))
+                .thenReturn(List.of(product));
+        when(productMapper.toCursorListDto(List.of(product), 10, null))
+                .thenReturn(new ProductResponseListDto(List.of(responseDto), 10, null, null, null, null));
+
+        // Act
+        ProductResponseListDto result = productService.getProductsAfter("Test", 200.0, pricePage, after.encode());
+
+        // Assert
+        assertNull(result.nextCursor());
+    }
+
+    @Test
+    void getProductsAfter_WithUnsupportedSort_ShouldThrowBadRequest() {
+        Pageable byStock = PageRequest.of(0, 10, Sort.by("stockQuantity"));
+
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> productService.getProductsAfter(null, null, byStock, ""));
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getHttpStatus());
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    void getProductsAfter_WithInvalidCursor_ShouldThrowBadRequest() {
+        Pageable byName = PageRequest.of(0, 10, Sort.by("name"));
+
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> productService.getProductsAfter(null, null, byName, "not-a-cursor"));
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getHttpStatus());
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    void getProductsAfter_WithCursorFromAnotherSort_ShouldThrowBadRequest() {
+        Pageable byName = PageRequest.of(0, 10, Sort.by("name"));
+        String priceCursor = new ProductCursor("price", "10", 1L).encode();
+
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> productService.getProductsAfter(null, null, byName, priceCursor));
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getHttpStatus());
+    }
+
+    @Test
+    void searchProducts_WithReadyIndex_ShouldReturnProductsInRankOrder() {
+        // Arrange
+        Pageable firstTwo = PageRequest.of(0, 2, Sort.by("name"));
+        Product second = Product.builder().name("Second").price(BigDecimal.TEN).build();
+        product.setId(1L);
+        second.setId(2L);
+        when(searchIndex.canServe(firstTwo.getSort())).thenReturn(true);
+        when(searchIndex.search("phone", new BigDecimal("200.0"), firstTwo.getSort(), 0, 2))
+                .thenReturn(new ProductSearchIndex.Hits(List.of(2L, 1L), 3));
+        when(productRepository.findAllById(List.of(2L, 1L))).thenReturn(List.of(product, second));
+        when(productMapper.toResponseListDto(any())).thenReturn(
+                new ProductResponseListDto(List.of(responseDto), 2, 3L, 2, 0, null));
+
+        // Act
+        productService.searchProducts("phone", 200.0, firstTwo);
+
+        // Assert
+        ArgumentCaptor<Page<Product>> page = ArgumentCaptor.forClass(Page.class);
+        verify(productMapper).toResponseListDto(page.capture());
+        assertEquals(List.of(second, product), page.getValue().getContent());
+        assertEquals(3, page.getValue().getTotalElements());
+        verify(productRepository, never()).findByNameContainingIgnoreCaseAndPriceLessThanEqual(any(), any(), any());
+    }
+
     @Test
     void createProduct_WithUniqueName_ShouldCreateProduct() {
         // Arrange
@@ -108,6 +231,7 @@ class ProductServiceTest {
         assertEquals("Product Test", result.name());
         verify(productRepository).existsByName("Product Test");
         verify(productRepository).save(product);
+        verify(eventPublisher).publishEvent(any(ProductChangedEvent.class));
     }
 
     @Test
@@ -154,6 +278,85 @@ class ProductServiceTest {
         verify(productRepository).findById(999L);
     }
 
+    @Test
+    void findProductById_Twice_ShouldHitDatabaseOnce() {
+        // Arrange
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+        when(productMapper.toResponseDto(product)).thenReturn(responseDto);
+
+        // Act
+        productService.findProductById(1L);
+        ProductResponseDto cached = productService.findProductById(1L);
+
+        // Assert
+        assertEquals(responseDto, cached);
+        verify(productRepository, times(1)).findById(1L);
+        assertEquals(1, catalogCache.stats().hitCount());
+    }
+
+    @Test
+    void findProductById_AfterStockUpdate_ShouldReloadSnapshot() {
+        // Arrange
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+        when(productMapper.toResponseDto(product)).thenReturn(responseDto);
+        when(productRepository.decrementStockIfAvailable(1L, 5)).thenReturn(1);
+        productService.findProductById(1L);
+
+        // Act
+        productService.updateStockQuantity(1L, 5);
+        productService.findProductById(1L);
+
+        // Assert
+        verify(productRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void reserveStock_ShouldEvictReservedProducts() {
+        // Arrange
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+        when(productMapper.toResponseDto(product)).thenReturn(responseDto);
+        when(productRepository.decrementStockIfAvailable(Map.of(1L, 2))).thenReturn(List.of());
+        productService.findProductById(1L);
+
+        // Act
+        productService.reserveStock(Map.of(1L, 2));
+        productService.findProductById(1L);
+
+        // Assert
+        verify(productRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void getProduct_WithCachedProduct_ShouldReturnReferenceWithoutQuery() {
+        // Arrange
+        Product reference = Product.builder().build();
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+        when(productMapper.toResponseDto(product)).thenReturn(responseDto);
+        when(productRepository.getReferenceById(1L)).thenReturn(reference);
+        productService.findProductById(1L);
+
+        // Act
+        Product result = productService.getProduct(1L);
+
+        // Assert
+        assertSame(reference, result);
+        verify(productRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void getProduct_WithNonExistingId_ShouldThrowAndNotCache() {
+        // Arrange
+        when(productRepository.findById(999L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        BusinessException exception = assertThrows(BusinessException.class, () -> productService.getProduct(999L));
+        assertThrows(BusinessException.class, () -> productService.getProduct(999L));
+
+        assertEquals(HttpStatus.NOT_FOUND, exception.getHttpStatus());
+        verify(productRepository, times(2)).findById(999L);
+        verify(productRepository, never()).getReferenceById(any());
+    }
+
     @Test
     void searchProducts_WithNameAndMaxPrice_ShouldReturnFilteredProducts() {
         // Arrange
@@ -161,11 +364,13 @@ class ProductServiceTest {
         Double maxPrice = 200.0;
         Page<Product> pagedProducts = new PageImpl<>(List.of(product));
 
+        // Unsorted searches fall back to the database ordered by name
+        Pageable byName = PageRequest.of(0, 10, Sort.by("name"));
         when(productRepository.findByNameContainingIgnoreCaseAndPriceLessThanEqual(
-                name, maxPrice, pageable)).thenReturn(pagedProducts);
+                name, maxPrice, byName)).thenReturn(pagedProducts);
         when(productMapper.toResponseListDto(pagedProducts))
                 .thenReturn(new ProductResponseListDto(List.of(responseDto), pagedProducts.getSize(),
-                        pagedProducts.getTotalElements(), pagedProducts.getTotalPages(), pagedProducts.getNumber()));
+                        pagedProducts.getTotalElements(), pagedProducts.getTotalPages(), pagedProducts.getNumber(), null));
 
         // Act
         ProductResponseListDto result = productService.searchProducts(name, maxPrice, pageable);
@@ -173,7 +378,7 @@ class ProductServiceTest {
         // Assert
         assertNotNull(result);
         verify(productRepository).findByNameContainingIgnoreCaseAndPriceLessThanEqual(
-                name, maxPrice, pageable);
+                name, maxPrice, byName);
     }
 
     @Test
@@ -181,11 +386,12 @@ class ProductServiceTest {
         // Arrange
         Page<Product> pagedProducts = new PageImpl<>(List.of(product));
 
+        Pageable byName = PageRequest.of(0, 10, Sort.by("name"));
         when(productRepository.findByNameContainingIgnoreCaseAndPriceLessThanEqual(
-                "", Double.MAX_VALUE, pageable)).thenReturn(pagedProducts);
+                "", Double.MAX_VALUE, byName)).thenReturn(pagedProducts);
         when(productMapper.toResponseListDto(pagedProducts))
                 .thenReturn(new ProductResponseListDto(List.of(responseDto), pagedProducts.getSize(),
-                        pagedProducts.getTotalElements(), pagedProducts.getTotalPages(), pagedProducts.getNumber()));
+                        pagedProducts.getTotalElements(), pagedProducts.getTotalPages(), pagedProducts.getNumber(), null));
 
         // Act
         ProductResponseListDto result = productService.searchProducts(null, null, pageable);
@@ -193,7 +399,7 @@ class ProductServiceTest {
         // Assert
         assertNotNull(result);
         verify(productRepository).findByNameContainingIgnoreCaseAndPriceLessThanEqual(
-                "", Double.MAX_VALUE, pageable);
+                "", Double.MAX_VALUE, byName);
     }
 
     @Test
@@ -214,7 +420,7 @@ class ProductServiceTest {
                 30);
 
         when(productRepository.findById(1L)).thenReturn(Optional.of(product));
-        doNothing().when(productMapper).updateEntity(product, updateDto);
+        when(productMapper.updateEntity(product, updateDto)).thenReturn(product);
         when(productRepository.save(product)).thenReturn(product);
         when(productMapper.toResponseDto(product)).thenReturn(updatedResponse);
 
@@ -256,6 +462,10 @@ class ProductServiceTest {
         // Assert
         verify(productRepository).findById(1L);
         verify(productRepository).delete(product);
+        ArgumentCaptor<ProductChangedEvent> event = ArgumentCaptor.forClass(ProductChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertTrue(event.getValue().isDeleted());
+        assertEquals(1L, event.getValue().getProductId());
     }
 
     @Test
@@ -271,37 +481,63 @@ class ProductServiceTest {
         assertEquals(HttpStatus.NOT_FOUND, exception.getHttpStatus());
         verify(productRepository).findById(999L);
         verify(productRepository, never()).delete(any());
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
-    void updateStockQuantity_ShouldDecreaseStock() {
+    void updateStockQuantity_ShouldDecreaseStockAtomically() {
         // Arrange
-        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
-        when(productRepository.save(product)).thenReturn(product);
-
-        int initialStock = product.getStockQuantity();
-        int takenQuantity = 10;
+        when(productRepository.decrementStockIfAvailable(1L, 10)).thenReturn(1);
 
         // Act
-        productService.updateStockQuantity(1L, takenQuantity);
+        productService.updateStockQuantity(1L, 10);
 
         // Assert
-        assertEquals(initialStock - takenQuantity, product.getStockQuantity());
-        verify(productRepository).findById(1L);
-        verify(productRepository).save(product);
+        verify(productRepository).decrementStockIfAvailable(1L, 10);
+        verify(productRepository, never()).findById(any());
+        verify(productRepository, never()).save(any());
+    }
+
+    @Test
+    void updateStockQuantity_WithInsufficientStock_ShouldThrowConflict() {
+        // Arrange
+        when(productRepository.decrementStockIfAvailable(1L, 500)).thenReturn(0);
+        when(productRepository.existsById(1L)).thenReturn(true);
+
+        // Act & Assert
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> productService.updateStockQuantity(1L, 500));
+
+        assertEquals(HttpStatus.CONFLICT, exception.getHttpStatus());
+        verify(productRepository, never()).save(any());
     }
 
     @Test
     void updateStockQuantity_WithNonExistingProduct_ShouldThrowBusinessException() {
         // Arrange
-        when(productRepository.findById(999L)).thenReturn(Optional.empty());
+        when(productRepository.decrementStockIfAvailable(999L, 10)).thenReturn(0);
+        when(productRepository.existsById(999L)).thenReturn(false);
 
         // Act & Assert
         BusinessException exception = assertThrows(BusinessException.class,
                 () -> productService.updateStockQuantity(999L, 10));
 
         assertEquals("No  product found with the id 999", exception.getMessage());
-        verify(productRepository).findById(999L);
+        assertEquals(HttpStatus.NOT_FOUND, exception.getHttpStatus());
         verify(productRepository, never()).save(any());
     }
-}
\ No newline at end of file
+
+    @Test
+    void reserveStock_ShouldReturnRejectedProductIds() {
+        // Arrange
+        Map<Long, Integer> quantities = Map.of(1L, 2, 2L, 100);
+        when(productRepository.decrementStockIfAvailable(quantities)).thenReturn(List.of(2L));
+
+        // Act
+        List<Long> rejected = productService.reserveStock(quantities);
+
+        // Assert
+        assertEquals(List.of(2L), rejected);
+        verify(productRepository).decrementStockIfAvailable(quantities);
+    }
+}
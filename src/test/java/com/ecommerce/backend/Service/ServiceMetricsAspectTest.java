@@ -0,0 +1,71 @@
+package com.ecommerce.backend.Service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import com.ecommerce.backend.model.Cart;
+import com.ecommerce.backend.model.User;
+import com.ecommerce.backend.repository.CartRepository;
+import com.ecommerce.backend.service.CartService;
+import com.ecommerce.backend.shared.metrics.ServiceMetricsAspect;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class ServiceMetricsAspectTest {
+
+    @Mock
+    private CartRepository cartRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CartService cartService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        AspectJProxyFactory factory = new AspectJProxyFactory(new CartService(cartRepository));
+        factory.addAspect(new ServiceMetricsAspect(meterRegistry));
+        cartService = factory.getProxy();
+    }
+
+    @Test
+    @DisplayName("Should time successful calls per class and method")
+    void time_OnSuccess_ShouldRecordSuccessTimer() {
+        when(cartRepository.findByUser(any())).thenReturn(Optional.of(new Cart()));
+
+        cartService.findOrCreateCart(new User());
+        cartService.findOrCreateCart(new User());
+
+        assertEquals(2, meterRegistry.get(ServiceMetricsAspect.TIMER)
+                .tags("class", "CartService", "method", "findOrCreateCart", "outcome", "SUCCESS", "exception", "none")
+                .timer().count());
+        assertTrue(meterRegistry.find(ServiceMetricsAspect.ERRORS).counters().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should count and time failures by exception and rethrow them")
+    void time_OnError_ShouldRecordErrorCounter() {
+        when(cartRepository.findByUser(any())).thenThrow(new IllegalStateException("down"));
+
+        assertThrows(IllegalStateException.class, () -> cartService.findOrCreateCart(new User()));
+
+        assertEquals(1, meterRegistry.get(ServiceMetricsAspect.ERRORS)
+                .tags("class", "CartService", "method", "findOrCreateCart", "exception", "IllegalStateException")
+                .counter().count());
+        assertEquals(1, meterRegistry.get(ServiceMetricsAspect.TIMER)
+                .tags("outcome", "ERROR", "exception", "IllegalStateException")
+                .timer().count());
+        assertNull(meterRegistry.find(ServiceMetricsAspect.TIMER).tag("outcome", "SUCCESS").timer());
+    }
+}
@@ -0,0 +1,103 @@
+package com.ecommerce.backend.Service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+
+import com.ecommerce.backend.shared.metrics.StatementBudgetExceededException;
+import com.ecommerce.backend.shared.metrics.StatementCounter;
+import com.ecommerce.backend.shared.metrics.StatementCountingDataSource;
+
+class StatementCounterTest {
+
+    @Test
+    @DisplayName("Should count statements only between start and stop")
+    void count_ShouldCountWhileStarted() {
+        StatementCounter counter = new StatementCounter(true);
+
+        counter.count("select 1");
+        assertEquals(0, counter.current());
+        counter.start();
+        counter.count("select 1");
+        counter.count("select 2");
+
+        assertEquals(2, counter.current());
+        assertEquals(2, counter.stop());
+        assertEquals(0, counter.current());
+    }
+
+    @Test
+    @DisplayName("Should fail the first statement over the budget when failing is enabled")
+    void count_OverBudget_ShouldThrowOnce() {
+        StatementCounter counter = new StatementCounter(true);
+        counter.start();
+        counter.budget("GET /order", 1);
+
+        counter.count("select 1");
+        StatementBudgetExceededException exception = assertThrows(StatementBudgetExceededException.class,
+                () -> counter.count("select 2"));
+        counter.count("rollback bookkeeping");
+
+        assertEquals("GET /order", exception.getEndpoint());
+        assertEquals(1, exception.getBudget());
+        assertTrue(exception.getMessage().endsWith("select 2"));
+        assertEquals(3, counter.stop());
+    }
+
+    @Test
+    @DisplayName("Should only count when failing is disabled")
+    void count_OverBudget_WithoutFailing_ShouldNotThrow() {
+        StatementCounter counter = new StatementCounter(false);
+        counter.start();
+        counter.budget("GET /order", 0);
+
+        assertDoesNotThrow(() -> counter.count("select 1"));
+        assertEquals(1, counter.stop());
+    }
+
+    @Test
+    @DisplayName("Should count every statement created on a wrapped connection, and nothing else")
+    void countingDataSource_ShouldCountCreatedStatements() throws SQLException {
+        Connection target = mock(Connection.class);
+        DataSource pool = mock(DataSource.class);
+        when(pool.getConnection()).thenReturn(target);
+        StatementCounter counter = new StatementCounter(true);
+        counter.start();
+
+        Connection connection = new StatementCountingDataSource(pool, counter).getConnection();
+        connection.prepareStatement("update products set stock_quantity = ?");
+        connection.createStatement();
+        connection.prepareCall("call refresh()");
+        connection.commit();
+
+        assertEquals(3, counter.stop());
+        assertSame(target, DataSourceUtils.getTargetConnection(connection));
+        verify(target).prepareStatement("update products set stock_quantity = ?");
+        verify(target).commit();
+    }
+
+    @Test
+    @DisplayName("Should not create the statement that goes over the budget")
+    void countingDataSource_OverBudget_ShouldNotPrepare() throws SQLException {
+        Connection target = mock(Connection.class);
+        DataSource pool = mock(DataSource.class);
+        when(pool.getConnection()).thenReturn(target);
+        StatementCounter counter = new StatementCounter(true);
+        counter.start();
+        counter.budget("POST /order", 0);
+
+        Connection connection = new StatementCountingDataSource(pool, counter).getConnection();
+
+        assertThrows(StatementBudgetExceededException.class, () -> connection.prepareStatement("select 1"));
+        verify(target, never()).prepareStatement(anyString());
+        counter.stop();
+    }
+}
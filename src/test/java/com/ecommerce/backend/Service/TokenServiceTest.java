@@ -0,0 +1,72 @@
+package com.ecommerce.backend.Service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.ecommerce.backend.model.User;
+import com.ecommerce.backend.model.enums.UserRole;
+import com.ecommerce.backend.security.TokenService;
+
+class TokenServiceTest {
+
+    private static final String SECRET = "test-secret";
+
+    private TokenService tokenService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        tokenService = new TokenService(SECRET, 100);
+        user = User.builder()
+                .email("user@example.com")
+                .password("secret")
+                .role(UserRole.CUSTOMER)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should return the subject of a valid token, also on repeated (cached) validations")
+    void validateToken_WithValidToken() {
+        String token = tokenService.generateToken(user);
+
+        assertEquals("user@example.com", tokenService.validateToken(token));
+        assertEquals("user@example.com", tokenService.validateToken(token));
+    }
+
+    @Test
+    @DisplayName("Should return empty string for a token signed with another secret")
+    void validateToken_WithForeignSignature() {
+        String token = JWT.create()
+                .withIssuer("ecomerce-api")
+                .withSubject("user@example.com")
+                .withExpiresAt(Instant.now().plusSeconds(60))
+                .sign(Algorithm.HMAC256("other-secret"));
+
+        assertEquals("", tokenService.validateToken(token));
+    }
+
+    @Test
+    @DisplayName("Should return empty string for an expired token")
+    void validateToken_WithExpiredToken() {
+        String token = JWT.create()
+                .withIssuer("ecomerce-api")
+                .withSubject("user@example.com")
+                .withExpiresAt(Instant.now().minusSeconds(60))
+                .sign(Algorithm.HMAC256(SECRET));
+
+        assertEquals("", tokenService.validateToken(token));
+    }
+
+    @Test
+    @DisplayName("Should return empty string for a malformed token")
+    void validateToken_WithMalformedToken() {
+        assertEquals("", tokenService.validateToken("not-a-jwt"));
+    }
+}
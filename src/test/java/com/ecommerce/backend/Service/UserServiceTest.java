@@ -26,6 +26,7 @@ import com.ecommerce.backend.mapper.UserMapper;
 import com.ecommerce.backend.model.User;
 import com.ecommerce.backend.model.enums.UserRole;
 import com.ecommerce.backend.repository.UserRepository;
+import com.ecommerce.backend.security.PrincipalCache;
 import com.ecommerce.backend.security.SecurityService;
 import com.ecommerce.backend.service.UserService;
 import com.ecommerce.backend.shared.exception.BusinessException;
@@ -45,6 +46,9 @@ class UserServiceTest {
     @Mock
     private SecurityService securityService;
 
+    @Mock
+    private PrincipalCache principalCache;
+
     @InjectMocks
     private UserService userService;
 
@@ -155,6 +159,8 @@ class UserServiceTest {
             verify(userRepository).findByEmail("updated@example.com");
             verify(passwordEncoder).encode("newPassword123");
             verify(userRepository).save(user);
+            verify(principalCache).evict("user@example.com");
+            verify(principalCache).evict("updated@example.com");
         }
 
         @Test
@@ -196,6 +202,7 @@ class UserServiceTest {
             verify(userRepository).findById(1L);
             verify(userRepository).findByEmail("existing@example.com");
             verify(userRepository, never()).save(any());
+            verify(principalCache, never()).evict(anyString());
         }
 
         @Test
@@ -249,6 +256,7 @@ class UserServiceTest {
             verify(passwordEncoder).matches("currentPassword123", "encodedPassword123");
             verify(passwordEncoder).encode("newSecurePassword456");
             verify(userRepository).save(user);
+            verify(principalCache).evict("user@example.com");
         }
 
         @Test
@@ -406,6 +414,7 @@ class UserServiceTest {
             verify(userRepository).findById(1L);
             verify(userRepository).save(user);
             verify(userMapper).toResponseDto(user);
+            verify(principalCache).evict("user@example.com");
         }
 
         @Test
@@ -446,6 +455,7 @@ class UserServiceTest {
             assertEquals(HttpStatus.NOT_FOUND, exception.getHttpStatus());
             verify(userRepository).findById(999L);
             verify(userRepository, never()).save(any());
+            verify(principalCache, never()).evict(anyString());
         }
     }
 